@@ -16,6 +16,12 @@ plugins {
     id("org.danilopianini.gradle-java-qa") version "1.95.0"
 
     id("org.danilopianini.unibo-oop-gradle-plugin") version "1.1.11"
+
+    /*
+     * Adds the jmh source set (src/jmh/java) with the JMH benchmarks.
+     * In order to run them, launch the "jmh" task; the results will be found in build/reports/jmh/results.json
+     */
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 java { toolchain { languageVersion.set(JavaLanguageVersion.of(21)) } }
@@ -49,6 +55,16 @@ dependencies {
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$jUnitVersion")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    jvmArgs.add("-Djava.awt.headless=true")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
 application {
     // Define the main class for the application.
     mainClass.set("it.unibo.javajump.Main")
@@ -61,3 +77,30 @@ tasks.test {
         showStandardStreams = true
     }
 }
+
+// Plays the game without a window, using the autopilot, and logs the throughput of the model.
+// Optional arguments: ./gradlew runHeadless --args="<max ticks per run> <runs>"
+tasks.register<JavaExec>("runHeadless") {
+    group = "application"
+    description = "Runs the headless simulation with the autopilot"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.javajump.controller.simulation.HeadlessMain")
+    systemProperty("java.awt.headless", "true")
+}
+
+// Plays back a session recorded with ./gradlew run -Djavajump.record=<file> at maximum speed, without a window.
+// Arguments: ./gradlew runReplay --args="<file> <runs>", the number of runs is optional
+tasks.register<JavaExec>("runReplay") {
+    group = "application"
+    description = "Plays back a recorded session at maximum speed"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.javajump.controller.simulation.ReplayMain")
+    systemProperty("java.awt.headless", "true")
+}
+
+// Forwards the game system properties (e.g. -Djavajump.profile=true) from the Gradle command line to the game.
+tasks.withType<JavaExec>().configureEach {
+    System.getProperties().stringPropertyNames()
+        .filter { it.startsWith("javajump.") }
+        .forEach { systemProperty(it, System.getProperty(it)) }
+}
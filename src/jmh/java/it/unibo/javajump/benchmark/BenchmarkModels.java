@@ -0,0 +1,80 @@
+package it.unibo.javajump.benchmark;
+
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.GameModelImpl;
+import it.unibo.javajump.model.level.spawn.SpawnStrategy;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+import it.unibo.javajump.model.profiling.TickProfilerImpl;
+import it.unibo.javajump.model.random.RandomServiceImpl;
+import it.unibo.javajump.model.states.ingame.InGameState;
+
+import static it.unibo.javajump.utility.Constants.HARD_MAX;
+import static it.unibo.javajump.utility.Constants.HELL_MAX;
+import static it.unibo.javajump.utility.Constants.MEDIUM_MAX;
+import static it.unibo.javajump.utility.Constants.PROCEDURAL_PLATFORMS_NUMBER;
+import static it.unibo.javajump.utility.Constants.VERY_HARD_MAX;
+
+/**
+ * Utility class to build the game models measured by the benchmarks.
+ */
+public final class BenchmarkModels {
+
+    private static final String SCREEN_SEPARATOR = "x";
+    private static final int EASY_SCORE = 0;
+    private static final long SEED = 42;
+
+    /**
+     * Builds a running game model, filled with procedurally spawned objects, with its entity index synced and a
+     * render snapshot published. The level is generated from a fixed seed, so every run measures the same level.
+     * The batches queued by startGame are awaited and discarded by resetting the spawn manager, so that no worker
+     * uses the spawn strategy, the random service or the factory while the benchmarks use them on their own thread.
+     *
+     * @param screen      the screen size, formatted as widthxheight
+     * @param difficulty  the name of the difficulty used to spawn the objects
+     * @param objectCount the minimum number of objects in the model
+     * @return the game model
+     */
+    public static GameModel createModel(final String screen, final String difficulty, final int objectCount) {
+        final String[] size = screen.split(SCREEN_SEPARATOR);
+        final GameModel model = new GameModelImpl(Integer.parseInt(size[0]), Integer.parseInt(size[1]),
+                new TickProfilerImpl(false), new RandomServiceImpl(SEED));
+        model.startGame();
+        model.getSpawnManager().reset();
+        model.setState(new InGameState());
+        model.getDifficultyManager().updateDifficulty(scoreFor(DifficultyState.valueOf(difficulty)));
+        final SpawnStrategy strategy = model.getSpawnManager().getSpawnStrategy();
+        float topY = model.getEntityIndex().get(0).getY();
+        while (model.getGameObjects().size() < objectCount) {
+            strategy.spawnBatch(model, topY, PROCEDURAL_PLATFORMS_NUMBER);
+            topY = strategy.returnCurrentY();
+        }
+        model.getEntityIndex().sync(model.getGameObjects());
+        model.publishRenderSnapshot();
+        return model;
+    }
+
+    /**
+     * Returns a score that always reaches the given difficulty, whatever the random thresholds are.
+     *
+     * @param difficulty the difficulty
+     * @return the score
+     */
+    private static int scoreFor(final DifficultyState difficulty) {
+        return switch (difficulty) {
+            case EASY -> EASY_SCORE;
+            case MEDIUM -> MEDIUM_MAX;
+            case HARD -> HARD_MAX;
+            case VERY_HARD -> VERY_HARD_MAX;
+            case HELL -> HELL_MAX;
+        };
+    }
+
+    /**
+     * Private constructor for utility class.
+     *
+     * @throws AssertionError the error if instantiated
+     */
+    private BenchmarkModels() {
+        throw new AssertionError("This is a utility class, it should not be instantiated!");
+    }
+}
@@ -0,0 +1,80 @@
+package it.unibo.javajump.benchmark;
+
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
+import it.unibo.javajump.model.factories.GameObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static it.unibo.javajump.utility.Constants.CLEAN_UP_MARGIN_OFFSET;
+
+/**
+ * Measures the removal of the objects that left the screen. Before each invocation, the model is restored with a
+ * share of its platforms placed below the screen, so that every invocation removes the same number of objects.
+ * No batch is pending on the model, so the removed objects are recycled straight into the bounded pools of the
+ * factory, and nothing builds up between invocations.
+ */
+@State(Scope.Benchmark)
+public class CleanupBenchmark {
+
+    private static final int PERCENT = 100;
+
+    @Param({"100", "1000", "10000"})
+    private int objectCount;
+
+    @Param({"0", "10", "50"})
+    private int removedPercent;
+
+    @Param({"EASY", "HELL"})
+    private String difficulty;
+
+    @Param({"600x800", "1920x1080"})
+    private String screen;
+
+    private GameModel model;
+    private final List<GameObject> snapshot = new ArrayList<>();
+
+    /**
+     * Builds the model and the snapshot restored before each invocation.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        final int removed = objectCount * removedPercent / PERCENT;
+        model = BenchmarkModels.createModel(screen, difficulty, objectCount - removed);
+        final GameObjectFactory factory = model.getSpawnManager().getFactory();
+        final float belowScreen = model.getScreenHeight() + CLEAN_UP_MARGIN_OFFSET;
+        snapshot.clear();
+        snapshot.addAll(model.getGameObjects());
+        for (int i = 0; i < removed; i++) {
+            snapshot.add(factory.createStandardPlatform(0, belowScreen + i + 1));
+        }
+    }
+
+    /**
+     * Restores the objects removed by the previous invocation, in the model and in its entity index.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        model.getGameObjects().clear();
+        model.getGameObjects().addAll(snapshot);
+        model.getEntityIndex().sync(model.getGameObjects());
+    }
+
+    /**
+     * Removes the objects below the screen.
+     *
+     * @return the number of remaining objects
+     */
+    @Benchmark
+    public int cleanupObjects() {
+        model.getCleanupManager().cleanupObjects(model);
+        return model.getGameObjects().size();
+    }
+}
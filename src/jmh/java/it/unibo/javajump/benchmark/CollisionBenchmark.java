@@ -0,0 +1,45 @@
+package it.unibo.javajump.benchmark;
+
+import it.unibo.javajump.model.GameModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the collision checks of a single tick.
+ */
+@State(Scope.Benchmark)
+public class CollisionBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int objectCount;
+
+    @Param({"EASY", "HELL"})
+    private String difficulty;
+
+    @Param({"600x800", "1920x1080"})
+    private String screen;
+
+    private GameModel model;
+
+    /**
+     * Builds the model.
+     */
+    @Setup
+    public void setUp() {
+        model = BenchmarkModels.createModel(screen, difficulty, objectCount);
+    }
+
+    /**
+     * Checks the collisions between the player and the other objects.
+     *
+     * @return the model, to keep the work observable
+     */
+    @Benchmark
+    public GameModel checkCollisions() {
+        model.getCollisionManager().checkCollisions(model);
+        return model;
+    }
+}
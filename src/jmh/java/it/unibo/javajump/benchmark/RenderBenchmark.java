@@ -0,0 +1,83 @@
+package it.unibo.javajump.benchmark;
+
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.view.graphics.GameGraphicsImpl;
+import it.unibo.javajump.view.renderers.RendererManagerImpl;
+import it.unibo.javajump.view.viewstates.GameViewState;
+import it.unibo.javajump.view.viewstates.InGameView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Measures the publishing of a render snapshot by the model, and the drawing of a whole in-game frame from it
+ * into an off-screen image.
+ */
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param({"100", "1000"})
+    private int objectCount;
+
+    @Param({"EASY", "HELL"})
+    private String difficulty;
+
+    @Param({"600x800", "1920x1080"})
+    private String screen;
+
+    private GameModel model;
+    private GameViewState view;
+    private RenderSnapshot snapshot;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    /**
+     * Builds the model, the view and the off-screen image.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = BenchmarkModels.createModel(screen, difficulty, objectCount);
+        view = new InGameView(new RendererManagerImpl(new GameGraphicsImpl()), model.getProfiler());
+        snapshot = model.getRenderSnapshot();
+        image = new BufferedImage(model.getScreenWidth(), model.getScreenHeight(), BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+    }
+
+    /**
+     * Releases the graphics context.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    /**
+     * Copies the objects inside the camera window in a snapshot and publishes it.
+     *
+     * @return the model, to keep the work observable
+     */
+    @Benchmark
+    public GameModel publishSnapshot() {
+        model.publishRenderSnapshot();
+        return model;
+    }
+
+    /**
+     * Draws a frame.
+     *
+     * @return the image, to keep the work observable
+     */
+    @Benchmark
+    public BufferedImage drawFrame() {
+        view.draw(graphics, snapshot);
+        return image;
+    }
+}
@@ -0,0 +1,61 @@
+package it.unibo.javajump.benchmark;
+
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
+import it.unibo.javajump.model.level.spawn.SpawnStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+import static it.unibo.javajump.utility.Constants.PROCEDURAL_PLATFORMS_NUMBER;
+
+/**
+ * Measures the procedural spawning of a batch of platforms, with their collectibles, calling the spawn strategy
+ * directly on the benchmark thread: the model is built with no batch pending on the level generation workers.
+ * The spawned objects are removed after each batch, so that the model keeps the same size.
+ */
+@State(Scope.Benchmark)
+public class SpawnBenchmark {
+
+    @Param({"100", "1000"})
+    private int objectCount;
+
+    @Param({"EASY", "MEDIUM", "HARD", "VERY_HARD", "HELL"})
+    private String difficulty;
+
+    @Param({"600x800", "1920x1080"})
+    private String screen;
+
+    private GameModel model;
+    private SpawnStrategy strategy;
+    private float startY;
+
+    /**
+     * Builds the model.
+     */
+    @Setup
+    public void setUp() {
+        model = BenchmarkModels.createModel(screen, difficulty, objectCount);
+        strategy = model.getSpawnManager().getSpawnStrategy();
+        startY = strategy.returnCurrentY();
+    }
+
+    /**
+     * Spawns a batch of platforms above the level, then removes it.
+     *
+     * @return the number of spawned objects
+     */
+    @Benchmark
+    public int spawnBatch() {
+        final List<GameObject> objects = model.getGameObjects();
+        final int size = objects.size();
+        strategy.spawnBatch(model, startY, PROCEDURAL_PLATFORMS_NUMBER);
+        final int spawned = objects.size() - size;
+        objects.subList(size, objects.size()).clear();
+        return spawned;
+    }
+}
@@ -5,7 +5,7 @@ import it.unibo.javajump.view.GameFrame;
 
 /**
  * Interface for the game controller, that manages the game loop,
- * updates the model and the view using the current delta time.
+ * updates the model with a fixed delta time and refreshes the view.
  */
 public interface GameController {
     /**
@@ -3,13 +3,19 @@ package it.unibo.javajump.controller;
 import it.unibo.javajump.controller.input.GameAction;
 import it.unibo.javajump.controller.input.InputManager;
 import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.profiling.events.GameEvents;
+import it.unibo.javajump.model.profiling.events.TickEvent;
 import it.unibo.javajump.view.GameFrame;
 import it.unibo.javajump.view.MainGameView;
 
+import java.util.logging.Logger;
+
 import static it.unibo.javajump.utility.Constants.FPS;
+import static it.unibo.javajump.utility.Constants.MAX_CATCH_UP_STEPS;
 import static it.unibo.javajump.utility.Constants.NANOSECONDS_PER_SECOND;
 import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
 import static it.unibo.javajump.utility.Constants.SLEEP_THREAD;
+import static it.unibo.javajump.utility.Constants.TICK_RATE;
 
 /**
  * Implementation of GameController interface.
@@ -27,9 +33,21 @@ public class GameControllerImpl implements GameController {
      * Private field to access the player inputs.
      */
     private final InputManager inputManager;
+    /**
+     * Number of fixed simulation steps per second.
+     */
+    private final double tickRate;
+    /**
+     * Maximum number of simulation steps to run before rendering, when the loop falls behind.
+     */
+    private final int maxCatchUpSteps;
+    /**
+     * Number of rendered frames per second.
+     */
+    private final double renderRate;
 
     /**
-     * Constructor for the GameControllerImpl class.
+     * Constructor for the GameControllerImpl class, using the default tick and render rates.
      *
      *
      * @param view         The game view
@@ -38,14 +56,40 @@ public class GameControllerImpl implements GameController {
      */
     public GameControllerImpl(final MainGameView view,
                               final InputManager inputManager) {
+        this(view, inputManager, TICK_RATE, MAX_CATCH_UP_STEPS, FPS);
+    }
 
+    /**
+     * Constructor for the GameControllerImpl class.
+     *
+     * @param view            The game view
+     * @param inputManager    The input manager
+     * @param tickRate        the number of fixed simulation steps per second
+     * @param maxCatchUpSteps the maximum number of simulation steps run before a render
+     * @param renderRate      the number of rendered frames per second
+     */
+    public GameControllerImpl(final MainGameView view,
+                              final InputManager inputManager,
+                              final double tickRate,
+                              final int maxCatchUpSteps,
+                              final double renderRate) {
+        if (tickRate <= 0 || renderRate <= 0 || maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Tick rate, render rate and catch-up steps must be positive");
+        }
         this.view = view;
         this.running = false;
         this.inputManager = inputManager;
+        this.tickRate = tickRate;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+        this.renderRate = renderRate;
     }
 
     /**
-     * Starts the GameLoop in a separate thread (~60 FPS).
+     * Starts the GameLoop in a separate thread. The model is advanced in fixed steps of 1 / tickRate seconds,
+     * accumulating the real elapsed time; the view is refreshed at the render rate with the fraction of a step
+     * left in the accumulator, so that it can interpolate between the previous and the current positions.
+     * If the loop falls behind by more than maxCatchUpSteps steps, the remaining time is dropped.
+     * If the Flight Recorder events are enabled, a TickEvent is emitted for each step.
      *
      * @param model the GameModel to update
      * @param frame the GameFrame to update
@@ -54,18 +98,40 @@ public class GameControllerImpl implements GameController {
     public void startGameLoop(final GameModel model, final GameFrame frame) {
         running = true;
         final Thread loopThread = new Thread(() -> {
+            final double nsPerTick = NANOSECONDS_PER_SECOND / tickRate;
+            final double nsPerFrame = NANOSECONDS_PER_SECOND / renderRate;
+            final float fixedDeltaTime = (float) (1 / tickRate);
             long previousTime = System.nanoTime();
-            final double nsPerFrame = NANOSECONDS_PER_SECOND / FPS;
+            long lastRenderTime = previousTime;
+            double accumulator = 0;
 
             while (running) {
                 final long currentTime = System.nanoTime();
-                final double elapsedNs = currentTime - previousTime;
-                if (elapsedNs >= nsPerFrame) {
-                    final float deltaTime = (float) (elapsedNs / NANOSECONDS_PER_SECOND);
+                accumulator += currentTime - previousTime;
+                previousTime = currentTime;
+
+                int steps = 0;
+                while (running && accumulator >= nsPerTick && steps < maxCatchUpSteps) {
+                    final TickEvent event = GameEvents.isEnabled() ? new TickEvent() : null;
+                    if (event != null) {
+                        event.begin();
+                    }
                     processDiscreteInput(model);
-                    updateModel(deltaTime, model, frame);
-                    view.updateView();
-                    previousTime = currentTime;
+                    updateModel(fixedDeltaTime, model, frame);
+                    if (event != null) {
+                        event.complete(model.getCurrentState().getGameState().name(),
+                                model.getGameObjects().size(), steps);
+                    }
+                    accumulator -= nsPerTick;
+                    steps++;
+                }
+                if (accumulator >= nsPerTick) {
+                    accumulator %= nsPerTick;
+                }
+
+                if (currentTime - lastRenderTime >= nsPerFrame) {
+                    view.updateView((float) (accumulator / nsPerTick));
+                    lastRenderTime = currentTime;
                 }
 
                 try {
@@ -80,15 +146,29 @@ public class GameControllerImpl implements GameController {
     }
 
     /**
-     * Stops the GameLoop thread.
+     * Stops the GameLoop thread, logging the profiler report if the profiler is enabled.
      *
+     * @param model the GameModel whose profiler is reported
      * @param frame the GameFrame to close
      */
-    private void stopGameLoop(final GameFrame frame) {
+    private void stopGameLoop(final GameModel model, final GameFrame frame) {
         running = false;
+        logProfile(model);
         frame.closeGame();
     }
 
+    /**
+     * Logs the report of the profiler of the model, if it is enabled.
+     *
+     * @param model the GameModel whose profiler is reported
+     */
+    private void logProfile(final GameModel model) {
+        if (model.getProfiler().isEnabled()) {
+            Logger.getLogger(GameControllerImpl.class.getName())
+                    .info(System.lineSeparator() + model.getProfiler().report());
+        }
+    }
+
     /**
      * Private method to update the model regarding the current pressed direction.
      *
@@ -108,20 +188,27 @@ public class GameControllerImpl implements GameController {
             }
             model.update(deltaTime);
         } else {
-            stopGameLoop(frame);
+            stopGameLoop(model, frame);
         }
     }
 
     /**
      * Private method to process the GameAction(s) stored in the queue,
-     * it demands the model to process them accordingly.
+     * it demands the model to process them accordingly, except for the profiler dump and the performance
+     * overlay toggle that are handled here.
      *
      * @param model the GameModel to give the handling to
      */
     private void processDiscreteInput(final GameModel model) {
         GameAction action = inputManager.getAction();
         while (action != null) {
-            model.handleAction(action);
+            if (action == GameAction.DUMP_PROFILE) {
+                logProfile(model);
+            } else if (action == GameAction.TOGGLE_OVERLAY) {
+                view.togglePerformanceOverlay();
+            } else {
+                model.handleAction(action);
+            }
             action = inputManager.getAction();
         }
     }
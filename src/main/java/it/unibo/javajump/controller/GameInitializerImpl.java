@@ -1,18 +1,37 @@
 package it.unibo.javajump.controller;
 
+import it.unibo.javajump.controller.input.InputLog;
+import it.unibo.javajump.controller.input.InputLogImpl;
 import it.unibo.javajump.controller.input.InputManager;
 import it.unibo.javajump.controller.input.InputManagerImpl;
+import it.unibo.javajump.controller.input.RecordingInputManager;
 import it.unibo.javajump.model.GameModel;
 import it.unibo.javajump.model.GameModelImpl;
 import it.unibo.javajump.model.GameModelObserver;
+import it.unibo.javajump.model.profiling.TickProfilerImpl;
+import it.unibo.javajump.model.random.RandomServiceImpl;
+import it.unibo.javajump.model.score.ScoreStore;
+import it.unibo.javajump.model.score.ScoreStoreImpl;
 import it.unibo.javajump.view.GameFrame;
 import it.unibo.javajump.view.GameFrameImpl;
 import it.unibo.javajump.view.MainGameView;
 import it.unibo.javajump.view.MainGameViewImpl;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import static it.unibo.javajump.utility.Constants.GAME_TITLE;
+import static it.unibo.javajump.utility.Constants.RECORD_PROPERTY;
+import static it.unibo.javajump.utility.Constants.SCORES_DEFAULT_FILE;
+import static it.unibo.javajump.utility.Constants.SCORES_PROPERTY;
 import static it.unibo.javajump.utility.Constants.SCREEN_HEIGHT;
 import static it.unibo.javajump.utility.Constants.SCREEN_WIDTH;
+import static it.unibo.javajump.utility.Constants.TICK_RATE;
 
 /**
  * Class implementation of the GameInitializer interface, for setting-up the managers and starting the game loop.
@@ -38,26 +57,71 @@ public class GameInitializerImpl implements GameInitializer {
      * The controller, which mediates between player and model, and updates model & view accordingly.
      */
     private final GameController controller;
+    /**
+     * The file the input of the session is recorded to, or null if it is not recorded.
+     */
+    private final String recordFile;
+    /**
+     * The recording of the input of the session, or null if it is not recorded.
+     */
+    private final InputLog recording;
+    /**
+     * The store the best score and the statistics of the runs are kept in between sessions.
+     */
+    private final ScoreStore scoreStore;
 
     /**
      * Constructor for GameInitializerImpl, which associates all interfaces to actual implementations.
+     * If the system property RECORD_PROPERTY is set, the input of the player is recorded, together with the seed
+     * of the first run. The scores are kept in the file set by the system property SCORES_PROPERTY, or in
+     * SCORES_DEFAULT_FILE in the home of the user.
      */
     public GameInitializerImpl() {
-        this.model = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT);
+        final String scoresFile = System.getProperty(SCORES_PROPERTY);
+        this.scoreStore = ScoreStoreImpl.open(scoresFile != null
+                ? Path.of(scoresFile)
+                : Path.of(System.getProperty("user.home"), SCORES_DEFAULT_FILE));
+        this.model = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT, new TickProfilerImpl(), new RandomServiceImpl(),
+                scoreStore);
         this.frame = new GameFrameImpl();
         this.view = new MainGameViewImpl(model);
-        this.inputManager = new InputManagerImpl();
+        this.recordFile = System.getProperty(RECORD_PROPERTY);
+        if (recordFile == null) {
+            this.recording = null;
+            this.inputManager = new InputManagerImpl();
+        } else {
+            this.recording = new InputLogImpl(model.getRandomService().getSeed(), SCREEN_WIDTH, SCREEN_HEIGHT,
+                    (float) (1 / TICK_RATE));
+            this.inputManager = new RecordingInputManager(new InputManagerImpl(), recording);
+        }
         this.controller = new GameControllerImpl(view, inputManager);
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} The score store and the audio of the view are closed when the game closes, and if the input
+     * is recorded, the recording is saved.
      */
     @Override
     public void initialize() {
+        Runtime.getRuntime().addShutdownHook(new Thread(scoreStore::close));
+        Runtime.getRuntime().addShutdownHook(new Thread(view::close));
+        if (recording != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::saveRecording));
+        }
         model.addObserver((GameModelObserver) view);
         frame.setUp(inputManager, SCREEN_HEIGHT, SCREEN_WIDTH, view, GAME_TITLE);
         controller.startGameLoop(model, frame);
     }
 
+    /**
+     * Private method to save the recording of the input to the record file.
+     */
+    private void saveRecording() {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(recordFile)))) {
+            recording.write(out);
+        } catch (IOException e) {
+            Logger.getLogger(GameInitializerImpl.class.getName())
+                    .log(Level.WARNING, "Cannot save the input recording to " + recordFile, e);
+        }
+    }
 }
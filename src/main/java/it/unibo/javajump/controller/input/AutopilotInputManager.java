@@ -0,0 +1,153 @@
+package it.unibo.javajump.controller.input;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
+import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.entities.platforms.BreakablePlatform;
+import it.unibo.javajump.model.entities.platforms.Platform;
+
+import java.awt.event.KeyEvent;
+import java.util.List;
+
+import static it.unibo.javajump.utility.Constants.AUTOPILOT_DEAD_ZONE_DIV;
+import static it.unibo.javajump.utility.Constants.AUTOPILOT_HALF_DIV;
+import static it.unibo.javajump.utility.Constants.GRAVITY;
+import static it.unibo.javajump.utility.Constants.LEFT_DIRECTION;
+import static it.unibo.javajump.utility.Constants.MAX_SPEED;
+import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
+import static it.unibo.javajump.utility.Constants.RIGHT_DIRECTION;
+
+/**
+ * Implementation of the InputManager interface that plays the game on its own, without a keyboard.
+ * It steers the character toward the highest platform it can still land on, given the current vertical speed and
+ * the maximum horizontal speed. Broken platforms are never chosen.
+ */
+public final class AutopilotInputManager implements InputManager {
+    /**
+     * The model observed to choose the direction.
+     */
+    private final GameModel model;
+
+    /**
+     * Constructor for the AutopilotInputManager class.
+     *
+     * @param model the game model played by the autopilot
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
+            justification = "The autopilot needs to read the live model to choose the direction")
+    public AutopilotInputManager(final GameModel model) {
+        this.model = model;
+    }
+
+    /**
+     * {@inheritDoc} The autopilot ignores keyboard events.
+     */
+    @Override
+    public void keyPressed(final KeyEvent e) {
+    }
+
+    /**
+     * {@inheritDoc} The autopilot ignores keyboard events.
+     */
+    @Override
+    public void keyReleased(final KeyEvent e) {
+    }
+
+    /**
+     * {@inheritDoc} The autopilot ignores keyboard events.
+     */
+    @Override
+    public void keyTyped(final KeyEvent e) {
+    }
+
+    /**
+     * {@inheritDoc} The autopilot never issues discrete actions.
+     */
+    @Override
+    public GameAction getAction() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc} The direction is the shortest way to the center of the target platform, also considering the
+     * Pac-Man effect. Once the character is above the central part of the platform, it stops moving.
+     */
+    @Override
+    public int getHorizontalDirection() {
+        final Character player = model.getPlayer();
+        if (player == null) {
+            return NULL_DIRECTION;
+        }
+        final Platform target = findTarget(player);
+        if (target == null) {
+            return NULL_DIRECTION;
+        }
+        final float distance = horizontalDistance(player, target);
+        if (Math.abs(distance) <= target.getWidth() / AUTOPILOT_DEAD_ZONE_DIV) {
+            return NULL_DIRECTION;
+        }
+        return distance < 0 ? LEFT_DIRECTION : RIGHT_DIRECTION;
+    }
+
+    /**
+     * Private method to choose the platform to steer toward. For each platform that the character can land on
+     * (below the top of the current jump and above the bottom of the screen), the time needed to fall on it gives
+     * the horizontal distance that can be covered; the highest platform within that distance is chosen. If no
+     * platform is within reach, the one that is missed by the shortest distance is chosen.
+     *
+     * @param player the character
+     * @return the target platform, or null if there are no suitable platforms
+     */
+    private Platform findTarget(final Character player) {
+        final float feet = player.getY() + player.getHeight();
+        final float velocityY = player.getVelocityY();
+        final float bottom = model.getCameraManager().getCurrentOffset() + model.getScreenHeight();
+        Platform reachable = null;
+        Platform closest = null;
+        float closestMiss = Float.MAX_VALUE;
+        final List<GameObject> objects = model.getGameObjects();
+        for (int i = 0; i < objects.size(); i++) {
+            if (!(objects.get(i) instanceof Platform p) || p.getY() > bottom
+                    || (p instanceof BreakablePlatform bp && bp.isBroken())) {
+                continue;
+            }
+            final float discriminant = velocityY * velocityY + AUTOPILOT_HALF_DIV * GRAVITY * (p.getY() - feet);
+            if (discriminant < 0) {
+                continue;
+            }
+            final float landingTime = (float) ((-velocityY + Math.sqrt(discriminant)) / GRAVITY);
+            final float miss = Math.abs(horizontalDistance(player, p)) - p.getWidth() / AUTOPILOT_HALF_DIV
+                    - MAX_SPEED * landingTime;
+            if (miss <= 0) {
+                if (reachable == null || p.getY() < reachable.getY()) {
+                    reachable = p;
+                }
+            } else if (miss < closestMiss) {
+                closestMiss = miss;
+                closest = p;
+            }
+        }
+        return reachable != null ? reachable : closest;
+    }
+
+    /**
+     * Private method to compute the signed horizontal distance between the centers of the character and a
+     * platform, taking the shortest way around the screen.
+     *
+     * @param player   the character
+     * @param platform the platform
+     * @return the signed distance, negative if the platform is on the left
+     */
+    private float horizontalDistance(final Character player, final Platform platform) {
+        final float screenWidth = model.getScreenWidth();
+        float distance = platform.getX() + platform.getWidth() / AUTOPILOT_HALF_DIV
+                - (player.getX() + player.getWidth() / AUTOPILOT_HALF_DIV);
+        if (distance > screenWidth / AUTOPILOT_HALF_DIV) {
+            distance -= screenWidth;
+        } else if (distance < -screenWidth / AUTOPILOT_HALF_DIV) {
+            distance += screenWidth;
+        }
+        return distance;
+    }
+}
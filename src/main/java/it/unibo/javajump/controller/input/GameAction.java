@@ -32,4 +32,12 @@ public enum GameAction {
      * Move menu down game action.
      */
     MOVE_MENU_DOWN,
+    /**
+     * Dump profiler report action, handled by the controller.
+     */
+    DUMP_PROFILE,
+    /**
+     * Toggle performance overlay action, handled by the controller.
+     */
+    TOGGLE_OVERLAY,
 }
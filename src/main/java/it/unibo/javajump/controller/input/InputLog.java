@@ -0,0 +1,109 @@
+package it.unibo.javajump.controller.input;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface for the input log, the recording of a session: the seed of its first run, the size of the screen and
+ * the fixed delta time it was played with, and every action and change of horizontal direction read by the game
+ * loop, each with the number of the step it was read in.
+ */
+public interface InputLog {
+    /**
+     * Getter for the seed of the first run of the session.
+     *
+     * @return the seed
+     */
+    long getSeed();
+
+    /**
+     * Getter for the width of the screen the session was played on.
+     *
+     * @return the width of the screen
+     */
+    int getScreenWidth();
+
+    /**
+     * Getter for the height of the screen the session was played on.
+     *
+     * @return the height of the screen
+     */
+    int getScreenHeight();
+
+    /**
+     * Getter for the duration of each step of the session.
+     *
+     * @return the fixed delta time, in seconds
+     */
+    float getDeltaTime();
+
+    /**
+     * Getter for the number of steps of the session.
+     *
+     * @return the number of steps recorded
+     */
+    long getTicks();
+
+    /**
+     * Sets the number of steps of the session.
+     *
+     * @param ticks the number of steps recorded, not less than the step of the last event
+     */
+    void setTicks(long ticks);
+
+    /**
+     * Getter for the number of recorded events.
+     *
+     * @return the number of actions and direction changes
+     */
+    int getEventCount();
+
+    /**
+     * Getter for the step of an event.
+     *
+     * @param index the index of the event
+     * @return the step the event was read in
+     */
+    long getEventTick(int index);
+
+    /**
+     * Getter for the action of an event.
+     *
+     * @param index the index of the event
+     * @return the action, or null if the event is a change of direction
+     */
+    GameAction getEventAction(int index);
+
+    /**
+     * Getter for the direction of an event.
+     *
+     * @param index the index of the event
+     * @return the new horizontal direction, meaningful only if the event is not an action
+     */
+    int getEventDirection(int index);
+
+    /**
+     * Records an action.
+     *
+     * @param tick   the step the action was read in, not less than the step of the last event
+     * @param action the action
+     */
+    void addAction(long tick, GameAction action);
+
+    /**
+     * Records a change of horizontal direction.
+     *
+     * @param tick      the step the direction was read in, not less than the step of the last event
+     * @param direction the new horizontal direction
+     */
+    void addDirection(long tick, int direction);
+
+    /**
+     * Writes the log in its compact binary format: a header followed by each event as the variable length
+     * difference between its step and the step of the previous event, and a one byte code.
+     *
+     * @param out the stream to write to, which is not closed
+     * @throws IOException if the stream cannot be written
+     */
+    void write(OutputStream out) throws IOException;
+}
@@ -0,0 +1,286 @@
+package it.unibo.javajump.controller.input;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static it.unibo.javajump.utility.Constants.LEFT_DIRECTION;
+import static it.unibo.javajump.utility.Constants.REPLAY_CODE_BITS;
+import static it.unibo.javajump.utility.Constants.REPLAY_CODE_MASK;
+import static it.unibo.javajump.utility.Constants.REPLAY_DIRECTION_CODE;
+import static it.unibo.javajump.utility.Constants.REPLAY_INITIAL_CAPACITY;
+import static it.unibo.javajump.utility.Constants.REPLAY_MAGIC;
+import static it.unibo.javajump.utility.Constants.REPLAY_VERSION;
+import static it.unibo.javajump.utility.Constants.RIGHT_DIRECTION;
+import static it.unibo.javajump.utility.Constants.VARINT_CONTINUATION;
+import static it.unibo.javajump.utility.Constants.VARINT_MAX_SHIFT;
+import static it.unibo.javajump.utility.Constants.VARINT_PAYLOAD_BITS;
+import static it.unibo.javajump.utility.Constants.VARINT_PAYLOAD_MASK;
+
+/**
+ * Implementation of the InputLog interface. Each event is packed in a long, with its step in the high bits and
+ * its code in the low REPLAY_CODE_BITS: the ordinal of the action, or REPLAY_DIRECTION_CODE plus the direction
+ * shifted to be non-negative. The methods are synchronized, since a session is usually saved by a shutdown hook
+ * while the game loop may still be recording.
+ */
+public final class InputLogImpl implements InputLog {
+    private static final GameAction[] ACTIONS = GameAction.values();
+
+    private final long seed;
+    private final int screenWidth;
+    private final int screenHeight;
+    private final float deltaTime;
+    private long[] events = new long[REPLAY_INITIAL_CAPACITY];
+    private int eventCount;
+    private long ticks;
+
+    /**
+     * Constructor for the InputLogImpl class, creating an empty log.
+     *
+     * @param seed         the seed of the first run of the session
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     * @param deltaTime    the duration of each step, in seconds
+     */
+    public InputLogImpl(final long seed, final int screenWidth, final int screenHeight, final float deltaTime) {
+        if (deltaTime <= 0) {
+            throw new IllegalArgumentException("The delta time must be positive");
+        }
+        this.seed = seed;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.deltaTime = deltaTime;
+    }
+
+    /**
+     * Reads a log written by the write method.
+     *
+     * @param in the stream to read from, which is not closed
+     * @return the log
+     * @throws IOException if the stream cannot be read or does not contain an input log
+     */
+    public static InputLog read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != REPLAY_MAGIC) {
+            throw new IOException("The stream does not contain an input log");
+        }
+        final int version = data.readUnsignedByte();
+        if (version != REPLAY_VERSION) {
+            throw new IOException("Unsupported input log version: " + version);
+        }
+        final InputLogImpl log = new InputLogImpl(data.readLong(), data.readInt(), data.readInt(), data.readFloat());
+        final long ticks = readVarLong(data);
+        final long count = readVarLong(data);
+        long tick = 0;
+        for (long i = 0; i < count; i++) {
+            tick += readVarLong(data);
+            log.add(tick, data.readUnsignedByte());
+        }
+        log.setTicks(ticks);
+        return log;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScreenWidth() {
+        return screenWidth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScreenHeight() {
+        return screenHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void setTicks(final long ticks) {
+        if (eventCount > 0 && ticks <= getEventTick(eventCount - 1)) {
+            throw new IllegalArgumentException("The log must include the step of its last event");
+        }
+        this.ticks = ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getEventTick(final int index) {
+        return events[checkIndex(index)] >>> REPLAY_CODE_BITS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized GameAction getEventAction(final int index) {
+        final int code = (int) events[checkIndex(index)] & REPLAY_CODE_MASK;
+        return code < REPLAY_DIRECTION_CODE ? ACTIONS[code] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getEventDirection(final int index) {
+        final int code = (int) events[checkIndex(index)] & REPLAY_CODE_MASK;
+        return code - REPLAY_DIRECTION_CODE + LEFT_DIRECTION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addAction(final long tick, final GameAction action) {
+        add(tick, action.ordinal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addDirection(final long tick, final int direction) {
+        if (direction < LEFT_DIRECTION || direction > RIGHT_DIRECTION) {
+            throw new IllegalArgumentException("Invalid horizontal direction: " + direction);
+        }
+        add(tick, REPLAY_DIRECTION_CODE + direction - LEFT_DIRECTION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void write(final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(REPLAY_MAGIC);
+        data.writeByte(REPLAY_VERSION);
+        data.writeLong(seed);
+        data.writeInt(screenWidth);
+        data.writeInt(screenHeight);
+        data.writeFloat(deltaTime);
+        writeVarLong(data, ticks);
+        writeVarLong(data, eventCount);
+        long previousTick = 0;
+        for (int i = 0; i < eventCount; i++) {
+            final long tick = events[i] >>> REPLAY_CODE_BITS;
+            writeVarLong(data, tick - previousTick);
+            data.writeByte((int) events[i] & REPLAY_CODE_MASK);
+            previousTick = tick;
+        }
+        data.flush();
+    }
+
+    /**
+     * Private method to append an event, growing the array if needed; the steps of the session are extended
+     * to include it.
+     *
+     * @param tick the step of the event
+     * @param code the code of the event
+     */
+    private void add(final long tick, final int code) {
+        if (tick < 0 || eventCount > 0 && tick < getEventTick(eventCount - 1)) {
+            throw new IllegalArgumentException("The events must be recorded in the order of their steps");
+        }
+        if (code >= ACTIONS.length && code < REPLAY_DIRECTION_CODE
+                || code > REPLAY_DIRECTION_CODE + RIGHT_DIRECTION - LEFT_DIRECTION) {
+            throw new IllegalArgumentException("Invalid event code: " + code);
+        }
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[eventCount++] = tick << REPLAY_CODE_BITS | code;
+        ticks = Math.max(ticks, tick + 1);
+    }
+
+    /**
+     * Private method to check the index of an event.
+     *
+     * @param index the index
+     * @return the index, if it is valid
+     */
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= eventCount) {
+            throw new IndexOutOfBoundsException("Invalid event index: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Private method to write a non-negative long as a variable length integer, seven bits per byte.
+     *
+     * @param out   the stream to write to
+     * @param value the value
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeVarLong(final DataOutputStream out, final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.writeByte((int) remaining & VARINT_PAYLOAD_MASK | VARINT_CONTINUATION);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    /**
+     * Private method to read a variable length integer written by writeVarLong.
+     *
+     * @param in the stream to read from
+     * @return the value
+     * @throws IOException if the stream cannot be read or the integer is malformed
+     */
+    private static long readVarLong(final DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int current;
+        do {
+            if (shift > VARINT_MAX_SHIFT) {
+                throw new IOException("Malformed variable length integer");
+            }
+            current = in.readUnsignedByte();
+            value |= (long) (current & VARINT_PAYLOAD_MASK) << shift;
+            shift += VARINT_PAYLOAD_BITS;
+        } while ((current & VARINT_CONTINUATION) != 0);
+        return value;
+    }
+}
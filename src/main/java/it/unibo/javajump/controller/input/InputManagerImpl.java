@@ -57,6 +57,16 @@ public class InputManagerImpl implements InputManager {
                     throw new IllegalStateException(IMAGE_IMPORT_ERROR_TEXT + GameAction.PAUSE_GAME);
                 }
             }
+            case KeyEvent.VK_F2 -> {
+                if (!actionQueue.offer(GameAction.TOGGLE_OVERLAY)) {
+                    throw new IllegalStateException(IMAGE_IMPORT_ERROR_TEXT + GameAction.TOGGLE_OVERLAY);
+                }
+            }
+            case KeyEvent.VK_F3 -> {
+                if (!actionQueue.offer(GameAction.DUMP_PROFILE)) {
+                    throw new IllegalStateException(IMAGE_IMPORT_ERROR_TEXT + GameAction.DUMP_PROFILE);
+                }
+            }
             default -> {
             }
         }
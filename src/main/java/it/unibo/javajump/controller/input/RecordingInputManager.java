@@ -0,0 +1,83 @@
+package it.unibo.javajump.controller.input;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.awt.event.KeyEvent;
+
+import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
+
+/**
+ * Decorator of an InputManager that records the input read by the game loop into an InputLog.
+ * The game loop reads the actions of a step before its horizontal direction, so each read of the direction
+ * ends a step; only the changes of direction are recorded, starting from the null direction.
+ */
+public final class RecordingInputManager implements InputManager {
+    private final InputManager delegate;
+    private final InputLog log;
+    private long tick;
+    private int lastDirection = NULL_DIRECTION;
+
+    /**
+     * Constructor for the RecordingInputManager class.
+     *
+     * @param delegate the input manager that reads the input of the player
+     * @param log      the log to record into
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
+            justification = "The log is filled here and saved by the owner of the session")
+    public RecordingInputManager(final InputManager delegate, final InputLog log) {
+        this.delegate = delegate;
+        this.log = log;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void keyPressed(final KeyEvent e) {
+        delegate.keyPressed(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void keyReleased(final KeyEvent e) {
+        delegate.keyReleased(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void keyTyped(final KeyEvent e) {
+        delegate.keyTyped(e);
+    }
+
+    /**
+     * {@inheritDoc} The action is recorded with the current step.
+     */
+    @Override
+    public GameAction getAction() {
+        final GameAction action = delegate.getAction();
+        if (action != null) {
+            log.addAction(tick, action);
+        }
+        return action;
+    }
+
+    /**
+     * {@inheritDoc} The direction is recorded if it changed, and the step ends.
+     */
+    @Override
+    public int getHorizontalDirection() {
+        final int direction = delegate.getHorizontalDirection();
+        if (direction != lastDirection) {
+            log.addDirection(tick, direction);
+            lastDirection = direction;
+        }
+        tick++;
+        log.setTicks(tick);
+        return direction;
+    }
+}
@@ -0,0 +1,92 @@
+package it.unibo.javajump.controller.input;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.awt.event.KeyEvent;
+
+import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
+
+/**
+ * Implementation of the InputManager interface that plays back an InputLog, ignoring the keyboard.
+ * As for the recording, the actions of a step are returned before its horizontal direction, whose read ends the step.
+ */
+public final class ReplayInputManager implements InputManager {
+    private final InputLog log;
+    private long tick;
+    private int nextEvent;
+    private int direction = NULL_DIRECTION;
+
+    /**
+     * Constructor for the ReplayInputManager class.
+     *
+     * @param log the log to play back
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
+            justification = "The log is only read, and it can be played back by several managers")
+    public ReplayInputManager(final InputLog log) {
+        this.log = log;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void keyPressed(final KeyEvent e) {
+        // Not used
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void keyReleased(final KeyEvent e) {
+        // Not used
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void keyTyped(final KeyEvent e) {
+        // Not used
+    }
+
+    /**
+     * {@inheritDoc} The action is the next one recorded in the current step.
+     */
+    @Override
+    public GameAction getAction() {
+        if (nextEvent < log.getEventCount() && log.getEventTick(nextEvent) == tick) {
+            final GameAction action = log.getEventAction(nextEvent);
+            if (action != null) {
+                nextEvent++;
+                return action;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc} The direction is the last one recorded up to the current step, and the step ends.
+     */
+    @Override
+    public int getHorizontalDirection() {
+        while (nextEvent < log.getEventCount() && log.getEventTick(nextEvent) == tick) {
+            if (log.getEventAction(nextEvent) == null) {
+                direction = log.getEventDirection(nextEvent);
+            }
+            nextEvent++;
+        }
+        tick++;
+        return direction;
+    }
+
+    /**
+     * Checks if every step of the log has been played back.
+     *
+     * @return true if the log is over
+     */
+    public boolean isFinished() {
+        return tick >= log.getTicks();
+    }
+}
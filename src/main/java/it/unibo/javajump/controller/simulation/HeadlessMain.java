@@ -0,0 +1,50 @@
+package it.unibo.javajump.controller.simulation;
+
+import it.unibo.javajump.controller.input.AutopilotInputManager;
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.GameModelImpl;
+
+import java.util.logging.Logger;
+
+import static it.unibo.javajump.utility.Constants.HEADLESS_DEFAULT_RUNS;
+import static it.unibo.javajump.utility.Constants.HEADLESS_DEFAULT_TICKS;
+import static it.unibo.javajump.utility.Constants.SCREEN_HEIGHT;
+import static it.unibo.javajump.utility.Constants.SCREEN_WIDTH;
+import static it.unibo.javajump.utility.Constants.TICK_RATE;
+
+/**
+ * Entry point of the headless simulation, which plays the game with the autopilot and logs a report for each run.
+ * The optional arguments are the maximum number of steps for each run and the number of runs.
+ * If the profiler is enabled, its report of all the runs is logged at the end.
+ */
+public final class HeadlessMain {
+
+    /**
+     * The entry point of the headless simulation.
+     *
+     * @param args the maximum number of steps for each run and the number of runs, both optional
+     */
+    public static void main(final String[] args) {
+        final long maxTicks = args.length > 0 ? Long.parseLong(args[0]) : HEADLESS_DEFAULT_TICKS;
+        final int runs = args.length > 1 ? Integer.parseInt(args[1]) : HEADLESS_DEFAULT_RUNS;
+        final GameModel model = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT);
+        final HeadlessSimulation simulation =
+                new HeadlessSimulationImpl(model, new AutopilotInputManager(model), (float) (1 / TICK_RATE));
+        final Logger logger = Logger.getLogger(HeadlessMain.class.getName());
+        for (int i = 0; i < runs; i++) {
+            logger.info("Run " + (i + 1) + ": " + simulation.run(maxTicks));
+        }
+        if (model.getProfiler().isEnabled()) {
+            logger.info(System.lineSeparator() + model.getProfiler().report());
+        }
+    }
+
+    /**
+     * Private constructor for the HeadlessMain class.
+     *
+     * @throws AssertionError the error thrown if the class is instantiated
+     */
+    private HeadlessMain() {
+        throw new AssertionError("This is the HeadlessMain class, it should not be instantiated!");
+    }
+}
@@ -0,0 +1,16 @@
+package it.unibo.javajump.controller.simulation;
+
+/**
+ * Interface for a simulation that advances the game model without a view, a frame or the Swing event thread.
+ * It is used to measure the throughput of the model.
+ */
+public interface HeadlessSimulation {
+    /**
+     * Advances the game model in fixed steps, as fast as possible, until the simulated session is over or the
+     * maximum number of steps is reached.
+     *
+     * @param maxTicks the maximum number of simulation steps
+     * @return the report of the run
+     */
+    SimulationReport run(long maxTicks);
+}
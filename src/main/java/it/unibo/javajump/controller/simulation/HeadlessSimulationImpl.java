@@ -0,0 +1,70 @@
+package it.unibo.javajump.controller.simulation;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javajump.controller.input.InputManager;
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.states.GameState;
+import it.unibo.javajump.model.states.ingame.InGameState;
+
+import static it.unibo.javajump.utility.Constants.UNMEASURED_ALLOCATION;
+
+/**
+ * Implementation of the HeadlessSimulation interface, which starts a new game and plays it until the game is over.
+ * Every step reads the input manager as the game loop does, then updates the model with a fixed delta time.
+ */
+public final class HeadlessSimulationImpl implements HeadlessSimulation {
+    private final GameModel model;
+    private final InputManager inputManager;
+    private final float fixedDeltaTime;
+
+    /**
+     * Constructor for the HeadlessSimulationImpl class.
+     *
+     * @param model          the model to simulate
+     * @param inputManager   the input manager playing the game, usually an autopilot
+     * @param fixedDeltaTime the duration of each simulation step, in seconds
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
+            justification = "The simulation drives the given model, which is intended to be shared")
+    public HeadlessSimulationImpl(final GameModel model, final InputManager inputManager, final float fixedDeltaTime) {
+        if (fixedDeltaTime <= 0) {
+            throw new IllegalArgumentException("The delta time must be positive");
+        }
+        this.model = model;
+        this.inputManager = inputManager;
+        this.fixedDeltaTime = fixedDeltaTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationReport run(final long maxTicks) {
+        model.startGame();
+        model.setState(new InGameState());
+
+        final long startBytes = SimulationSteps.allocatedBytes();
+        final long startTime = System.nanoTime();
+        long ticks = 0;
+        while (ticks < maxTicks && !isOver()) {
+            SimulationSteps.processDiscreteInput(model, inputManager);
+            SimulationSteps.processHorizontalInput(model, inputManager);
+            model.update(fixedDeltaTime);
+            ticks++;
+        }
+        final long elapsed = System.nanoTime() - startTime;
+        final long endBytes = SimulationSteps.allocatedBytes();
+
+        final long allocated = startBytes < 0 || endBytes < 0 ? UNMEASURED_ALLOCATION : endBytes - startBytes;
+        return new SimulationReport(ticks, elapsed, model.getScore(), isOver(), allocated);
+    }
+
+    /**
+     * Private method to check if the simulated game is over.
+     *
+     * @return true if the game is over or the model stopped
+     */
+    private boolean isOver() {
+        return !model.isRunning() || model.getCurrentState().getGameState() == GameState.GAME_OVER;
+    }
+}
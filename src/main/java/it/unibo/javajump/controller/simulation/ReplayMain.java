@@ -0,0 +1,65 @@
+package it.unibo.javajump.controller.simulation;
+
+import it.unibo.javajump.controller.input.InputLog;
+import it.unibo.javajump.controller.input.InputLogImpl;
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.GameModelImpl;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.profiling.TickProfilerImpl;
+import it.unibo.javajump.model.random.RandomServiceImpl;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import static it.unibo.javajump.utility.Constants.HEADLESS_DEFAULT_RUNS;
+
+/**
+ * Entry point of the replay, which plays back a session recorded with the RECORD_PROPERTY system property
+ * at maximum speed and logs a report for each run, to compare the throughput and the allocations of the
+ * same session before and after a change.
+ * The arguments are the recorded file and, optionally, the number of runs.
+ * If the profiler is enabled, its report of all the runs is logged at the end.
+ */
+public final class ReplayMain {
+
+    /**
+     * The entry point of the replay.
+     *
+     * @param args the recorded file and the number of runs, which is optional
+     * @throws IOException if the recorded file cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("The recorded file is missing");
+        }
+        final InputLog log;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(args[0])))) {
+            log = InputLogImpl.read(in);
+        }
+        final int runs = args.length > 1 ? Integer.parseInt(args[1]) : HEADLESS_DEFAULT_RUNS;
+        final TickProfiler profiler = new TickProfilerImpl();
+        final Logger logger = Logger.getLogger(ReplayMain.class.getName());
+        logger.info("Replaying " + log.getTicks() + " ticks with seed " + log.getSeed());
+        for (int i = 0; i < runs; i++) {
+            final GameModel model = new GameModelImpl(log.getScreenWidth(), log.getScreenHeight(), profiler,
+                    new RandomServiceImpl(log.getSeed()));
+            logger.info("Run " + (i + 1) + ": " + new ReplaySimulationImpl(model, log).run(Long.MAX_VALUE));
+        }
+        if (profiler.isEnabled()) {
+            logger.info(System.lineSeparator() + profiler.report());
+        }
+    }
+
+    /**
+     * Private constructor for the ReplayMain class.
+     *
+     * @throws AssertionError the error thrown if the class is instantiated
+     */
+    private ReplayMain() {
+        throw new AssertionError("This is the ReplayMain class, it should not be instantiated!");
+    }
+}
@@ -0,0 +1,60 @@
+package it.unibo.javajump.controller.simulation;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javajump.controller.input.InputLog;
+import it.unibo.javajump.controller.input.ReplayInputManager;
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.states.GameState;
+
+import static it.unibo.javajump.utility.Constants.UNMEASURED_ALLOCATION;
+
+/**
+ * Implementation of the HeadlessSimulation interface, which plays back a recorded session on a model that has
+ * just been created, so that it starts from the menu as the recorded one did. The seed of the first run is taken
+ * from the log and every step runs with the recorded delta time, so the session is reproduced exactly.
+ */
+public final class ReplaySimulationImpl implements HeadlessSimulation {
+    private final GameModel model;
+    private final InputLog log;
+
+    /**
+     * Constructor for the ReplaySimulationImpl class.
+     *
+     * @param model the model to play the session on, which must not have been updated yet
+     * @param log   the recorded session
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
+            justification = "The simulation drives the given model, which is intended to be shared")
+    public ReplaySimulationImpl(final GameModel model, final InputLog log) {
+        this.model = model;
+        this.log = log;
+    }
+
+    /**
+     * {@inheritDoc} The session is over when the log is over or the model stops.
+     */
+    @Override
+    public SimulationReport run(final long maxTicks) {
+        final ReplayInputManager inputManager = new ReplayInputManager(log);
+        final float fixedDeltaTime = log.getDeltaTime();
+        model.getRandomService().setNextSeed(log.getSeed());
+
+        final long startBytes = SimulationSteps.allocatedBytes();
+        final long startTime = System.nanoTime();
+        long ticks = 0;
+        while (ticks < maxTicks && !inputManager.isFinished() && model.isRunning()) {
+            SimulationSteps.processDiscreteInput(model, inputManager);
+            if (model.isRunning()) {
+                SimulationSteps.processHorizontalInput(model, inputManager);
+                model.update(fixedDeltaTime);
+                ticks++;
+            }
+        }
+        final long elapsed = System.nanoTime() - startTime;
+        final long endBytes = SimulationSteps.allocatedBytes();
+
+        final long allocated = startBytes < 0 || endBytes < 0 ? UNMEASURED_ALLOCATION : endBytes - startBytes;
+        return new SimulationReport(ticks, elapsed, model.getScore(),
+                model.getCurrentState().getGameState() == GameState.GAME_OVER, allocated);
+    }
+}
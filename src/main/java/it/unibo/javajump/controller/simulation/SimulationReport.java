@@ -0,0 +1,109 @@
+package it.unibo.javajump.controller.simulation;
+
+import static it.unibo.javajump.utility.Constants.NANOSECONDS_PER_SECOND;
+import static it.unibo.javajump.utility.Constants.UNMEASURED_ALLOCATION;
+
+/**
+ * The results of a headless simulation run.
+ */
+public final class SimulationReport {
+    private final long ticks;
+    private final long elapsedNanos;
+    private final int score;
+    private final boolean gameOver;
+    private final long allocatedBytes;
+
+    /**
+     * Constructor for the SimulationReport class.
+     *
+     * @param ticks          the number of simulation steps run
+     * @param elapsedNanos   the real time spent running the steps, in nanoseconds
+     * @param score          the score reached
+     * @param gameOver       true if the run ended with a game over
+     * @param allocatedBytes the bytes allocated by the JVM during the run, or -1 if not measurable
+     */
+    public SimulationReport(final long ticks, final long elapsedNanos, final int score,
+                            final boolean gameOver, final long allocatedBytes) {
+        this.ticks = ticks;
+        this.elapsedNanos = elapsedNanos;
+        this.score = score;
+        this.gameOver = gameOver;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Getter for the number of simulation steps run.
+     *
+     * @return the number of steps
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Getter for the real time spent running the steps.
+     *
+     * @return the elapsed time, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Getter for the score reached.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks if the run ended with a game over.
+     *
+     * @return true if the character fell, false if the maximum number of steps was reached
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Getter for the bytes allocated by the JVM during the run, by the simulation thread as well as by the
+     * threads generating the level in the background.
+     *
+     * @return the allocated bytes, or -1 if not measurable on this JVM
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Getter for the throughput of the run.
+     *
+     * @return the simulation steps per second of real time
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticks * NANOSECONDS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Getter for the allocation rate of the run.
+     *
+     * @return the allocated bytes per simulation step, or -1 if not measurable
+     */
+    public double getBytesPerTick() {
+        if (allocatedBytes < 0) {
+            return UNMEASURED_ALLOCATION;
+        }
+        return ticks == 0 ? 0 : (double) allocatedBytes / ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("ticks=%d ticks/s=%.1f score=%d gameOver=%b allocated=%d bytes (%.1f bytes/tick)",
+                ticks, getTicksPerSecond(), score, gameOver, allocatedBytes, getBytesPerTick());
+    }
+}
@@ -0,0 +1,73 @@
+package it.unibo.javajump.controller.simulation;
+
+import it.unibo.javajump.controller.input.GameAction;
+import it.unibo.javajump.controller.input.InputManager;
+import it.unibo.javajump.model.GameModel;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
+import static it.unibo.javajump.utility.Constants.UNMEASURED_ALLOCATION;
+
+/**
+ * Utility class with the steps shared by the headless simulations, which read the input as the game loop does.
+ */
+final class SimulationSteps {
+
+    /**
+     * Private constructor for the SimulationSteps class.
+     *
+     * @throws AssertionError the error thrown if the class is instantiated
+     */
+    private SimulationSteps() {
+        throw new AssertionError("This is a utility class, it should not be instantiated!");
+    }
+
+    /**
+     * Passes the queued actions to the model.
+     *
+     * @param model        the simulated model
+     * @param inputManager the input manager playing the game
+     */
+    static void processDiscreteInput(final GameModel model, final InputManager inputManager) {
+        GameAction action = inputManager.getAction();
+        while (action != null) {
+            model.handleAction(action);
+            action = inputManager.getAction();
+        }
+    }
+
+    /**
+     * Passes the current horizontal direction to the model.
+     *
+     * @param model        the simulated model
+     * @param inputManager the input manager playing the game
+     */
+    static void processHorizontalInput(final GameModel model, final InputManager inputManager) {
+        final int horizontalDirection = inputManager.getHorizontalDirection();
+        if (horizontalDirection < NULL_DIRECTION) {
+            model.handleAction(GameAction.MOVE_LEFT);
+        } else if (horizontalDirection > NULL_DIRECTION) {
+            model.handleAction(GameAction.MOVE_RIGHT);
+        } else {
+            model.handleAction(GameAction.STOP_HORIZONTAL);
+        }
+    }
+
+    /**
+     * Reads the bytes allocated so far by all the threads of the JVM, including the ones that have terminated,
+     * so that the level batches generated by the virtual threads of the spawn manager are counted too.
+     * The allocations of the virtual threads are accounted to their carrier threads.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not support the measurement
+     */
+    static long allocatedBytes() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()
+                && sunBean.isThreadAllocatedMemoryEnabled()) {
+            return sunBean.getTotalThreadAllocatedBytes();
+        }
+        return UNMEASURED_ALLOCATION;
+    }
+}
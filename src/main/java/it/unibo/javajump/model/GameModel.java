@@ -5,11 +5,16 @@ import it.unibo.javajump.model.camera.CameraManager;
 import it.unibo.javajump.model.collision.CollisionManager;
 import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.entities.store.EntityIndex;
 import it.unibo.javajump.model.level.CleanupManager;
 import it.unibo.javajump.model.level.SpawnManager;
 import it.unibo.javajump.model.level.spawn.difficulty.DifficultyManager;
 import it.unibo.javajump.model.physics.PhysicsManager;
 import it.unibo.javajump.model.score.ScoreManager;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.random.RandomService;
+import it.unibo.javajump.model.snapshot.RenderEvent;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 import it.unibo.javajump.model.states.GameStateHandler;
 
 import java.util.List;
@@ -142,6 +147,13 @@ public interface GameModel {
      */
     List<GameObject> getGameObjects();
 
+    /**
+     * Gets the index of the GameObjects ordered by y, used to cull the objects outside the camera window.
+     *
+     * @return the entity index
+     */
+    EntityIndex getEntityIndex();
+
     /**
      * Gets player.
      *
@@ -170,6 +182,42 @@ public interface GameModel {
      */
     float getDeltaTime();
 
+    /**
+     * Counts an event the view can react to, for example by playing a sound. The total count of each event is
+     * published with the render snapshots.
+     *
+     * @param event the event
+     */
+    void recordEvent(RenderEvent event);
+
+    /**
+     * Copies the current state of the game in a render snapshot and publishes it for the view, at the end of a
+     * simulation step. Publishing does not change the model.
+     */
+    void publishRenderSnapshot();
+
+    /**
+     * Gets the last published render snapshot. It can be called by a thread other than the one updating the model,
+     * and the returned snapshot is not changed until the next call from the same thread.
+     *
+     * @return the last render snapshot
+     */
+    RenderSnapshot getRenderSnapshot();
+
+    /**
+     * Gets the profiler that times the stages of the game steps and of the frames.
+     *
+     * @return the profiler
+     */
+    TickProfiler getProfiler();
+
+    /**
+     * Gets the random service, the source of all the random numbers of the model.
+     *
+     * @return the random service
+     */
+    RandomService getRandomService();
+
     /**
      * Method to check the flag running.
      *
@@ -8,6 +8,8 @@ import it.unibo.javajump.model.collision.CollisionManager;
 import it.unibo.javajump.model.collision.CollisionManagerImpl;
 import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.entities.store.EntityIndex;
+import it.unibo.javajump.model.entities.store.EntityIndexImpl;
 import it.unibo.javajump.model.factories.GameObjectFactory;
 import it.unibo.javajump.model.factories.GameObjectFactoryImpl;
 import it.unibo.javajump.model.level.CleanupManager;
@@ -19,19 +21,32 @@ import it.unibo.javajump.model.level.spawn.difficulty.DifficultyManager;
 import it.unibo.javajump.model.level.spawn.difficulty.DifficultyManagerImpl;
 import it.unibo.javajump.model.physics.PhysicsManager;
 import it.unibo.javajump.model.physics.PhysicsManagerImpl;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.profiling.TickProfilerImpl;
+import it.unibo.javajump.model.random.RandomService;
+import it.unibo.javajump.model.random.RandomServiceImpl;
 import it.unibo.javajump.model.score.ScoreManager;
 import it.unibo.javajump.model.score.ScoreManagerImpl;
+import it.unibo.javajump.model.score.ScoreStore;
+import it.unibo.javajump.model.score.ScoreStoreImpl;
+import it.unibo.javajump.model.snapshot.RenderEvent;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.model.snapshot.RenderSnapshotImpl;
+import it.unibo.javajump.model.snapshot.TripleBuffer;
+import it.unibo.javajump.model.snapshot.TripleBufferImpl;
 import it.unibo.javajump.model.states.GameStateHandler;
 import it.unibo.javajump.model.states.menu.MenuState;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 
 import static it.unibo.javajump.utility.Constants.ACCELERATION;
 import static it.unibo.javajump.utility.Constants.CHARACTER_CREATION_HEIGHT_MUL;
 import static it.unibo.javajump.utility.Constants.CHARACTER_CREATION_WIDTH_DIV;
 import static it.unibo.javajump.utility.Constants.COIN_CHANCE;
 import static it.unibo.javajump.utility.Constants.DECELERATION;
+import static it.unibo.javajump.utility.Constants.FACTORY_POOL_MAX_SIZE;
 import static it.unibo.javajump.utility.Constants.GRAVITY;
 import static it.unibo.javajump.utility.Constants.MAX_SPACING;
 import static it.unibo.javajump.utility.Constants.MAX_SPEED;
@@ -53,6 +68,7 @@ public final class GameModelImpl implements GameModel {
     private final DifficultyManager difficultyManager;
     private float deltaTime;
     private final List<GameObject> gameObject;
+    private final EntityIndex entityIndex;
     private Character player;
 
     private final int screenWidth;
@@ -62,8 +78,15 @@ public final class GameModelImpl implements GameModel {
 
     private final List<GameModelObserver> observers;
 
+    private final TripleBuffer<RenderSnapshotImpl> snapshots;
+    private final long[] eventTotals;
+    private long tick;
+    private final TickProfiler profiler;
+    private final RandomService random;
+
     /**
-     * Instantiates a new Game model.
+     * Instantiates a new Game model, with a profiler enabled by the system property PROFILER_PROPERTY and a random
+     * service seeded by the system property RANDOM_SEED_PROPERTY, if set.
      *
      * @param screenWidth  the screen width
      * @param screenHeight the screen height
@@ -72,23 +95,81 @@ public final class GameModelImpl implements GameModel {
             final int screenWidth,
             final int screenHeight
     ) {
+        this(screenWidth, screenHeight, new TickProfilerImpl());
+    }
+
+    /**
+     * Instantiates a new Game model, with a random service seeded by the system property RANDOM_SEED_PROPERTY,
+     * if set.
+     *
+     * @param screenWidth  the screen width
+     * @param screenHeight the screen height
+     * @param profiler     the profiler that times the stages of the game steps
+     */
+    public GameModelImpl(
+            final int screenWidth,
+            final int screenHeight,
+            final TickProfiler profiler
+    ) {
+        this(screenWidth, screenHeight, profiler, new RandomServiceImpl());
+    }
+
+    /**
+     * Instantiates a new Game model, whose scores are kept in memory only.
+     *
+     * @param screenWidth  the screen width
+     * @param screenHeight the screen height
+     * @param profiler     the profiler that times the stages of the game steps
+     * @param random       the random service shared by level generation, factory and difficulty
+     */
+    public GameModelImpl(
+            final int screenWidth,
+            final int screenHeight,
+            final TickProfiler profiler,
+            final RandomService random
+    ) {
+        this(screenWidth, screenHeight, profiler, random, ScoreStoreImpl.inMemory());
+    }
+
+    /**
+     * Instantiates a new Game model.
+     *
+     * @param screenWidth  the screen width
+     * @param screenHeight the screen height
+     * @param profiler     the profiler that times the stages of the game steps
+     * @param random       the random service shared by level generation, factory and difficulty
+     * @param scoreStore   the store the best score and the runs are kept in
+     */
+    public GameModelImpl(
+            final int screenWidth,
+            final int screenHeight,
+            final TickProfiler profiler,
+            final RandomService random,
+            final ScoreStore scoreStore
+    ) {
+        this.profiler = profiler;
+        this.random = random;
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
-        this.difficultyManager = new DifficultyManagerImpl();
-        final GameObjectFactory factory = new GameObjectFactoryImpl();
-        final RandomSpawnStrategy strategy = new RandomSpawnStrategy(factory, MIN_SPACING, MAX_SPACING, COIN_CHANCE);
+        this.difficultyManager = new DifficultyManagerImpl(random);
+        final GameObjectFactory factory = new GameObjectFactoryImpl(FACTORY_POOL_MAX_SIZE, random);
+        final RandomSpawnStrategy strategy =
+                new RandomSpawnStrategy(factory, MIN_SPACING, MAX_SPACING, COIN_CHANCE, random);
         this.physicsManager = new PhysicsManagerImpl(GRAVITY, ACCELERATION, MAX_SPEED, DECELERATION);
         this.collisionManager = new CollisionManagerImpl();
         this.spawnManager = new SpawnManagerImpl(strategy);
-        this.scoreManager = new ScoreManagerImpl();
+        this.scoreManager = new ScoreManagerImpl(scoreStore);
         this.cameraManager = new CameraManagerImpl(SCORE_FACTOR);
 
         this.isRunning = true;
 
         this.gameObject = new ArrayList<>();
+        this.entityIndex = new EntityIndexImpl();
         this.observers = new ArrayList<>();
+        this.snapshots = new TripleBufferImpl<>(RenderSnapshotImpl::new);
+        this.eventTotals = new long[RenderEvent.values().length];
 
-        this.cleanupManager = new CleanupManagerImpl();
+        this.cleanupManager = new CleanupManagerImpl(spawnManager::recycle);
 
         this.currentState = new MenuState();
         this.currentState.onEnter(this);
@@ -123,19 +204,29 @@ public final class GameModelImpl implements GameModel {
 
     /**
      * {@inheritDoc}
+     * A new run of the random service is started and its seed is logged, so that the level can be reproduced.
+     * The spawn manager is reset first, so that the level is no longer being generated when the run starts.
      */
     @Override
     public void startGame() {
+        spawnManager.reset();
+        random.startRun();
+        Logger.getLogger(GameModelImpl.class.getName()).info("Run seed: " + random.getSeed());
+        final GameObjectFactory factory = spawnManager.getFactory();
+        if (factory != null) {
+            gameObject.forEach(factory::recycle);
+        }
         gameObject.clear();
         scoreManager.reset();
         cameraManager.resetCamera();
-        spawnManager.reset();
         difficultyManager.reset();
 
         this.player = spawnManager.getFactory()
                 .createCharacter(screenWidth / CHARACTER_CREATION_WIDTH_DIV, screenHeight * CHARACTER_CREATION_HEIGHT_MUL);
         gameObject.add(player);
         spawnManager.generateInitialLevel(this);
+        entityIndex.sync(gameObject);
+        publishRenderSnapshot();
     }
 
     /**
@@ -254,6 +345,15 @@ public final class GameModelImpl implements GameModel {
         return this.gameObject;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "entityIndex is used as a getter to read")
+    @Override
+    public EntityIndex getEntityIndex() {
+        return entityIndex;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -288,6 +388,51 @@ public final class GameModelImpl implements GameModel {
         return deltaTime;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordEvent(final RenderEvent event) {
+        eventTotals[event.ordinal()]++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The snapshot is filled in the write buffer of a triple buffer, so publishing never waits for the view.
+     */
+    @Override
+    public void publishRenderSnapshot() {
+        final RenderSnapshotImpl snapshot = snapshots.getWriteBuffer();
+        snapshot.capture(this, ++tick, eventTotals);
+        snapshots.publish();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderSnapshot getRenderSnapshot() {
+        return snapshots.acquire();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "profiler is used as a getter to record and read")
+    @Override
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "random is used as a getter to draw and reseed")
+    @Override
+    public RandomService getRandomService() {
+        return random;
+    }
+
     /**
      * {@inheritDoc}
      */
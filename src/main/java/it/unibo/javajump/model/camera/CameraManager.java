@@ -26,4 +26,12 @@ public interface CameraManager {
      * @return current camera offset
      */
     float getCurrentOffset();
+
+    /**
+     * Returns the camera offset interpolated between the previous and the current one.
+     *
+     * @param alpha the fraction (0 to 1) of a simulation step elapsed since the last update
+     * @return the interpolated camera offset
+     */
+    float getInterpolatedOffset(float alpha);
 }
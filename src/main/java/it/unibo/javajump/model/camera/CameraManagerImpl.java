@@ -100,4 +100,12 @@ public class CameraManagerImpl implements CameraManager {
     public float getCurrentOffset() {
         return currentOffset;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getInterpolatedOffset(final float alpha) {
+        return previousOffset + (currentOffset - previousOffset) * alpha;
+    }
 }
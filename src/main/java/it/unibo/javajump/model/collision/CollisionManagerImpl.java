@@ -8,8 +8,10 @@ import it.unibo.javajump.model.entities.collectibles.CoinState;
 import it.unibo.javajump.model.entities.platforms.BouncePlatform;
 import it.unibo.javajump.model.entities.platforms.BreakablePlatform;
 import it.unibo.javajump.model.entities.platforms.Platform;
-
-import java.util.List;
+import it.unibo.javajump.model.entities.store.EntityIndex;
+import it.unibo.javajump.model.profiling.events.CollisionEvent;
+import it.unibo.javajump.model.profiling.events.GameEvents;
+import it.unibo.javajump.model.snapshot.RenderEvent;
 
 import static it.unibo.javajump.utility.Constants.COIN_SCORE_VALUE;
 import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
@@ -19,46 +21,45 @@ import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
  */
 public class CollisionManagerImpl implements CollisionManager {
     /**
-     * Method that checks for collisions between GameObjects and calls their
-     * respective onCollision methods. cycles through all the game objects and
-     * checks if they collide, then calls their respective handler methods.
+     * Method that checks for collisions between the player and the other GameObjects and calls their
+     * respective onCollision methods. Since only the Character triggers a collision response, the AABB check is
+     * only performed on the slice of the entity index that may overlap the player vertically (broadphase).
+     * If the Flight Recorder events are enabled, a CollisionEvent is emitted.
      *
      * @param model the GameModel
      */
     @Override
     public void checkCollisions(final GameModel model) {
+        final CollisionEvent event = GameEvents.isEnabled() ? new CollisionEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
         final Character player = model.getPlayer();
         boolean foundPlatformCollision = false;
-        final List<GameObject> objects = model.getGameObjects();
-
-        for (int i = 0; i < objects.size(); i++) {
-            final GameObject a = objects.get(i);
-            for (int j = i + 1; j < objects.size(); j++) {
-
-                final GameObject b = objects.get(j);
-                if (isColliding(a, b)) {
-                    a.onCollision(b);
-                    b.onCollision(a);
-
-                    if (a instanceof Character && b instanceof Coin) {
-                        handleCharacterCoinCollision((Coin) b, model);
-                    } else if (b instanceof Character && a instanceof Coin) {
-                        handleCharacterCoinCollision((Coin) a, model);
-                    }
-
-                    if (a instanceof Character && b instanceof Platform) {
-                        if (handleCharacterPlatformCollision((Character) a, (Platform) b)) {
-                            foundPlatformCollision = true;
-                        }
-                    } else if (b instanceof Character && a instanceof Platform
-                            && handleCharacterPlatformCollision((Character) b, (Platform) a)) {
-
-                            foundPlatformCollision = true;
-
-                    }
+        int hits = 0;
+
+        final EntityIndex index = model.getEntityIndex();
+        final int start = index.rangeStart(player.getY());
+        final int end = index.rangeEnd(player.getY() + player.getHeight());
+
+        for (int i = start; i < end; i++) {
+            final GameObject other = index.get(i);
+            if (isColliding(player, other)) {
+                hits++;
+                player.onCollision(other);
+                other.onCollision(player);
+
+                if (other instanceof Coin coin) {
+                    handleCharacterCoinCollision(coin, model);
+                } else if (other instanceof Platform platform
+                        && handleCharacterPlatformCollision(player, platform, model)) {
+                    foundPlatformCollision = true;
                 }
             }
         }
+        if (event != null) {
+            event.complete(Math.max(end - start, 0), hits);
+        }
         if (!foundPlatformCollision) {
             player.goInAir();
         }
@@ -90,6 +91,8 @@ public class CollisionManagerImpl implements CollisionManager {
         if (coin.getState() == CoinState.IDLE) {
             coin.collect();
             model.addPointsToScore(COIN_SCORE_VALUE);
+            model.getScoreManager().addCoin();
+            model.recordEvent(RenderEvent.COIN_COLLECTED);
         }
     }
 
@@ -101,9 +104,11 @@ public class CollisionManagerImpl implements CollisionManager {
      *
      * @param player   the Character, GameObject controlled by the player
      * @param platform the Platform, GameObject that the player can jump on
+     * @param model    the GameModel, which counts the event of the landing
      * @return true if the player jumps on the platform, false otherwise.
      */
-    private boolean handleCharacterPlatformCollision(final Character player, final Platform platform) {
+    private boolean handleCharacterPlatformCollision(final Character player, final Platform platform,
+                                                     final GameModel model) {
         if (player.getVelocityY() > NULL_DIRECTION) {
             final float playerOldBottom = player.getOldY() + player.getHeight();
             final float platformTop = platform.getY();
@@ -122,6 +127,11 @@ public class CollisionManagerImpl implements CollisionManager {
 
                 if (platform instanceof BreakablePlatform breakablePlatform) {
                     breakablePlatform.breakPlatform();
+                    model.recordEvent(RenderEvent.BREAKABLE_PLATFORM_BROKEN);
+                } else if (platform instanceof BouncePlatform) {
+                    model.recordEvent(RenderEvent.BOUNCE_PLATFORM_TOUCHED);
+                } else {
+                    model.recordEvent(RenderEvent.PLATFORM_TOUCHED);
                 }
             }
             return true;
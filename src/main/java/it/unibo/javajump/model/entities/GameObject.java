@@ -46,6 +46,26 @@ public interface GameObject {
      */
     void setY(float y);
 
+    /**
+     * Method that stores the current position as the previous one, called at the start of every
+     * simulation step so that the view can interpolate between two steps.
+     */
+    void savePreviousPosition();
+
+    /**
+     * Method that returns the x position of the GameObject at the start of the last simulation step.
+     *
+     * @return the previous x position of the GameObject
+     */
+    float getPreviousX();
+
+    /**
+     * Method that returns the y position of the GameObject at the start of the last simulation step.
+     *
+     * @return the previous y position of the GameObject
+     */
+    float getPreviousY();
+
     /**
      * Method that returns the width of the GameObject.
      *
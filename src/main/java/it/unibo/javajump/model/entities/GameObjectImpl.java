@@ -27,6 +27,15 @@ public abstract class GameObjectImpl implements GameObject {
      */
     protected float height;
     // CHECKSTYLE: VisibilityModifier ON
+    /**
+     * the x coordinate at the start of the last simulation step, NaN until the first step.
+     */
+    private float previousX = Float.NaN;
+    /**
+     * the y coordinate at the start of the last simulation step, NaN until the first step.
+     */
+    private float previousY = Float.NaN;
+
     /**
      * {@inheritDoc}
      */
@@ -59,6 +68,49 @@ public abstract class GameObjectImpl implements GameObject {
         this.y = y;
     }
 
+    /**
+     * Places the GameObject at a new position with a new size, forgetting its previous position.
+     * Used when a pooled GameObject is reused.
+     *
+     * @param x      the new x position
+     * @param y      the new y position
+     * @param width  the new width
+     * @param height the new height
+     */
+    protected final void place(final float x, final float y, final float width, final float height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.previousX = Float.NaN;
+        this.previousY = Float.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void savePreviousPosition() {
+        this.previousX = x;
+        this.previousY = y;
+    }
+
+    /**
+     * {@inheritDoc} If no step has been saved yet, the current x position is returned.
+     */
+    @Override
+    public float getPreviousX() {
+        return Float.isNaN(previousX) ? x : previousX;
+    }
+
+    /**
+     * {@inheritDoc} If no step has been saved yet, the current y position is returned.
+     */
+    @Override
+    public float getPreviousY() {
+        return Float.isNaN(previousY) ? y : previousY;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,11 @@ public interface Coin extends GameObject {
      */
     void attachToPlatform(Platform platform);
 
+    /**
+     * Method that detaches the coin from its platform, so that it stops following it.
+     */
+    void detachFromPlatform();
+
     /**
      * Method that returns the platform to which the coin is attached.
      *
@@ -37,4 +42,11 @@ public interface Coin extends GameObject {
      * @return the state of the coin
      */
     CoinState getState();
+
+    /**
+     * Method that returns the time spent by the coin in its current state, used to animate it.
+     *
+     * @return the time in the current state, in seconds
+     */
+    float getStateTime();
 }
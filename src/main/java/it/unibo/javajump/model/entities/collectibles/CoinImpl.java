@@ -4,6 +4,7 @@ import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.GameObjectImpl;
 import it.unibo.javajump.model.entities.platforms.Platform;
 
+import static it.unibo.javajump.utility.Constants.COIN_COLLECT_DURATION;
 import static it.unibo.javajump.utility.Constants.OFFSET_INIT;
 
 /**
@@ -23,6 +24,10 @@ public final class CoinImpl extends GameObjectImpl implements Coin {
      * Field to store the X offset.
      */
     private float offsetX;
+    /**
+     * Field to store the time spent in the current state.
+     */
+    private float stateTime;
 
     /**
      * Constructor for the CoinImpl class.
@@ -42,15 +47,35 @@ public final class CoinImpl extends GameObjectImpl implements Coin {
         this.offsetX = OFFSET_INIT;
     }
 
+    /**
+     * Resets the coin so that it can be reused from a pool: it goes back to IDLE and is detached from its platform.
+     *
+     * @param x      the x-coordinate of the coin
+     * @param y      the y-coordinate of the coin
+     * @param width  the width of the coin
+     * @param height the height of the coin
+     */
+    public void reset(final float x, final float y, final float width, final float height) {
+        place(x, y, width, height);
+        this.state = CoinState.IDLE;
+        this.stateTime = 0;
+        detachFromPlatform();
+    }
+
     /**
      * {@inheritDoc}
      * In this case, if the Coin is attached to a platform, the coin moves with the platform during gameplay.
+     * The time in the current state is advanced, and a collected coin is finished once its animation is over.
      */
     @Override
     public void update(final float deltaTime) {
         if (attachedPlatform != null) {
             this.x = attachedPlatform.getX() + offsetX;
         }
+        stateTime += deltaTime;
+        if (state == CoinState.COLLECTING && stateTime >= COIN_COLLECT_DURATION) {
+            markAsDone();
+        }
     }
 
     /**
@@ -68,6 +93,14 @@ public final class CoinImpl extends GameObjectImpl implements Coin {
         return this.state;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getStateTime() {
+        return stateTime;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -75,6 +108,7 @@ public final class CoinImpl extends GameObjectImpl implements Coin {
     public void collect() {
         if (this.state == CoinState.IDLE) {
             this.state = CoinState.COLLECTING;
+            this.stateTime = 0;
         }
     }
 
@@ -84,6 +118,7 @@ public final class CoinImpl extends GameObjectImpl implements Coin {
     @Override
     public void markAsDone() {
         this.state = CoinState.FINISHED;
+        this.stateTime = 0;
     }
 
     /**
@@ -102,4 +137,13 @@ public final class CoinImpl extends GameObjectImpl implements Coin {
         this.attachedPlatform = platform;
         this.offsetX = this.x - platform.getX();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void detachFromPlatform() {
+        this.attachedPlatform = null;
+        this.offsetX = OFFSET_INIT;
+    }
 }
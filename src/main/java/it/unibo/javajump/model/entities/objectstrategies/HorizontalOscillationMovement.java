@@ -8,9 +8,9 @@ import it.unibo.javajump.model.entities.GameObject;
  */
 public final class HorizontalOscillationMovement implements MovementBehaviour {
 
-    private final float minX;
-    private final float maxX;
-    private final float speed;
+    private float minX;
+    private float maxX;
+    private float speed;
     private boolean goingRight;
 
     /**
@@ -27,6 +27,20 @@ public final class HorizontalOscillationMovement implements MovementBehaviour {
         this.goingRight = true;
     }
 
+    /**
+     * Resets the movement with new bounds and speed, so that it can be reused.
+     *
+     * @param minX  the min x
+     * @param maxX  the max x
+     * @param speed the speed
+     */
+    public void reset(final float minX, final float maxX, final float speed) {
+        this.minX = minX;
+        this.maxX = maxX;
+        this.speed = speed;
+        this.goingRight = true;
+    }
+
     /**
      * {@inheritDoc} In the implementation of this method, the current X is updated in a direction
      * that oscillates between min and max X, while specifying if it is going right or left.
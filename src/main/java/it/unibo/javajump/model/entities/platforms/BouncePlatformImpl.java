@@ -4,7 +4,7 @@ package it.unibo.javajump.model.entities.platforms;
  * The type Bounce platform.
  */
 public final class BouncePlatformImpl extends PlatformImpl implements BouncePlatform {
-    private final float bounceFactor;
+    private float bounceFactor;
 
     /**
      * Instantiates a new Bounce platform.
@@ -20,6 +20,20 @@ public final class BouncePlatformImpl extends PlatformImpl implements BouncePlat
         this.bounceFactor = bounceFactor;
     }
 
+    /**
+     * Resets the bounce platform so that it can be reused from a pool.
+     *
+     * @param x            the x
+     * @param y            the y
+     * @param width        the width
+     * @param height       the height
+     * @param bounceFactor the bounce factor
+     */
+    public void reset(final float x, final float y, final float width, final float height, final float bounceFactor) {
+        reset(x, y, width, height);
+        this.bounceFactor = bounceFactor;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -27,8 +41,4 @@ public final class BouncePlatformImpl extends PlatformImpl implements BouncePlat
     public float getBounceFactor() {
         return bounceFactor;
     }
-
-
-
-
 }
@@ -23,6 +23,27 @@ public final class BreakablePlatformImpl extends PlatformImpl implements Breakab
         this.finished = false;
     }
 
+    /**
+     * {@inheritDoc} The platform is also repaired.
+     */
+    @Override
+    public void reset(final float x, final float y, final float width, final float height) {
+        super.reset(x, y, width, height);
+        this.broken = false;
+        this.finished = false;
+    }
+
+    /**
+     * {@inheritDoc} A broken platform is finished at the step after it was broken, so that it is then removed.
+     */
+    @Override
+    public void update(final float deltaTime) {
+        super.update(deltaTime);
+        if (broken) {
+            setFinished();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
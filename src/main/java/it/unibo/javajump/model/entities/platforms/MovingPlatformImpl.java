@@ -1,7 +1,6 @@
 package it.unibo.javajump.model.entities.platforms;
 
 import it.unibo.javajump.model.entities.objectstrategies.HorizontalOscillationMovement;
-import it.unibo.javajump.model.entities.objectstrategies.MovementBehaviour;
 
 import static it.unibo.javajump.utility.Constants.NULL_PLATFORM_VELOCITY;
 
@@ -10,7 +9,7 @@ import static it.unibo.javajump.utility.Constants.NULL_PLATFORM_VELOCITY;
  */
 public final class MovingPlatformImpl extends PlatformImpl implements MovingPlatform {
 
-    private final MovementBehaviour movementBehaviour;
+    private final HorizontalOscillationMovement movementBehaviour;
 
     /**
      * Instantiates a new Moving platform. If the platform is out of bounds, it stops and changes direction,
@@ -28,6 +27,36 @@ public final class MovingPlatformImpl extends PlatformImpl implements MovingPlat
                               final float range, final float screenWidth, final float speed) {
 
         super(xx, y, width, height);
+        this.movementBehaviour = new HorizontalOscillationMovement(NULL_PLATFORM_VELOCITY, NULL_PLATFORM_VELOCITY, speed);
+        configureMovement(xx, range, screenWidth, speed);
+    }
+
+    /**
+     * Resets the moving platform so that it can be reused from a pool, with the same rules of the constructor.
+     *
+     * @param xx          the xx position
+     * @param y           the y position
+     * @param width       the width of the platform
+     * @param height      the height of the platform
+     * @param range       the range in which the platform oscillates
+     * @param screenWidth the screen width, to keep the platform in bounds
+     * @param speed       the movement speed
+     */
+    public void reset(final float xx, final float y, final float width, final float height,
+                      final float range, final float screenWidth, final float speed) {
+        reset(xx, y, width, height);
+        configureMovement(xx, range, screenWidth, speed);
+    }
+
+    /**
+     * Keeps the platform in bounds and sets the oscillation range accordingly.
+     *
+     * @param xx          the xx position
+     * @param range       the range in which the platform oscillates
+     * @param screenWidth the screen width, to keep the platform in bounds
+     * @param speed       the movement speed
+     */
+    private void configureMovement(final float xx, final float range, final float screenWidth, final float speed) {
         float x = xx;
         if (x < NULL_PLATFORM_VELOCITY) {
             x = NULL_PLATFORM_VELOCITY;
@@ -46,7 +75,7 @@ public final class MovingPlatformImpl extends PlatformImpl implements MovingPlat
             potentialMax = screenWidth - width;
         }
 
-        this.movementBehaviour = new HorizontalOscillationMovement(potentialMin, potentialMax, speed);
+        movementBehaviour.reset(potentialMin, potentialMax, speed);
     }
 
     /**
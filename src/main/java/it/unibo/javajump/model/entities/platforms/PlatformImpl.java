@@ -25,6 +25,19 @@ public class PlatformImpl extends GameObjectImpl implements Platform {
         this.touched = false;
     }
 
+    /**
+     * Resets the platform so that it can be reused from a pool.
+     *
+     * @param x      the x position
+     * @param y      the y position
+     * @param width  the width
+     * @param height the height
+     */
+    public void reset(final float x, final float y, final float width, final float height) {
+        place(x, y, width, height);
+        this.touched = false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -46,10 +59,11 @@ public class PlatformImpl extends GameObjectImpl implements Platform {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} The touched flag is cleared, so that it only marks the step the platform was touched in.
      */
     @Override
     public void update(final float deltaTime) {
+        consumeTouched();
     }
 
     /**
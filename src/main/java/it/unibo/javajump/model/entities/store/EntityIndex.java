@@ -0,0 +1,70 @@
+package it.unibo.javajump.model.entities.store;
+
+import it.unibo.javajump.model.entities.GameObject;
+
+import java.util.List;
+
+/**
+ * Interface that describes an index of the GameObjects ordered by their y position, used to cull the objects
+ * outside a vertical window (usually the camera window plus a margin) before updating, colliding or drawing them.
+ * The playable character is not part of the index, since it is always handled on its own.
+ * The index is kept up to date as the level changes, with add and remove, so that its cost per step does not depend
+ * on the size of the level; the y of an indexed object must not change. Entities are addressed by index, valid until
+ * the next change. The index is only used by the model thread: the view draws the copies published in the render
+ * snapshots.
+ */
+public interface EntityIndex {
+    /**
+     * Refills the index from the given GameObjects, for example when a new level is generated.
+     *
+     * @param objects the GameObjects of the model
+     */
+    void sync(List<GameObject> objects);
+
+    /**
+     * Adds a GameObject to the index, keeping the order of y. Adding an object above all the others, as the
+     * spawned ones are, takes constant time.
+     *
+     * @param go the GameObject, ignored if it is the playable character
+     */
+    void add(GameObject go);
+
+    /**
+     * Removes a GameObject from the index. Removing an object below all the others, as the cleaned up ones are,
+     * takes constant time.
+     *
+     * @param go the GameObject, ignored if it is not in the index
+     */
+    void remove(GameObject go);
+
+    /**
+     * Returns the number of entities in the index.
+     *
+     * @return the number of entities
+     */
+    int size();
+
+    /**
+     * Returns the entity at the given position, in order of y.
+     *
+     * @param index the entity index
+     * @return the GameObject
+     */
+    GameObject get(int index);
+
+    /**
+     * Returns the index of the first entity that may overlap a window with the given top.
+     *
+     * @param top the top of the window
+     * @return the first index
+     */
+    int rangeStart(float top);
+
+    /**
+     * Returns the index after the last entity that may overlap a window with the given bottom.
+     *
+     * @param bottom the bottom of the window
+     * @return the end index (exclusive)
+     */
+    int rangeEnd(float bottom);
+}
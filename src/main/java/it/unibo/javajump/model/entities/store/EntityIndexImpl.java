@@ -0,0 +1,212 @@
+package it.unibo.javajump.model.entities.store;
+
+import it.unibo.javajump.model.entities.GameObject;
+import it.unibo.javajump.model.entities.character.Character;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static it.unibo.javajump.utility.Constants.ENTITY_INDEX_INITIAL_CAPACITY;
+
+/**
+ * Implementation of the EntityIndex interface. The entities are kept in the middle of the arrays, between head and
+ * head + size, with free room on both sides: the level is spawned upwards and removed from the bottom, so new
+ * objects are added at the head and cleaned up ones are removed at the tail, each in constant time, and only the
+ * entities between the updated position and the nearest end are moved otherwise.
+ * When one side is full the entities are moved back to the middle, growing the arrays if they are more than a third
+ * full, so the arrays are never shrunk and maintaining the index does not allocate once the level has reached its
+ * usual size.
+ */
+public final class EntityIndexImpl implements EntityIndex {
+    private static final int ROOM_FACTOR = 3;
+
+    private GameObject[] objects;
+    private float[] ys;
+    private int head;
+    private int size;
+    /**
+     * The height of the tallest object added since the last sync, used to extend the windows upwards.
+     */
+    private float maxObjectHeight;
+
+    /**
+     * Instantiates a new, empty, Entity index.
+     */
+    public EntityIndexImpl() {
+        objects = new GameObject[ENTITY_INDEX_INITIAL_CAPACITY];
+        ys = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+        head = ENTITY_INDEX_INITIAL_CAPACITY / 2;
+    }
+
+    /**
+     * {@inheritDoc} The GameObjects are spawned upwards, so reading the list backwards gives an almost sorted
+     * sequence, that an insertion sort orders in nearly linear time.
+     */
+    @Override
+    public void sync(final List<GameObject> source) {
+        Arrays.fill(objects, head, head + size, null);
+        size = 0;
+        maxObjectHeight = 0;
+        if (source.size() * ROOM_FACTOR > objects.length) {
+            objects = new GameObject[source.size() * ROOM_FACTOR];
+            ys = new float[objects.length];
+        }
+        head = (objects.length - source.size()) / 2;
+        for (int i = source.size() - 1; i >= 0; i--) {
+            final GameObject go = source.get(i);
+            if (!(go instanceof Character)) {
+                append(go);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final GameObject go) {
+        if (go instanceof Character) {
+            return;
+        }
+        final int position = firstGreater(go.getY(), true);
+        if (position < size - position) {
+            if (head == 0) {
+                recenter();
+            }
+            System.arraycopy(objects, head, objects, head - 1, position);
+            System.arraycopy(ys, head, ys, head - 1, position);
+            head--;
+        } else {
+            if (head + size == objects.length) {
+                recenter();
+            }
+            System.arraycopy(objects, head + position, objects, head + position + 1, size - position);
+            System.arraycopy(ys, head + position, ys, head + position + 1, size - position);
+        }
+        objects[head + position] = go;
+        ys[head + position] = go.getY();
+        size++;
+        maxObjectHeight = Math.max(maxObjectHeight, go.getHeight());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final GameObject go) {
+        int position = firstGreater(go.getY(), false);
+        while (position < size && objects[head + position] != go && ys[head + position] == go.getY()) {
+            position++;
+        }
+        if (position == size || objects[head + position] != go) {
+            return;
+        }
+        if (position < size - position) {
+            System.arraycopy(objects, head, objects, head + 1, position);
+            System.arraycopy(ys, head, ys, head + 1, position);
+            objects[head] = null;
+            head++;
+        } else {
+            System.arraycopy(objects, head + position + 1, objects, head + position, size - position - 1);
+            System.arraycopy(ys, head + position + 1, ys, head + position, size - position - 1);
+            objects[head + size - 1] = null;
+        }
+        size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameObject get(final int index) {
+        return objects[head + index];
+    }
+
+    /**
+     * {@inheritDoc} Since objects are ordered by their top edge, the window is extended upwards by the height of
+     * the tallest object, so that objects starting above the window but reaching into it are included.
+     */
+    @Override
+    public int rangeStart(final float top) {
+        return firstGreater(top - maxObjectHeight, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int rangeEnd(final float bottom) {
+        return firstGreater(bottom, true);
+    }
+
+    /**
+     * Inserts a GameObject during a sync, keeping the order of y, starting the search from the tail.
+     *
+     * @param go the GameObject
+     */
+    private void append(final GameObject go) {
+        final float y = go.getY();
+        int i = head + size;
+        while (i > head && ys[i - 1] > y) {
+            objects[i] = objects[i - 1];
+            ys[i] = ys[i - 1];
+            i--;
+        }
+        objects[i] = go;
+        ys[i] = y;
+        size++;
+        maxObjectHeight = Math.max(maxObjectHeight, go.getHeight());
+    }
+
+    /**
+     * Moves the entities back to the middle of the arrays, growing them if there would be less room on each side
+     * than the entities themselves.
+     */
+    private void recenter() {
+        final int capacity = Math.max(objects.length, (size + 1) * ROOM_FACTOR);
+        final GameObject[] newObjects = capacity == objects.length ? objects : new GameObject[capacity];
+        final float[] newYs = capacity == ys.length ? ys : new float[capacity];
+        final int newHead = (capacity - size) / 2;
+        System.arraycopy(objects, head, newObjects, newHead, size);
+        System.arraycopy(ys, head, newYs, newHead, size);
+        if (newObjects == objects) {
+            if (newHead > head) {
+                Arrays.fill(objects, head, Math.min(newHead, head + size), null);
+            } else {
+                Arrays.fill(objects, Math.max(newHead + size, head), head + size, null);
+            }
+        }
+        objects = newObjects;
+        ys = newYs;
+        head = newHead;
+    }
+
+    /**
+     * Binary search of the first entity whose y is greater than (or, if not strict, equal to) the given value.
+     *
+     * @param y      the value
+     * @param strict true to also skip the entities with exactly the given y
+     * @return the index of the first such entity, or size if there are none
+     */
+    private int firstGreater(final float y, final boolean strict) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (strict ? ys[head + mid] <= y : ys[head + mid] < y) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
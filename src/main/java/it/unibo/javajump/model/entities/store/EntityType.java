@@ -0,0 +1,89 @@
+package it.unibo.javajump.model.entities.store;
+
+import it.unibo.javajump.model.entities.GameObject;
+import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.entities.collectibles.Coin;
+import it.unibo.javajump.model.entities.platforms.BouncePlatform;
+import it.unibo.javajump.model.entities.platforms.BreakablePlatform;
+import it.unibo.javajump.model.entities.platforms.MovingPlatform;
+
+/**
+ * Enum that represents the type tag of a GameObject, as copied in the render snapshots.
+ */
+public enum EntityType {
+    /**
+     * The playable character.
+     */
+    CHARACTER,
+    /**
+     * A standard (or random-width) platform.
+     */
+    PLATFORM,
+    /**
+     * A moving platform.
+     */
+    MOVING_PLATFORM,
+    /**
+     * A breakable platform.
+     */
+    BREAKABLE_PLATFORM,
+    /**
+     * A bounce platform.
+     */
+    BOUNCE_PLATFORM,
+    /**
+     * A collectible coin.
+     */
+    COIN;
+
+    private static final EntityType[] VALUES = values();
+
+    /**
+     * Returns the compact tag of this type.
+     *
+     * @return the tag
+     */
+    public byte getTag() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Returns the type corresponding to a tag.
+     *
+     * @param tag the tag
+     * @return the entity type
+     */
+    public static EntityType fromTag(final byte tag) {
+        return VALUES[tag];
+    }
+
+    /**
+     * Returns the number of entity types.
+     *
+     * @return the number of types
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * Returns the type of a GameObject.
+     *
+     * @param go the GameObject
+     * @return the entity type
+     */
+    public static EntityType of(final GameObject go) {
+        if (go instanceof Character) {
+            return CHARACTER;
+        } else if (go instanceof Coin) {
+            return COIN;
+        } else if (go instanceof MovingPlatform) {
+            return MOVING_PLATFORM;
+        } else if (go instanceof BreakablePlatform) {
+            return BREAKABLE_PLATFORM;
+        } else if (go instanceof BouncePlatform) {
+            return BOUNCE_PLATFORM;
+        }
+        return PLATFORM;
+    }
+}
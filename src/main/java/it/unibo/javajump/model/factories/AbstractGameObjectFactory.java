@@ -1,5 +1,6 @@
 package it.unibo.javajump.model.factories;
 
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.character.Character;
 import it.unibo.javajump.model.entities.collectibles.Coin;
 import it.unibo.javajump.model.entities.platforms.BouncePlatform;
@@ -32,4 +33,7 @@ public abstract class AbstractGameObjectFactory implements GameObjectFactory {
 
     @Override
     public abstract Coin createCoin(float x, float y);
+
+    @Override
+    public abstract void recycle(GameObject gameObject);
 }
@@ -1,5 +1,6 @@
 package it.unibo.javajump.model.factories;
 
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.character.Character;
 import it.unibo.javajump.model.entities.collectibles.Coin;
 import it.unibo.javajump.model.entities.platforms.Platform;
@@ -79,4 +80,33 @@ public interface GameObjectFactory {
      * @return the coin
      */
     Coin createCoin(float x, float y);
+
+    /**
+     * Method to give back a GameObject that has been removed from the game, so that it can be reused
+     * by a later creation of the same kind. Factories that do not pool objects ignore it.
+     *
+     * @param gameObject the removed GameObject, that must not be used by the caller anymore
+     */
+    void recycle(GameObject gameObject);
+
+    /**
+     * Gets the number of GameObjects currently waiting in the pool.
+     *
+     * @return the pool size
+     */
+    int getPooledCount();
+
+    /**
+     * Gets the number of GameObjects allocated by the factory.
+     *
+     * @return the number of allocations
+     */
+    long getCreatedCount();
+
+    /**
+     * Gets the number of GameObjects taken from the pool instead of being allocated.
+     *
+     * @return the number of reuses
+     */
+    long getReusedCount();
 }
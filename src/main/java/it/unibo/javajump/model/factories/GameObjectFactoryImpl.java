@@ -1,5 +1,6 @@
 package it.unibo.javajump.model.factories;
 
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.character.Character;
 import it.unibo.javajump.model.entities.character.CharacterImpl;
 import it.unibo.javajump.model.entities.collectibles.Coin;
@@ -12,8 +13,13 @@ import it.unibo.javajump.model.entities.platforms.MovingPlatform;
 import it.unibo.javajump.model.entities.platforms.MovingPlatformImpl;
 import it.unibo.javajump.model.entities.platforms.Platform;
 import it.unibo.javajump.model.entities.platforms.PlatformImpl;
+import it.unibo.javajump.model.random.RandomService;
+import it.unibo.javajump.model.random.RandomServiceImpl;
+import it.unibo.javajump.model.random.RandomStream;
 
-import java.util.Random;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.random.RandomGenerator;
 
 import static it.unibo.javajump.utility.Constants.BOUNCE_PLATFORM_RNG_FACTOR;
 import static it.unibo.javajump.utility.Constants.BOUNCE_PLATFORM_WIDTH;
@@ -24,6 +30,7 @@ import static it.unibo.javajump.utility.Constants.CHARACTER_JUMP_FORCE;
 import static it.unibo.javajump.utility.Constants.CHARACTER_WIDTH;
 import static it.unibo.javajump.utility.Constants.COIN_HEIGHT;
 import static it.unibo.javajump.utility.Constants.COIN_WIDTH;
+import static it.unibo.javajump.utility.Constants.FACTORY_POOL_MAX_SIZE;
 import static it.unibo.javajump.utility.Constants.MOVING_PLATFORM_RANGE;
 import static it.unibo.javajump.utility.Constants.MOVING_PLATFORM_RANGE_RNG_FACTOR;
 import static it.unibo.javajump.utility.Constants.MOVING_PLATFORM_SPEED;
@@ -37,15 +44,58 @@ import static it.unibo.javajump.utility.Constants.STANDARD_PLATFORM_WIDTH;
 
 /**
  * The implementation of GameObjectFactory, implementing the AbstractGameObjectFactory.
+ * In pooled mode (maxPoolSize greater than zero), the recycled platforms and coins are kept in a pool for each
+ * type, and the creation methods reset and return a pooled object before allocating a new one.
+ * The public methods are synchronized, since the level is generated ahead of time on another thread while the
+ * game loop recycles the objects it removes.
  */
 public final class GameObjectFactoryImpl extends AbstractGameObjectFactory {
-    private final Random rand = new Random();
+    private final RandomService random;
+    private final int maxPoolSize;
+    private final Deque<PlatformImpl> platformPool = new ArrayDeque<>();
+    private final Deque<MovingPlatformImpl> movingPlatformPool = new ArrayDeque<>();
+    private final Deque<BreakablePlatformImpl> breakablePlatformPool = new ArrayDeque<>();
+    private final Deque<BouncePlatformImpl> bouncePlatformPool = new ArrayDeque<>();
+    private final Deque<CoinImpl> coinPool = new ArrayDeque<>();
+    private long createdCount;
+    private long reusedCount;
+
+    /**
+     * Instantiates a new pooled Game object factory, with the default maximum pool size and its own random service.
+     */
+    public GameObjectFactoryImpl() {
+        this(FACTORY_POOL_MAX_SIZE);
+    }
+
+    /**
+     * Instantiates a new Game object factory, with its own random service.
+     *
+     * @param maxPoolSize the maximum number of recycled objects kept for each type, 0 to disable pooling
+     */
+    public GameObjectFactoryImpl(final int maxPoolSize) {
+        this(maxPoolSize, new RandomServiceImpl());
+    }
+
+    /**
+     * Instantiates a new Game object factory.
+     *
+     * @param maxPoolSize the maximum number of recycled objects kept for each type, 0 to disable pooling
+     * @param random      the random service, whose FACTORY stream sizes the objects
+     */
+    public GameObjectFactoryImpl(final int maxPoolSize, final RandomService random) {
+        if (maxPoolSize < 0) {
+            throw new IllegalArgumentException("Pool size cannot be negative");
+        }
+        this.maxPoolSize = maxPoolSize;
+        this.random = random;
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Character createCharacter(final float x, final float y) {
+    public synchronized Character createCharacter(final float x, final float y) {
+        createdCount++;
         return new CharacterImpl(x, y, CHARACTER_WIDTH, CHARACTER_HEIGHT, CHARACTER_JUMP_FORCE);
     }
 
@@ -53,27 +103,36 @@ public final class GameObjectFactoryImpl extends AbstractGameObjectFactory {
      * {@inheritDoc} The standard platform is simple: it has a fixed width.
      */
     @Override
-    public Platform createStandardPlatform(final float x, final float y) {
-        return new PlatformImpl(x, y, STANDARD_PLATFORM_WIDTH, PLATFORM_HEIGHT);
+    public synchronized Platform createStandardPlatform(final float x, final float y) {
+        return obtainPlatform(x, y, STANDARD_PLATFORM_WIDTH);
     }
 
     /**
      * {@inheritDoc} The random-width platform uses an RNG factor to choose a semi-random width.
      */
     @Override
-    public Platform createRandomPlatform(final float x, final float y) {
-        final float width = RANDOM_PLATFORM_WIDTH + rand.nextInt(RANDOM_PLATFORM_RNG_FACTOR);
-        return new PlatformImpl(x, y, width, PLATFORM_HEIGHT);
+    public synchronized Platform createRandomPlatform(final float x, final float y) {
+        final float width = RANDOM_PLATFORM_WIDTH
+                + random.get(RandomStream.FACTORY).nextInt(RANDOM_PLATFORM_RNG_FACTOR);
+        return obtainPlatform(x, y, width);
     }
 
     /**
      * {@inheritDoc} The moving platform uses RNG factors to set its width, range of movement and speed.
      */
     @Override
-    public MovingPlatform createMovingPlatform(final float x, final float y, final int screenWidth) {
+    public synchronized MovingPlatform createMovingPlatform(final float x, final float y, final int screenWidth) {
+        final RandomGenerator rand = random.get(RandomStream.FACTORY);
         final float width = MOVING_PLATFORM_WIDTH + rand.nextInt(MOVING_PLATFORM_WIDTH_RNG_FACTOR);
         final float range = MOVING_PLATFORM_RANGE + rand.nextFloat() * MOVING_PLATFORM_RANGE_RNG_FACTOR;
         final float speed = MOVING_PLATFORM_SPEED + rand.nextInt(MOVING_PLATFORM_SPEED_RNG_FACTOR);
+        final MovingPlatformImpl pooled = movingPlatformPool.pollFirst();
+        if (pooled != null) {
+            reusedCount++;
+            pooled.reset(x, y, width, PLATFORM_HEIGHT, range, screenWidth, speed);
+            return pooled;
+        }
+        createdCount++;
         return new MovingPlatformImpl(x, y, width, PLATFORM_HEIGHT, range, screenWidth, speed);
     }
 
@@ -81,8 +140,16 @@ public final class GameObjectFactoryImpl extends AbstractGameObjectFactory {
      * {@inheritDoc} The breakable platform uses RNG factors to set its width.
      */
     @Override
-    public BreakablePlatform createBreakablePlatform(final float x, final float y) {
-        final float width = BREAKABLE_PLATFORM_WIDTH + rand.nextInt(BREAKABLE_PLATFORM_RNG_FACTOR);
+    public synchronized BreakablePlatform createBreakablePlatform(final float x, final float y) {
+        final float width = BREAKABLE_PLATFORM_WIDTH
+                + random.get(RandomStream.FACTORY).nextInt(BREAKABLE_PLATFORM_RNG_FACTOR);
+        final BreakablePlatformImpl pooled = breakablePlatformPool.pollFirst();
+        if (pooled != null) {
+            reusedCount++;
+            pooled.reset(x, y, width, PLATFORM_HEIGHT);
+            return pooled;
+        }
+        createdCount++;
         return new BreakablePlatformImpl(x, y, width, PLATFORM_HEIGHT);
     }
 
@@ -90,8 +157,16 @@ public final class GameObjectFactoryImpl extends AbstractGameObjectFactory {
      * {@inheritDoc} The bounce platform uses RNG factors to set its width.
      */
     @Override
-    public BouncePlatform createBouncePlatform(final float x, final float y, final float bounceFactor) {
-        final float width = BOUNCE_PLATFORM_WIDTH + rand.nextInt(BOUNCE_PLATFORM_RNG_FACTOR);
+    public synchronized BouncePlatform createBouncePlatform(final float x, final float y, final float bounceFactor) {
+        final float width = BOUNCE_PLATFORM_WIDTH
+                + random.get(RandomStream.FACTORY).nextInt(BOUNCE_PLATFORM_RNG_FACTOR);
+        final BouncePlatformImpl pooled = bouncePlatformPool.pollFirst();
+        if (pooled != null) {
+            reusedCount++;
+            pooled.reset(x, y, width, PLATFORM_HEIGHT, bounceFactor);
+            return pooled;
+        }
+        createdCount++;
         return new BouncePlatformImpl(x, y, width, PLATFORM_HEIGHT, bounceFactor);
     }
 
@@ -99,7 +174,87 @@ public final class GameObjectFactoryImpl extends AbstractGameObjectFactory {
      * {@inheritDoc}
      */
     @Override
-    public Coin createCoin(final float x, final float y) {
+    public synchronized Coin createCoin(final float x, final float y) {
+        final CoinImpl pooled = coinPool.pollFirst();
+        if (pooled != null) {
+            reusedCount++;
+            pooled.reset(x, y, COIN_WIDTH, COIN_HEIGHT);
+            return pooled;
+        }
+        createdCount++;
         return new CoinImpl(x, y, COIN_WIDTH, COIN_HEIGHT);
     }
+
+    /**
+     * {@inheritDoc} The GameObject is added to the pool of its type, unless pooling is disabled or the pool is full.
+     * Characters are never pooled.
+     */
+    @Override
+    public synchronized void recycle(final GameObject gameObject) {
+        switch (gameObject) {
+            case MovingPlatformImpl mp -> offer(movingPlatformPool, mp);
+            case BreakablePlatformImpl bp -> offer(breakablePlatformPool, bp);
+            case BouncePlatformImpl bp -> offer(bouncePlatformPool, bp);
+            case PlatformImpl p -> offer(platformPool, p);
+            case CoinImpl c -> offer(coinPool, c);
+            default -> { }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getPooledCount() {
+        return platformPool.size() + movingPlatformPool.size() + breakablePlatformPool.size()
+                + bouncePlatformPool.size() + coinPool.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * Returns a plain platform, reusing a pooled one if available.
+     *
+     * @param x     the x position
+     * @param y     the y position
+     * @param width the width
+     * @return the platform
+     */
+    private Platform obtainPlatform(final float x, final float y, final float width) {
+        final PlatformImpl pooled = platformPool.pollFirst();
+        if (pooled != null) {
+            reusedCount++;
+            pooled.reset(x, y, width, PLATFORM_HEIGHT);
+            return pooled;
+        }
+        createdCount++;
+        return new PlatformImpl(x, y, width, PLATFORM_HEIGHT);
+    }
+
+    /**
+     * Adds an object to a pool, if it is not full.
+     *
+     * @param pool       the pool
+     * @param gameObject the object to add
+     * @param <T>        the type of pooled objects
+     */
+    private <T extends GameObject> void offer(final Deque<T> pool, final T gameObject) {
+        if (pool.size() < maxPoolSize) {
+            pool.addLast(gameObject);
+        }
+    }
 }
@@ -5,9 +5,11 @@ import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.collectibles.Coin;
 import it.unibo.javajump.model.entities.collectibles.CoinState;
 import it.unibo.javajump.model.entities.platforms.BreakablePlatform;
+import it.unibo.javajump.model.profiling.events.CleanupEvent;
+import it.unibo.javajump.model.profiling.events.GameEvents;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static it.unibo.javajump.utility.Constants.CLEAN_UP_MARGIN_OFFSET;
 
@@ -16,35 +18,82 @@ import static it.unibo.javajump.utility.Constants.CLEAN_UP_MARGIN_OFFSET;
  */
 public final class CleanupManagerImpl implements CleanupManager {
 
+    private final Consumer<GameObject> removalCallback;
+
+    /**
+     * Instantiates a new Cleanup manager, that simply discards the removed GameObjects.
+     */
+    public CleanupManagerImpl() {
+        this(go -> { });
+    }
+
+    /**
+     * Instantiates a new Cleanup manager.
+     *
+     * @param removalCallback the callback invoked on every removed GameObject, for example to return it to a pool
+     */
+    public CleanupManagerImpl(final Consumer<GameObject> removalCallback) {
+        this.removalCallback = removalCallback;
+    }
+
     /**
      * {@inheritDoc} The method checks the position of the GameObjects and removes them if they are out of the screen.
-     * In case of Coin, if the Coin is in FINISHED state, it can be removed. The removal of all object is handled
-     * safely, with a safe copy of the GameObjects list to remove, and then removing them.
+     * In case of Coin, if the Coin is in FINISHED state, it can be removed. The removal is done in place with a single
+     * pass, that moves the kept GameObjects toward the head of the list, preserving their order, and then truncates
+     * the tail, so that no memory is allocated. Every removed GameObject is removed from the entity index of the model
+     * and passed to the removal callback, while a kept Coin is detached from its platform when the platform is
+     * removed. If the Flight Recorder events are enabled, a CleanupEvent is emitted.
      */
     @Override
     public void cleanupObjects(final GameModel model) {
-        final List<GameObject> toRemove = new ArrayList<>();
-
-        final float cameraOffset = model.getCameraManager().getCurrentOffset();
-        final float screenH = model.getScreenHeight();
+        final CleanupEvent event = GameEvents.isEnabled() ? new CleanupEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        final List<GameObject> objects = model.getGameObjects();
+        final int total = objects.size();
+        final float removalY = model.getCameraManager().getCurrentOffset() + model.getScreenHeight()
+                + CLEAN_UP_MARGIN_OFFSET;
 
-        for (final GameObject go : model.getGameObjects()) {
-            if (go instanceof Coin c && c.getState() == CoinState.FINISHED) {
-                    toRemove.add(c);
-                    continue;
+        int kept = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            final GameObject go = objects.get(i);
+            if (shouldRemove(go, removalY)) {
+                model.getEntityIndex().remove(go);
+                removalCallback.accept(go);
+                continue;
             }
-
-            if (go instanceof BreakablePlatform bp && bp.isBroken() && bp.isFinished()) {
-                    toRemove.add(bp);
-                    continue;
+            if (go instanceof Coin c && c.getAttachedPlatform() != null
+                    && shouldRemove(c.getAttachedPlatform(), removalY)) {
+                c.detachFromPlatform();
             }
-
-            final float drawY = go.getY() - cameraOffset;
-            if (drawY > screenH + CLEAN_UP_MARGIN_OFFSET) {
-                toRemove.add(go);
+            if (kept != i) {
+                objects.set(kept, go);
             }
+            kept++;
+        }
+        for (int i = objects.size() - 1; i >= kept; i--) {
+            objects.remove(i);
+        }
+        if (event != null) {
+            event.complete(total - kept, kept);
+        }
+    }
 
+    /**
+     * Private method to check if a GameObject has to be removed.
+     *
+     * @param go        the GameObject
+     * @param removalY  the y below which the GameObjects are out of the screen
+     * @return true if the GameObject is finished or out of the screen
+     */
+    private boolean shouldRemove(final GameObject go, final float removalY) {
+        if (go instanceof Coin c && c.getState() == CoinState.FINISHED) {
+            return true;
+        }
+        if (go instanceof BreakablePlatform bp && bp.isBroken() && bp.isFinished()) {
+            return true;
         }
-        model.getGameObjects().removeAll(toRemove);
+        return go.getY() > removalY;
     }
 }
@@ -0,0 +1,43 @@
+package it.unibo.javajump.model.level;
+
+import it.unibo.javajump.model.entities.GameObject;
+
+import java.util.List;
+
+/**
+ * A batch of the level generated ahead of time: the created objects, not yet added to the model,
+ * and the quote of its top platform.
+ */
+final class LevelChunk {
+    private final List<GameObject> gameObjects;
+    private final float topY;
+
+    /**
+     * Constructor for the LevelChunk class.
+     *
+     * @param gameObjects the created objects
+     * @param topY        the quote of the top platform
+     */
+    LevelChunk(final List<GameObject> gameObjects, final float topY) {
+        this.gameObjects = gameObjects;
+        this.topY = topY;
+    }
+
+    /**
+     * Getter for the created objects.
+     *
+     * @return the objects, owned by the chunk until they are added to the model
+     */
+    List<GameObject> getGameObjects() {
+        return gameObjects;
+    }
+
+    /**
+     * Getter for the quote of the top platform.
+     *
+     * @return the quote of the top platform
+     */
+    float getTopY() {
+        return topY;
+    }
+}
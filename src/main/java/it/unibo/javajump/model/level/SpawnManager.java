@@ -1,6 +1,7 @@
 package it.unibo.javajump.model.level;
 
 import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.factories.GameObjectFactory;
 import it.unibo.javajump.model.level.spawn.SpawnStrategy;
 
@@ -27,6 +28,13 @@ public interface SpawnManager {
      */
     void reset();
 
+    /**
+     * Gives a GameObject removed from the level back to the factory, so that it can be reused by the generation.
+     *
+     * @param gameObject the removed GameObject
+     */
+    void recycle(GameObject gameObject);
+
     /**
      * Gets the currently used spawn strategy.
      *
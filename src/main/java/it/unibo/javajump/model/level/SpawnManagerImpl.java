@@ -1,39 +1,73 @@
 package it.unibo.javajump.model.level;
 
 import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.factories.GameObjectFactory;
 import it.unibo.javajump.model.level.spawn.RandomSpawnStrategy;
 import it.unibo.javajump.model.level.spawn.SpawnStrategy;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+import it.unibo.javajump.model.profiling.events.GameEvents;
+import it.unibo.javajump.model.profiling.events.SpawnEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static it.unibo.javajump.model.level.spawn.spawnutilities.SpawnUtilsImpl.spawnPlatformBelowPlayer;
 import static it.unibo.javajump.utility.Constants.INITIAL_PLATFORMS_NUMBER;
 import static it.unibo.javajump.utility.Constants.INITIAL_Y_SPAWN_OFFSET;
+import static it.unibo.javajump.utility.Constants.LEVEL_CHUNKS_AHEAD;
+import static it.unibo.javajump.utility.Constants.LEVEL_GENERATOR_THREAD_NAME;
+import static it.unibo.javajump.utility.Constants.LEVEL_HELD_BACK_MAX_SIZE;
 import static it.unibo.javajump.utility.Constants.PROCEDURAL_PLATFORMS_NUMBER;
 import static it.unibo.javajump.utility.Constants.SPAWN_THRESHOLD;
 import static it.unibo.javajump.utility.Constants.TOP_PLATFORM_Y_INIT;
 
 /**
- * The implementation of SpawnManager interface.
+ * The implementation of SpawnManager interface. After the initial level, the batches are generated ahead of time by
+ * a worker into a queue of LEVEL_CHUNKS_AHEAD batches, so that the game loop only adds a finished batch to the model
+ * when the player gets near the top platform, and requests a new one.
+ * Each batch starts from the top platform of the previous one and receives the difficulty at the time it is
+ * requested; since the batches are generated one after the other, the level stays reproducible with the seed.
+ * For the same reason, the objects recycled while batches are pending are held back and given to the factory by the
+ * worker, before generating the next requested batch.
  */
 public final class SpawnManagerImpl implements SpawnManager {
 
     private final SpawnStrategy spawnStrategy;
+    private final Executor generator;
+    private final Deque<CompletableFuture<LevelChunk>> readyQueue = new ArrayDeque<>();
+    private final List<GameObject> heldBack = new ArrayList<>();
     private float topPlatformY;
 
     /**
-     * Instantiates a new Spawn manager.
+     * Instantiates a new Spawn manager, which generates the batches on virtual threads.
      *
      * @param spawnStrategy the spawn strategy currently used by the level generation
      */
     public SpawnManagerImpl(final SpawnStrategy spawnStrategy) {
+        this(spawnStrategy, task -> Thread.ofVirtual().name(LEVEL_GENERATOR_THREAD_NAME).start(task));
+    }
+
+    /**
+     * Instantiates a new Spawn manager.
+     *
+     * @param spawnStrategy the spawn strategy currently used by the level generation
+     * @param generator     the executor generating the batches ahead of time
+     */
+    public SpawnManagerImpl(final SpawnStrategy spawnStrategy, final Executor generator) {
         this.spawnStrategy = spawnStrategy;
+        this.generator = generator;
         this.topPlatformY = TOP_PLATFORM_Y_INIT;
     }
 
     /**
      * {@inheritDoc} The implemented method first generates a platform below the player,
      * then calls the spawnBatch method in spawn strategy to generate the initial level objects.
-     * TopPlatformY is then updated.
+     * TopPlatformY is then updated, and the generation of the next batches is started.
      */
     @Override
     public void generateInitialLevel(final GameModel model) {
@@ -41,11 +75,16 @@ public final class SpawnManagerImpl implements SpawnManager {
         final float startY = model.getScreenHeight() - INITIAL_Y_SPAWN_OFFSET;
         spawnStrategy.spawnBatch(model, startY, INITIAL_PLATFORMS_NUMBER);
         this.topPlatformY = spawnStrategy.returnCurrentY();
+        for (int i = 0; i < LEVEL_CHUNKS_AHEAD; i++) {
+            requestChunk(model);
+        }
     }
 
     /**
-     * {@inheritDoc} The generation is done by calling the spawnBatch method in spawn strategy, checking the current
-     * distance between the Player and the TopPlatformY. If the threshold is reached, a new batch is generated.
+     * {@inheritDoc} The implemented method checks the current distance between the Player and the TopPlatformY.
+     * If the threshold is reached, the first batch of the queue is added to the model and to its entity index,
+     * waiting for it only if the worker is late, and a new batch is requested. A SpawnEvent is emitted by the worker for each batch,
+     * if the Flight Recorder events are enabled.
      */
     @Override
     public void generateOnTheFly(final GameModel model) {
@@ -53,22 +92,56 @@ public final class SpawnManagerImpl implements SpawnManager {
         final float gap = playerY - topPlatformY;
 
         if (gap < SPAWN_THRESHOLD) {
-            spawnStrategy.spawnBatch(model, topPlatformY, PROCEDURAL_PLATFORMS_NUMBER);
-            final float newTop = spawnStrategy.returnCurrentY();
-
-            if (newTop < topPlatformY) {
-                topPlatformY = newTop;
+            final LevelChunk chunk = readyQueue.isEmpty()
+                    ? generateChunk(topPlatformY, model.getDifficultyManager().getCurrentDifficulty(),
+                            model.getScreenWidth(), List.of())
+                    : readyQueue.pollFirst().join();
+            final List<GameObject> chunkObjects = chunk.getGameObjects();
+            for (int i = 0; i < chunkObjects.size(); i++) {
+                model.getGameObjects().add(chunkObjects.get(i));
+                model.getEntityIndex().add(chunkObjects.get(i));
+            }
+            if (chunk.getTopY() < topPlatformY) {
+                topPlatformY = chunk.getTopY();
             }
+            requestChunk(model);
         }
     }
+
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} The pending batches are awaited, so that the worker no longer uses the random service and
+     * the factory, then their objects and the held back ones are recycled.
      */
     @Override
     public void reset() {
+        final List<LevelChunk> discarded = new ArrayList<>(readyQueue.size());
+        while (!readyQueue.isEmpty()) {
+            discarded.add(readyQueue.pollFirst().join());
+        }
+        discarded.forEach(chunk -> chunk.getGameObjects().forEach(this::recycle));
+        heldBack.forEach(this::recycle);
+        heldBack.clear();
         this.topPlatformY = TOP_PLATFORM_Y_INIT;
     }
 
+    /**
+     * {@inheritDoc} If batches are pending, the GameObject is held back until the next one is requested. If
+     * LEVEL_HELD_BACK_MAX_SIZE objects are already held back, it is dropped instead: which objects are held back
+     * only depends on the removals and the requests of the game, so the level stays reproducible.
+     */
+    @Override
+    public void recycle(final GameObject gameObject) {
+        final GameObjectFactory factory = getFactory();
+        if (factory == null) {
+            return;
+        }
+        if (readyQueue.isEmpty()) {
+            factory.recycle(gameObject);
+        } else if (heldBack.size() < LEVEL_HELD_BACK_MAX_SIZE) {
+            heldBack.add(gameObject);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,4 +160,54 @@ public final class SpawnManagerImpl implements SpawnManager {
         }
         return null;
     }
+
+    /**
+     * Private method to request a batch, with the current difficulty, starting from the top platform of the last
+     * pending batch, or from the current top platform if there is none. The held back objects are passed along.
+     *
+     * @param model the GameModel the batch is generated for
+     */
+    private void requestChunk(final GameModel model) {
+        final DifficultyState difficulty = model.getDifficultyManager().getCurrentDifficulty();
+        final int screenWidth = model.getScreenWidth();
+        final List<GameObject> recycled = heldBack.isEmpty() ? List.of() : new ArrayList<>(heldBack);
+        heldBack.clear();
+        final CompletableFuture<LevelChunk> last = readyQueue.peekLast();
+        if (last == null) {
+            final float startY = topPlatformY;
+            readyQueue.addLast(CompletableFuture.supplyAsync(
+                    () -> generateChunk(startY, difficulty, screenWidth, recycled), generator));
+        } else {
+            readyQueue.addLast(last.thenApplyAsync(
+                    previous -> generateChunk(previous.getTopY(), difficulty, screenWidth, recycled), generator));
+        }
+    }
+
+    /**
+     * Private method to generate a batch with the spawn strategy, after giving the recycled objects to the factory.
+     * A SpawnEvent is emitted if the Flight Recorder events are enabled.
+     *
+     * @param startY      the starting quote
+     * @param difficulty  the difficulty of the platforms
+     * @param screenWidth the width of the screen
+     * @param recycled    the objects to give to the factory first
+     * @return the generated batch
+     */
+    private LevelChunk generateChunk(final float startY, final DifficultyState difficulty, final int screenWidth,
+                                     final List<GameObject> recycled) {
+        final GameObjectFactory factory = getFactory();
+        if (factory != null) {
+            recycled.forEach(factory::recycle);
+        }
+        final SpawnEvent event = GameEvents.isEnabled() ? new SpawnEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        final List<GameObject> chunkObjects = new ArrayList<>();
+        spawnStrategy.generateBatch(chunkObjects, startY, PROCEDURAL_PLATFORMS_NUMBER, difficulty, screenWidth);
+        if (event != null) {
+            event.complete(chunkObjects.size());
+        }
+        return new LevelChunk(chunkObjects, spawnStrategy.returnCurrentY());
+    }
 }
@@ -1,6 +1,7 @@
 package it.unibo.javajump.model.level.spawn;
 
 import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.platforms.Platform;
 import it.unibo.javajump.model.factories.GameObjectFactory;
 import it.unibo.javajump.model.level.spawn.collectiblespawn.CollectiblesSpawner;
@@ -9,8 +10,11 @@ import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
 import it.unibo.javajump.model.level.spawn.platformspawn.PlatformSpawner;
 import it.unibo.javajump.model.level.spawn.platformspawn.PlatformSpawnerImpl;
 import it.unibo.javajump.model.level.spawn.spawnutilities.SpawnUtilsImpl;
+import it.unibo.javajump.model.random.RandomService;
+import it.unibo.javajump.model.random.RandomStream;
 
-import java.util.Random;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 import static it.unibo.javajump.utility.Constants.GAP_EASY_ADDENDUM;
 import static it.unibo.javajump.utility.Constants.GAP_HARD_ADDENDUM;
@@ -24,7 +28,7 @@ import static it.unibo.javajump.utility.Constants.SPAWN_Y_INIT;
 public final class RandomSpawnStrategy implements SpawnStrategy {
 
     private final GameObjectFactory factory;
-    private final Random rand;
+    private final RandomService random;
     private final float minPlatformYSpacing;
     private final float maxPlatformYSpacing;
     private float currentY;
@@ -38,41 +42,50 @@ public final class RandomSpawnStrategy implements SpawnStrategy {
      * @param minSpacing the min spacing
      * @param maxSpacing the max spacing
      * @param coinChance the coin chance
+     * @param random     the random service, whose LAYOUT stream places the platforms
      */
     public RandomSpawnStrategy(final GameObjectFactory factory,
                                final float minSpacing,
                                final float maxSpacing,
-                               final float coinChance
+                               final float coinChance,
+                               final RandomService random
                                ) {
         this.factory = factory;
-        this.rand = new Random();
+        this.random = random;
         this.minPlatformYSpacing = minSpacing;
         this.maxPlatformYSpacing = maxSpacing;
         this.currentY = SPAWN_Y_INIT;
-        this.collectiblesSpawner = new CollectiblesSpawnerImpl(factory, coinChance);
-        this.platformSpawner = new PlatformSpawnerImpl(factory);
+        this.collectiblesSpawner = new CollectiblesSpawnerImpl(factory, coinChance, random);
+        this.platformSpawner = new PlatformSpawnerImpl(factory, random);
     }
 
     @Override
     public void spawnBatch(final GameModel model, final float startY, final int numberOfPlatforms) {
-        final DifficultyState diff = model.getDifficultyManager().getCurrentDifficulty();
+        generateBatch(model.getGameObjects(), startY, numberOfPlatforms,
+                model.getDifficultyManager().getCurrentDifficulty(), model.getScreenWidth());
+    }
+
+    @Override
+    public void generateBatch(final List<GameObject> gameObjects, final float startY, final int numberOfPlatforms,
+                              final DifficultyState diff, final int screenWidth) {
         currentY = startY;
 
         for (int i = 0; i < numberOfPlatforms; i++) {
             final float gap = updateSpawnGap(diff);
             currentY -= gap;
 
-            final float x = rand.nextFloat() * (model.getScreenWidth() - (float) MAX_PLATFORM_WIDTH);
+            final float x = random.get(RandomStream.LAYOUT).nextFloat() * (screenWidth - (float) MAX_PLATFORM_WIDTH);
 
-            final Platform p = platformSpawner.spawnPlatform(x, currentY, model.getScreenWidth(), diff);
-            model.getGameObjects().add(p);
+            final Platform p = platformSpawner.spawnPlatform(x, currentY, screenWidth, diff);
+            gameObjects.add(p);
 
             final float platformWidth = p.getWidth();
-            collectiblesSpawner.spawnCollectible(model, x, currentY, platformWidth, p);
+            collectiblesSpawner.spawnCollectible(gameObjects, x, currentY, platformWidth, p);
         }
     }
 
     private float updateSpawnGap(final DifficultyState diff) {
+        final RandomGenerator rand = random.get(RandomStream.LAYOUT);
         float gap = GAP_INIT;
         if (null != diff) {
             // CHECKSTYLE: MissingSwitchDefault OFF
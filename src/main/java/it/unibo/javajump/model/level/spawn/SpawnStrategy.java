@@ -1,7 +1,11 @@
 package it.unibo.javajump.model.level.spawn;
 
 import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.factories.GameObjectFactory;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+
+import java.util.List;
 
 /**
  * The interface Spawn strategy.
@@ -17,6 +21,19 @@ public interface SpawnStrategy {
      */
     void spawnBatch(GameModel model, float startY, int numberOfPlatforms);
 
+    /**
+     * Creates "numberOfPlatforms" platforms (and relative coin) starting from a startY, without accessing the model,
+     * so that the level can be generated ahead of time on another thread.
+     *
+     * @param gameObjects       the list to add the created objects to
+     * @param startY            the starting quote from which to start generating
+     * @param numberOfPlatforms the number of platforms to generate in total in this batch
+     * @param difficulty        the difficulty of the generated platforms
+     * @param screenWidth       the width of the screen
+     */
+    void generateBatch(List<GameObject> gameObjects, float startY, int numberOfPlatforms,
+                       DifficultyState difficulty, int screenWidth);
+
     /**
      * Returns the current Y position, so that SpawnManagerImpl can evaluate whether to spawn a new batch.
      *
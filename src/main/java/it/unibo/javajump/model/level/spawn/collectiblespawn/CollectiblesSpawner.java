@@ -1,8 +1,10 @@
 package it.unibo.javajump.model.level.spawn.collectiblespawn;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.platforms.Platform;
 
+import java.util.List;
+
 /**
  * Interface for the CollectibleSpawner, which manages the spawn of coins.
  */
@@ -10,11 +12,11 @@ public interface CollectiblesSpawner {
     /**
      * Method to spawn a coin based on the platform position.
      *
-     * @param model         the GameModel (to add the spawned coin to the game)
+     * @param gameObjects   the list to add the spawned coin to
      * @param platformX     the X position of the Platform
      * @param platformY     the Y position of the Platform
      * @param platformWidth the real width of the Platform
      * @param platform      the Platform
      */
-    void spawnCollectible(GameModel model, float platformX, float platformY, float platformWidth, Platform platform);
+    void spawnCollectible(List<GameObject> gameObjects, float platformX, float platformY, float platformWidth, Platform platform);
 }
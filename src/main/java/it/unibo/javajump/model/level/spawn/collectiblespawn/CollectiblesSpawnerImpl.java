@@ -1,12 +1,14 @@
 package it.unibo.javajump.model.level.spawn.collectiblespawn;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.collectibles.Coin;
 import it.unibo.javajump.model.entities.platforms.MovingPlatform;
 import it.unibo.javajump.model.entities.platforms.Platform;
 import it.unibo.javajump.model.factories.GameObjectFactory;
+import it.unibo.javajump.model.random.RandomService;
+import it.unibo.javajump.model.random.RandomStream;
 
-import java.util.Random;
+import java.util.List;
 
 import static it.unibo.javajump.utility.Constants.COIN_OFFSET;
 import static it.unibo.javajump.utility.Constants.COIN_X_DIV;
@@ -21,9 +23,9 @@ public class CollectiblesSpawnerImpl implements CollectiblesSpawner {
      */
     private final GameObjectFactory factory;
     /**
-     * Random object useful to spawn coins in random-like way (there may or may not be a coin on a Platform).
+     * Random service useful to spawn coins in random-like way (there may or may not be a coin on a Platform).
      */
-    private final Random rand;
+    private final RandomService random;
     /**
      * Settable float value to confront to Random, determines the probability of coin spawn on a platform.
      */
@@ -34,10 +36,12 @@ public class CollectiblesSpawnerImpl implements CollectiblesSpawner {
      *
      * @param factory         the factory, used to create the Coin object
      * @param coinSpawnChance the probability to spawn a Coin on a Platform (higher -> more coins overall)
+     * @param random          the random service, whose COLLECTIBLES stream decides the spawns
      */
-    public CollectiblesSpawnerImpl(final GameObjectFactory factory, final float coinSpawnChance) {
+    public CollectiblesSpawnerImpl(final GameObjectFactory factory, final float coinSpawnChance,
+                                   final RandomService random) {
         this.factory = factory;
-        this.rand = new Random();
+        this.random = random;
         this.coinSpawnChance = coinSpawnChance;
     }
 
@@ -46,12 +50,12 @@ public class CollectiblesSpawnerImpl implements CollectiblesSpawner {
      * on the given Platform. It then sets the general Coin position (X, Y) on the Platform, and creates the given coin
      * demanding it to the factory. An added if branch checks whether the given Platform is a MovingPlatform, and if so,
      * attaches the Coin to the MovingPlatform (the attaching logic is specified in CoinImpl class). Finally, the Coin
-     * gets added to the GameObjects in model.
+     * gets added to the given GameObjects.
      */
     @Override
-    public void spawnCollectible(final GameModel model, final float platformX, final float platformY,
+    public void spawnCollectible(final List<GameObject> gameObjects, final float platformX, final float platformY,
                                  final float platformWidth, final Platform platform) {
-        if (rand.nextFloat() < coinSpawnChance) {
+        if (random.get(RandomStream.COLLECTIBLES).nextFloat() < coinSpawnChance) {
             final float coinX = platformX + (platformWidth / COIN_X_DIV) - (platformWidth * COIN_X_MUL);
             final float coinY = platformY - COIN_OFFSET;
             final Coin coin = factory.createCoin(coinX, coinY);
@@ -59,7 +63,7 @@ public class CollectiblesSpawnerImpl implements CollectiblesSpawner {
             if (platform instanceof MovingPlatform) {
                 coin.attachToPlatform(platform);
             }
-            model.getGameObjects().add(coin);
+            gameObjects.add(coin);
         }
     }
 }
@@ -18,6 +18,14 @@ public interface DifficultyManager {
      */
     DifficultyState getCurrentDifficulty();
 
+    /**
+     * Gets the difficulty the player is about to reach: the next one, if the score is near its threshold,
+     * or the current one otherwise.
+     *
+     * @return the upcoming difficulty
+     */
+    DifficultyState getUpcomingDifficulty();
+
     /**
      * Resets the DifficultyManager.
      */
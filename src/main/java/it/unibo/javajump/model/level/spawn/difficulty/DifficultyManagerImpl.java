@@ -1,9 +1,12 @@
 package it.unibo.javajump.model.level.spawn.difficulty;
 
 import it.unibo.javajump.model.level.spawn.spawnutilities.SpawnUtilsImpl;
+import it.unibo.javajump.model.random.RandomService;
+import it.unibo.javajump.model.random.RandomStream;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
+import static it.unibo.javajump.utility.Constants.DIFFICULTY_PREFETCH_MARGIN;
 import static it.unibo.javajump.utility.Constants.HARD_MAX;
 import static it.unibo.javajump.utility.Constants.HARD_MIN;
 import static it.unibo.javajump.utility.Constants.HELL_MAX;
@@ -19,19 +22,31 @@ import static it.unibo.javajump.utility.Constants.VERY_HARD_MIN;
 public final class DifficultyManagerImpl implements DifficultyManager {
 
     private DifficultyState currentDifficulty;
+    private DifficultyState upcomingDifficulty;
 
-    private final float thresholdMedium;
-    private final float thresholdHard;
-    private final float thresholdVeryHard;
-    private final float thresholdHell;
+    private final RandomService random;
+    private float thresholdMedium;
+    private float thresholdHard;
+    private float thresholdVeryHard;
+    private float thresholdHell;
 
     /**
      * Instantiates a new Difficulty manager. It generates a random threshold (based on a range) for each difficulty.
+     *
+     * @param random the random service, whose DIFFICULTY stream generates the thresholds
      */
-    public DifficultyManagerImpl() {
+    public DifficultyManagerImpl(final RandomService random) {
+        this.random = random;
         this.currentDifficulty = DifficultyState.EASY;
-        final Random rand = new Random();
+        this.upcomingDifficulty = DifficultyState.EASY;
+        generateThresholds();
+    }
 
+    /**
+     * Generates a random threshold (based on a range) for each difficulty.
+     */
+    private void generateThresholds() {
+        final RandomGenerator rand = random.get(RandomStream.DIFFICULTY);
         this.thresholdMedium = SpawnUtilsImpl.randomInRange(rand, MEDIUM_MIN, MEDIUM_MAX);
         this.thresholdHard = SpawnUtilsImpl.randomInRange(rand, HARD_MIN, HARD_MAX);
         this.thresholdVeryHard = SpawnUtilsImpl.randomInRange(rand, VERY_HARD_MIN, VERY_HARD_MAX);
@@ -39,22 +54,32 @@ public final class DifficultyManagerImpl implements DifficultyManager {
     }
 
     /**
-     * {@inheritDoc} The difficulty is updated if the score reaches the pre-determined score thresholds
+     * {@inheritDoc} The difficulty is updated if the score reaches the pre-determined score thresholds, and the
+     * upcoming one if the score is within DIFFICULTY_PREFETCH_MARGIN points of them.
      */
     @Override
     public void updateDifficulty(final int score) {
+        currentDifficulty = difficultyFor(score);
+        upcomingDifficulty = difficultyFor(score + DIFFICULTY_PREFETCH_MARGIN);
+    }
 
+    /**
+     * Returns the difficulty of a score, according to the pre-determined score thresholds.
+     *
+     * @param score the score
+     * @return the difficulty
+     */
+    private DifficultyState difficultyFor(final int score) {
         if (score >= thresholdHell) {
-            currentDifficulty = DifficultyState.HELL;
+            return DifficultyState.HELL;
         } else if (score >= thresholdVeryHard) {
-            currentDifficulty = DifficultyState.VERY_HARD;
+            return DifficultyState.VERY_HARD;
         } else if (score >= thresholdHard) {
-            currentDifficulty = DifficultyState.HARD;
+            return DifficultyState.HARD;
         } else if (score >= thresholdMedium) {
-            currentDifficulty = DifficultyState.MEDIUM;
-        } else {
-            currentDifficulty = DifficultyState.EASY;
+            return DifficultyState.MEDIUM;
         }
+        return DifficultyState.EASY;
     }
 
     /**
@@ -69,7 +94,17 @@ public final class DifficultyManagerImpl implements DifficultyManager {
      * {@inheritDoc}
      */
     @Override
+    public DifficultyState getUpcomingDifficulty() {
+        return upcomingDifficulty;
+    }
+
+    /**
+     * {@inheritDoc} The thresholds are generated again, so that they depend only on the seed of the run.
+     */
+    @Override
     public void reset() {
         this.currentDifficulty = DifficultyState.EASY;
+        this.upcomingDifficulty = DifficultyState.EASY;
+        generateThresholds();
     }
 }
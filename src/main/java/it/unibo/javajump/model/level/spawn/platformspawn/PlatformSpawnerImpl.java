@@ -3,8 +3,10 @@ package it.unibo.javajump.model.level.spawn.platformspawn;
 import it.unibo.javajump.model.entities.platforms.Platform;
 import it.unibo.javajump.model.factories.GameObjectFactory;
 import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+import it.unibo.javajump.model.random.RandomService;
+import it.unibo.javajump.model.random.RandomStream;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import static it.unibo.javajump.model.level.spawn.spawnutilities.SpawnUtilsImpl.randomInRange;
 import static it.unibo.javajump.utility.Constants.BOUNCE_FACTOR_MAX;
@@ -16,16 +18,17 @@ import static it.unibo.javajump.utility.Constants.BOUNCE_FACTOR_MIN;
 public final class PlatformSpawnerImpl implements PlatformSpawner {
 
     private final GameObjectFactory factory;
-    private final Random rand;
+    private final RandomService random;
 
     /**
      * Instantiates a new Platform spawner.
      *
      * @param factory the factory used to create the platforms
+     * @param random  the random service, whose PLATFORMS stream chooses the platforms
      */
-    public PlatformSpawnerImpl(final GameObjectFactory factory) {
+    public PlatformSpawnerImpl(final GameObjectFactory factory, final RandomService random) {
         this.factory = factory;
-        this.rand = new Random();
+        this.random = random;
     }
 
     /**
@@ -34,6 +37,7 @@ public final class PlatformSpawnerImpl implements PlatformSpawner {
      */
     @Override
     public Platform spawnPlatform(final float x, final float y, final int screenWidth, final DifficultyState difficulty) {
+        final RandomGenerator rand = random.get(RandomStream.PLATFORMS);
         final float chance = rand.nextFloat();
         final float breakableChance = difficulty.getBreakableChance();
         final float movingChance = difficulty.getMovingChance();
@@ -4,7 +4,7 @@ import it.unibo.javajump.model.GameModel;
 import it.unibo.javajump.model.entities.platforms.Platform;
 import it.unibo.javajump.model.factories.GameObjectFactory;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import static it.unibo.javajump.utility.Constants.SPAWN_X_OFFSET;
 import static it.unibo.javajump.utility.Constants.SPAWN_Y_OFFSET;
@@ -22,7 +22,7 @@ public final class SpawnUtilsImpl implements SpawnUtils {
      * @param max  the max
      * @return the float
      */
-    public static float randomInRange(final Random rand, final float min, final float max) {
+    public static float randomInRange(final RandomGenerator rand, final float min, final float max) {
         return min + rand.nextFloat() * (max - min);
     }
 
@@ -0,0 +1,51 @@
+package it.unibo.javajump.model.profiling;
+
+/**
+ * Enum that represents the stages of a game step and of a frame timed by the TickProfiler.
+ */
+public enum ProfiledStage {
+    /**
+     * Culling of the entity index and saving of the previous positions.
+     */
+    SYNC,
+    /**
+     * Movement of the playable character.
+     */
+    PHYSICS,
+    /**
+     * Update of the character and of the Game Objects near the camera.
+     */
+    ENTITIES,
+    /**
+     * Collision checks.
+     */
+    COLLISION,
+    /**
+     * Camera update.
+     */
+    CAMERA,
+    /**
+     * Level generation.
+     */
+    SPAWN,
+    /**
+     * Removal of the Game Objects left behind.
+     */
+    CLEANUP,
+    /**
+     * Difficulty update.
+     */
+    DIFFICULTY,
+    /**
+     * Publishing of the render snapshot.
+     */
+    SNAPSHOT,
+    /**
+     * Drawing and presenting of a frame, on the render thread.
+     */
+    RENDER,
+    /**
+     * Painting of the last drawn frame on the panel, on the Event Dispatch Thread.
+     */
+    PAINT
+}
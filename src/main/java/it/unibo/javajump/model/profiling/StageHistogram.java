@@ -0,0 +1,57 @@
+package it.unibo.javajump.model.profiling;
+
+/**
+ * Interface that describes a histogram of durations, recorded by a thread and read by any other.
+ * Values are stored in buckets of bounded relative width, so percentiles are approximated by the
+ * highest value of their bucket.
+ */
+public interface StageHistogram {
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void record(long nanos);
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the count
+     */
+    long getCount();
+
+    /**
+     * Returns the sum of the recorded durations.
+     *
+     * @return the total in nanoseconds
+     */
+    long getTotal();
+
+    /**
+     * Returns the highest recorded duration.
+     *
+     * @return the max in nanoseconds, 0 if nothing has been recorded
+     */
+    long getMax();
+
+    /**
+     * Returns the highest duration recorded since the last call, and starts a new interval. It is meant for a
+     * single reader that samples the histogram periodically.
+     *
+     * @return the max of the interval in nanoseconds, 0 if nothing has been recorded in it
+     */
+    long takeIntervalMax();
+
+    /**
+     * Returns the duration below which the given percentage of the recorded durations falls.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the duration in nanoseconds, 0 if nothing has been recorded
+     */
+    long getValueAtPercentile(double percentile);
+
+    /**
+     * Forgets all the recorded durations.
+     */
+    void reset();
+}
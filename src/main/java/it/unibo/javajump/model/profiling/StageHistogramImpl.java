@@ -0,0 +1,133 @@
+package it.unibo.javajump.model.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static it.unibo.javajump.utility.Constants.HISTOGRAM_SUB_BUCKET_BITS;
+
+/**
+ * Implementation of the StageHistogram interface, with log-linear buckets in the style of HdrHistogram:
+ * values lower than 2^HISTOGRAM_SUB_BUCKET_BITS have a bucket each, then every power of two is split in
+ * 2^(HISTOGRAM_SUB_BUCKET_BITS - 1) buckets of the same width. The counters are atomic, so recording never
+ * takes a lock and never allocates.
+ */
+public final class StageHistogramImpl implements StageHistogram {
+    private static final int SUB_BUCKETS = 1 << HISTOGRAM_SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >> 1;
+    private static final int BUCKETS = (Long.SIZE - HISTOGRAM_SUB_BUCKET_BITS) * HALF_SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    private final AtomicLong intervalMax = new AtomicLong();
+
+    /**
+     * {@inheritDoc}
+     * Negative durations are recorded as 0.
+     */
+    @Override
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        total.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+        intervalMax.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return total.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotal() {
+        return sum.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long takeIntervalMax() {
+        return intervalMax.getAndSet(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getValueAtPercentile(final double percentile) {
+        final long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.set(0);
+        sum.set(0);
+        max.set(0);
+        intervalMax.set(0);
+    }
+
+    /**
+     * Returns the bucket of a value.
+     *
+     * @param value the value, not negative
+     * @return the index of its bucket
+     */
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - HISTOGRAM_SUB_BUCKET_BITS;
+        return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest value that falls in a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the highest value of the bucket
+     */
+    private static long highestValueOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / HALF_SUB_BUCKETS - 1;
+        final long mantissa = index - (long) shift * HALF_SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,64 @@
+package it.unibo.javajump.model.profiling;
+
+/**
+ * Interface that describes the profiler of the game, which times the stages of each game step and of each frame
+ * and aggregates the durations in a histogram per stage. A disabled profiler does not read the clock at all,
+ * and a stage that spans a change of the flag may be left out.
+ * Stages are timed by chaining laps:
+ * <pre>
+ * long t = profiler.start();
+ * ...
+ * t = profiler.lap(ProfiledStage.PHYSICS, t);
+ * </pre>
+ */
+public interface TickProfiler {
+    /**
+     * Returns whether the profiler records durations.
+     *
+     * @return true if the profiler is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts or stops recording durations, for example while a view shows them.
+     *
+     * @param enabled whether the profiler records durations
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the starting time of the first stage.
+     *
+     * @return the current time in nanoseconds, or 0 if the profiler is disabled
+     */
+    long start();
+
+    /**
+     * Records the duration of a stage, from its starting time to now.
+     *
+     * @param stage the stage just completed
+     * @param start the starting time of the stage
+     * @return the current time, which is the starting time of the next stage, or 0 if the profiler is disabled
+     */
+    long lap(ProfiledStage stage, long start);
+
+    /**
+     * Returns the histogram of a stage.
+     *
+     * @param stage the stage
+     * @return the histogram of its durations
+     */
+    StageHistogram getHistogram(ProfiledStage stage);
+
+    /**
+     * Returns a report with the number of samples, p50, p99 and max duration of each timed stage.
+     *
+     * @return the report, one line per stage
+     */
+    String report();
+
+    /**
+     * Forgets the durations recorded so far.
+     */
+    void reset();
+}
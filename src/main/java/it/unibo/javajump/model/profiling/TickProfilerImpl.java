@@ -0,0 +1,113 @@
+package it.unibo.javajump.model.profiling;
+
+import java.util.Locale;
+
+import static it.unibo.javajump.utility.Constants.NANOSECONDS_PER_MILLISECOND;
+import static it.unibo.javajump.utility.Constants.PROFILER_P50;
+import static it.unibo.javajump.utility.Constants.PROFILER_P99;
+import static it.unibo.javajump.utility.Constants.PROFILER_PROPERTY;
+import static it.unibo.javajump.utility.Constants.PROFILER_REPORT_HEADER;
+import static it.unibo.javajump.utility.Constants.PROFILER_REPORT_ROW;
+
+/**
+ * Implementation of the TickProfiler interface, with a StageHistogram for each ProfiledStage.
+ */
+public final class TickProfilerImpl implements TickProfiler {
+    private volatile boolean enabled;
+    private final StageHistogram[] histograms;
+
+    /**
+     * Constructor for the TickProfilerImpl class, enabled if the system property PROFILER_PROPERTY is true.
+     */
+    public TickProfilerImpl() {
+        this(Boolean.getBoolean(PROFILER_PROPERTY));
+    }
+
+    /**
+     * Constructor for the TickProfilerImpl class.
+     *
+     * @param enabled whether the profiler records durations
+     */
+    public TickProfilerImpl(final boolean enabled) {
+        this.enabled = enabled;
+        this.histograms = new StageHistogram[ProfiledStage.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new StageHistogramImpl();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long lap(final ProfiledStage stage, final long start) {
+        if (!enabled || start == 0) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        histograms[stage.ordinal()].record(now - start);
+        return now;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StageHistogram getHistogram(final ProfiledStage stage) {
+        return histograms[stage.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     * Durations are in milliseconds, and the stages that were never timed are left out.
+     */
+    @Override
+    public String report() {
+        final StringBuilder sb = new StringBuilder(PROFILER_REPORT_HEADER);
+        for (final ProfiledStage stage : ProfiledStage.values()) {
+            final StageHistogram h = histograms[stage.ordinal()];
+            if (h.getCount() > 0) {
+                sb.append(System.lineSeparator()).append(String.format(Locale.ROOT, PROFILER_REPORT_ROW,
+                        stage, h.getCount(),
+                        h.getValueAtPercentile(PROFILER_P50) / NANOSECONDS_PER_MILLISECOND,
+                        h.getValueAtPercentile(PROFILER_P99) / NANOSECONDS_PER_MILLISECOND,
+                        h.getMax() / NANOSECONDS_PER_MILLISECOND));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        for (final StageHistogram h : histograms) {
+            h.reset();
+        }
+    }
+}
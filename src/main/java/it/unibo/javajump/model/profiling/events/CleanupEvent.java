@@ -0,0 +1,37 @@
+package it.unibo.javajump.model.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of the removal of the Game Objects left behind, which are handed back to their pools.
+ */
+@Name("it.unibo.javajump.Cleanup")
+@Label("Level Cleanup")
+@Category({"JavaJump", "Level"})
+@Description("The removal of the Game Objects below the camera or finished")
+@StackTrace(false)
+public final class CleanupEvent extends Event {
+    @Label("Removed Objects")
+    private int removed;
+    @Label("Remaining Objects")
+    private int remaining;
+
+    /**
+     * Commits the event, if it is recorded.
+     *
+     * @param removed   the number of Game Objects removed
+     * @param remaining the number of Game Objects left in the level
+     */
+    public void complete(final int removed, final int remaining) {
+        if (shouldCommit()) {
+            this.removed = removed;
+            this.remaining = remaining;
+            commit();
+        }
+    }
+}
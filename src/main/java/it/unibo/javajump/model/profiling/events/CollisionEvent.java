@@ -0,0 +1,38 @@
+package it.unibo.javajump.model.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of the collision checks of a simulation step.
+ */
+@Name("it.unibo.javajump.Collision")
+@Label("Collision Check")
+@Category({"JavaJump", "Level"})
+@Description("The broadphase and the AABB checks between the player and the Game Objects near it")
+@StackTrace(false)
+public final class CollisionEvent extends Event {
+    @Label("Pairs Tested")
+    @Description("The number of candidates returned by the broadphase and checked against the player")
+    private int pairsTested;
+    @Label("Hits")
+    private int hits;
+
+    /**
+     * Commits the event, if it is recorded.
+     *
+     * @param pairsTested the number of pairs checked
+     * @param hits        the number of pairs colliding
+     */
+    public void complete(final int pairsTested, final int hits) {
+        if (shouldCommit()) {
+            this.pairsTested = pairsTested;
+            this.hits = hits;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package it.unibo.javajump.model.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a frame drawn by the render thread.
+ */
+@Name("it.unibo.javajump.Frame")
+@Label("Game Frame")
+@Category({"JavaJump", "Game Loop"})
+@Description("A frame drawn from a render snapshot and presented on screen")
+@StackTrace(false)
+public final class FrameEvent extends Event {
+    @Label("Game State")
+    private String gameState;
+    @Label("Snapshot Tick")
+    @Description("The simulation step the drawn snapshot was published at")
+    private long snapshotTick;
+    @Label("Drawn Objects")
+    private int drawnObjects;
+    @Label("Active Rendering")
+    @Description("Whether the frame was presented by the BufferStrategy of the active surface")
+    private boolean activeRendering;
+
+    /**
+     * Commits the event, if it is recorded.
+     *
+     * @param gameState       the game state of the frame
+     * @param snapshotTick    the simulation step the drawn snapshot was published at
+     * @param drawnObjects    the number of Game Objects in the snapshot
+     * @param activeRendering whether the frame was presented by the active surface
+     */
+    public void complete(final String gameState, final long snapshotTick, final int drawnObjects,
+                         final boolean activeRendering) {
+        if (shouldCommit()) {
+            this.gameState = gameState;
+            this.snapshotTick = snapshotTick;
+            this.drawnObjects = drawnObjects;
+            this.activeRendering = activeRendering;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package it.unibo.javajump.model.profiling.events;
+
+import jdk.jfr.FlightRecorder;
+
+import static it.unibo.javajump.utility.Constants.JFR_EVENTS_PROPERTY;
+
+/**
+ * Utility class that holds the startup flag of the Java Flight Recorder events of the game, read once from the
+ * system property JFR_EVENTS_PROPERTY. The flag is a constant, so when it is false the JIT removes the code that
+ * creates and commits the events, and the game pays nothing for them.
+ */
+public final class GameEvents {
+    private static final boolean ENABLED = Boolean.getBoolean(JFR_EVENTS_PROPERTY);
+
+    static {
+        if (ENABLED) {
+            FlightRecorder.register(TickEvent.class);
+            FlightRecorder.register(FrameEvent.class);
+            FlightRecorder.register(SpawnEvent.class);
+            FlightRecorder.register(CollisionEvent.class);
+            FlightRecorder.register(CleanupEvent.class);
+        }
+    }
+
+    /**
+     * Private constructor for the GameEvents class.
+     *
+     * @throws AssertionError the error thrown if the class is instantiated
+     */
+    private GameEvents() {
+        throw new AssertionError("This is a utility class, it should not be instantiated!");
+    }
+
+    /**
+     * Returns whether the game emits its Flight Recorder events. Even when it does, they are recorded only if
+     * a recording with the events enabled is running.
+     *
+     * @return true if the events are enabled by the startup flag
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+}
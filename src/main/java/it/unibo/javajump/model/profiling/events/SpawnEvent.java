@@ -0,0 +1,34 @@
+package it.unibo.javajump.model.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a batch of Game Objects generated while playing.
+ */
+@Name("it.unibo.javajump.Spawn")
+@Label("Level Spawn")
+@Category({"JavaJump", "Level"})
+@Description("A batch of platforms and coins generated above the player")
+@StackTrace(false)
+public final class SpawnEvent extends Event {
+    @Label("Batch Size")
+    @Description("The number of Game Objects generated for the level")
+    private int batchSize;
+
+    /**
+     * Commits the event, if it is recorded.
+     *
+     * @param batchSize the number of Game Objects added to the level
+     */
+    public void complete(final int batchSize) {
+        if (shouldCommit()) {
+            this.batchSize = batchSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package it.unibo.javajump.model.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a fixed simulation step of the game loop.
+ */
+@Name("it.unibo.javajump.Tick")
+@Label("Game Tick")
+@Category({"JavaJump", "Game Loop"})
+@Description("A fixed simulation step of the model")
+@StackTrace(false)
+public final class TickEvent extends Event {
+    @Label("Game State")
+    private String gameState;
+    @Label("Game Objects")
+    private int gameObjects;
+    @Label("Catch-up Step")
+    @Description("Index of the step among the ones run before the same frame")
+    private int catchUpStep;
+
+    /**
+     * Commits the event, if it is recorded, with the state of the model at the end of the step.
+     *
+     * @param gameState   the game state after the step
+     * @param gameObjects the number of Game Objects after the step
+     * @param catchUpStep the index of the step among the ones run before the same frame
+     */
+    public void complete(final String gameState, final int gameObjects, final int catchUpStep) {
+        if (shouldCommit()) {
+            this.gameState = gameState;
+            this.gameObjects = gameObjects;
+            this.catchUpStep = catchUpStep;
+            commit();
+        }
+    }
+}
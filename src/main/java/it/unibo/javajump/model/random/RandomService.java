@@ -0,0 +1,38 @@
+package it.unibo.javajump.model.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Interface that describes the seed-driven source of all the random numbers of the model. Every run starts its
+ * streams from a seed, so a run is reproduced by starting it with the same seed.
+ */
+public interface RandomService {
+    /**
+     * Starts a new run, restarting every stream from the seed set for it. Then the seed of the next run is derived
+     * from this one, so a whole session is also reproduced from the seed of its first run.
+     */
+    void startRun();
+
+    /**
+     * Returns the seed of the current run.
+     *
+     * @return the seed the streams were last restarted from
+     */
+    long getSeed();
+
+    /**
+     * Sets the seed of the next run, for example to reproduce a recorded one.
+     *
+     * @param seed the seed
+     */
+    void setNextSeed(long seed);
+
+    /**
+     * Returns the generator of a stream. The generator is replaced when a run starts, so it should be fetched
+     * here every time instead of being kept.
+     *
+     * @param stream the stream
+     * @return the generator of the stream for the current run
+     */
+    RandomGenerator get(RandomStream stream);
+}
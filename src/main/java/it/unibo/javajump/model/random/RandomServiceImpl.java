@@ -0,0 +1,81 @@
+package it.unibo.javajump.model.random;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static it.unibo.javajump.utility.Constants.RANDOM_SEED_PROPERTY;
+
+/**
+ * Implementation of the RandomService interface, based on SplittableRandom: the generator of each stream is split,
+ * in the order of the streams, from a root generator seeded with the seed of the run.
+ */
+public final class RandomServiceImpl implements RandomService {
+    private final SplittableRandom[] streams = new SplittableRandom[RandomStream.values().length];
+    private long seed;
+    private long nextSeed;
+
+    /**
+     * Constructor for the RandomServiceImpl class, seeded with the system property RANDOM_SEED_PROPERTY if it is set,
+     * or with a random seed otherwise.
+     */
+    public RandomServiceImpl() {
+        this(Long.getLong(RANDOM_SEED_PROPERTY, new SplittableRandom().nextLong()));
+    }
+
+    /**
+     * Constructor for the RandomServiceImpl class. The streams are started from the seed right away, and again
+     * when the first run starts.
+     *
+     * @param seed the seed of the first run
+     */
+    public RandomServiceImpl(final long seed) {
+        this.nextSeed = seed;
+        restart(seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startRun() {
+        restart(nextSeed);
+        nextSeed = new SplittableRandom(seed).nextLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setNextSeed(final long seed) {
+        this.nextSeed = seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomGenerator get(final RandomStream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    /**
+     * Restarts every stream from a seed.
+     *
+     * @param seed the seed
+     */
+    private void restart(final long seed) {
+        this.seed = seed;
+        final SplittableRandom root = new SplittableRandom(seed);
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = root.split();
+        }
+    }
+}
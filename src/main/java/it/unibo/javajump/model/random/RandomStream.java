@@ -0,0 +1,28 @@
+package it.unibo.javajump.model.random;
+
+/**
+ * Enum that represents the independent streams of random numbers of the game, one for each subsystem, so that
+ * a change in how many numbers a subsystem draws does not shift the numbers of the others.
+ */
+public enum RandomStream {
+    /**
+     * Vertical gaps and horizontal positions of the spawned platforms.
+     */
+    LAYOUT,
+    /**
+     * Types and bounce factors of the spawned platforms.
+     */
+    PLATFORMS,
+    /**
+     * Coins spawned on the platforms.
+     */
+    COLLECTIBLES,
+    /**
+     * Sizes and speeds of the objects created by the factory.
+     */
+    FACTORY,
+    /**
+     * Score thresholds of the difficulties.
+     */
+    DIFFICULTY
+}
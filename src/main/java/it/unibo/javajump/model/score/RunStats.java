@@ -0,0 +1,64 @@
+package it.unibo.javajump.model.score;
+
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+
+/**
+ * The statistics of a finished run, as kept by the ScoreStore.
+ */
+public final class RunStats {
+    private final int score;
+    private final int coins;
+    private final long durationMillis;
+    private final DifficultyState maxDifficulty;
+
+    /**
+     * Constructor for the RunStats class.
+     *
+     * @param score          the final score of the run
+     * @param coins          the number of coins collected
+     * @param durationMillis the time played, in milliseconds
+     * @param maxDifficulty  the highest difficulty reached
+     */
+    public RunStats(final int score, final int coins, final long durationMillis, final DifficultyState maxDifficulty) {
+        this.score = score;
+        this.coins = coins;
+        this.durationMillis = durationMillis;
+        this.maxDifficulty = maxDifficulty;
+    }
+
+    /**
+     * Gets the final score of the run.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of coins collected in the run.
+     *
+     * @return the coins
+     */
+    public int getCoins() {
+        return coins;
+    }
+
+    /**
+     * Gets the time played in the run.
+     *
+     * @return the duration, in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Gets the highest difficulty reached in the run.
+     *
+     * @return the difficulty
+     */
+    public DifficultyState getMaxDifficulty() {
+        return maxDifficulty;
+    }
+}
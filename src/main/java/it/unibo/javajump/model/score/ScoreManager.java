@@ -1,5 +1,7 @@
 package it.unibo.javajump.model.score;
 
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+
 /**
  * The interface that describes the Score manager, that handles the score system.
  */
@@ -33,7 +35,32 @@ public interface ScoreManager {
     boolean isBestScoreReached();
 
     /**
-     * Method to reset the ScoreManager.
+     * Method to count a coin collected in the current run.
+     */
+    void addCoin();
+
+    /**
+     * Gets the number of coins collected in the current run.
+     *
+     * @return the number of coins
+     */
+    int getCoins();
+
+    /**
+     * Method to update the statistics of the current run at each step.
+     *
+     * @param deltaTime  the time passed since the last step, in seconds
+     * @param difficulty the current difficulty
+     */
+    void updateRun(float deltaTime, DifficultyState difficulty);
+
+    /**
+     * Method to end the current run, storing its statistics. Ending a run that was already ended does nothing.
+     */
+    void endRun();
+
+    /**
+     * Method to reset the ScoreManager, starting a new run.
      */
     void reset();
 }
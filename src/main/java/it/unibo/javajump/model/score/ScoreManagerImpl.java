@@ -1,23 +1,46 @@
 package it.unibo.javajump.model.score;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+
+import static it.unibo.javajump.utility.Constants.MILLIS_PER_SECOND;
 import static it.unibo.javajump.utility.Constants.SCORE_INIT;
 
 /**
- * The implementation of the ScoreManager interface.
+ * The implementation of the ScoreManager interface. The best score is loaded from a ScoreStore, and stored again
+ * as soon as it is beaten, so that a record is kept even if the game is closed during the run.
  */
 public final class ScoreManagerImpl implements ScoreManager {
 
+    private final ScoreStore store;
     private int currentScore;
     private int bestScore;
     private boolean bestScoreReached;
+    private int coins;
+    private float runTime;
+    private DifficultyState maxDifficulty;
+    private boolean runOpen;
 
     /**
-     * Instantiates a new Score manager.
+     * Instantiates a new Score manager, whose scores are kept in memory only.
      */
     public ScoreManagerImpl() {
+        this(ScoreStoreImpl.inMemory());
+    }
+
+    /**
+     * Instantiates a new Score manager.
+     *
+     * @param store the store the best score and the runs are kept in
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2",
+            justification = "The store is shared on purpose, as it is the persistent state of the scores")
+    public ScoreManagerImpl(final ScoreStore store) {
+        this.store = store;
         this.currentScore = SCORE_INIT;
-        this.bestScore = SCORE_INIT;
+        this.bestScore = Math.max(SCORE_INIT, store.getBestScore());
         this.bestScoreReached = false;
+        this.maxDifficulty = DifficultyState.EASY;
     }
 
     /**
@@ -30,6 +53,7 @@ public final class ScoreManagerImpl implements ScoreManager {
         if (this.currentScore > this.bestScore) {
             this.bestScore = this.currentScore;
             this.bestScoreReached = true;
+            store.setBestScore(bestScore);
         }
     }
 
@@ -57,6 +81,47 @@ public final class ScoreManagerImpl implements ScoreManager {
         return bestScoreReached;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCoin() {
+        this.coins++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCoins() {
+        return coins;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateRun(final float deltaTime, final DifficultyState difficulty) {
+        this.runTime += deltaTime;
+        if (difficulty.ordinal() > maxDifficulty.ordinal()) {
+            this.maxDifficulty = difficulty;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The store is then flushed in the background. A run is only recorded once, however many times
+     * it is ended.
+     */
+    @Override
+    public void endRun() {
+        if (!runOpen) {
+            return;
+        }
+        runOpen = false;
+        store.recordRun(new RunStats(currentScore, coins, (long) (runTime * MILLIS_PER_SECOND), maxDifficulty));
+        store.flush();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -64,5 +129,9 @@ public final class ScoreManagerImpl implements ScoreManager {
     public void reset() {
         this.currentScore = SCORE_INIT;
         this.bestScoreReached = false;
+        this.coins = 0;
+        this.runTime = 0;
+        this.maxDifficulty = DifficultyState.EASY;
+        this.runOpen = true;
     }
 }
@@ -0,0 +1,53 @@
+package it.unibo.javajump.model.score;
+
+/**
+ * The interface that describes the Score store, which keeps the best score and the statistics of the last runs
+ * between sessions. Writing never blocks the caller: the data are made durable in the background by flush.
+ */
+public interface ScoreStore {
+    /**
+     * Gets the best score stored.
+     *
+     * @return the best score
+     */
+    int getBestScore();
+
+    /**
+     * Stores a new best score. It can be called at every step of a run.
+     *
+     * @param bestScore the best score
+     */
+    void setBestScore(int bestScore);
+
+    /**
+     * Stores the statistics of a finished run, dropping the oldest one if SCORE_STORE_RUNS are already kept.
+     *
+     * @param run the statistics of the run
+     */
+    void recordRun(RunStats run);
+
+    /**
+     * Gets the number of runs recorded since the store was created.
+     *
+     * @return the number of runs
+     */
+    long getRunCount();
+
+    /**
+     * Gets the statistics of one of the last runs.
+     *
+     * @param index the index of the run, 0 for the last one, up to SCORE_STORE_RUNS excluded
+     * @return the statistics, or null if there is no such run
+     */
+    RunStats getRun(int index);
+
+    /**
+     * Starts writing the stored data to the disk in the background, if they changed. It never blocks.
+     */
+    void flush();
+
+    /**
+     * Writes the stored data to the disk and closes the store.
+     */
+    void close();
+}
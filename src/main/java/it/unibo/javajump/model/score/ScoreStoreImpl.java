@@ -0,0 +1,292 @@
+package it.unibo.javajump.model.score;
+
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static it.unibo.javajump.utility.Constants.SCORE_STORE_MAGIC;
+import static it.unibo.javajump.utility.Constants.SCORE_STORE_RUNS;
+import static it.unibo.javajump.utility.Constants.SCORE_STORE_SLOTS;
+import static it.unibo.javajump.utility.Constants.SCORE_STORE_VERSION;
+
+/**
+ * Implementation of the ScoreStore interface over a small file of fixed layout, mapped in memory, so that loading
+ * it reads a few hundred bytes, and writing it is a copy to memory, made durable by the operating system or,
+ * after each run, by a background thread.
+ * The file has SCORE_STORE_SLOTS slots, each holding the whole data, a sequence number and a CRC32 checksum; every
+ * write goes to the slot that does not hold the last data, with the next sequence number and the checksum written
+ * last. If the game crashes while writing, the checksum of that slot does not match, and the data of the other
+ * slot are loaded.
+ */
+public final class ScoreStoreImpl implements ScoreStore {
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = MAGIC_OFFSET + Integer.BYTES;
+    private static final int SEQUENCE_OFFSET = VERSION_OFFSET + Integer.BYTES;
+    private static final int BEST_SCORE_OFFSET = SEQUENCE_OFFSET + Long.BYTES;
+    private static final int RUN_COUNT_OFFSET = BEST_SCORE_OFFSET + Integer.BYTES;
+    private static final int RUNS_OFFSET = RUN_COUNT_OFFSET + Long.BYTES;
+    private static final int RUN_BYTES = Long.BYTES + 3 * Integer.BYTES;
+    private static final int CHECKSUM_OFFSET = RUNS_OFFSET + RUN_BYTES * SCORE_STORE_RUNS;
+    private static final int SLOT_BYTES = CHECKSUM_OFFSET + Integer.BYTES;
+    private static final DifficultyState[] DIFFICULTIES = DifficultyState.values();
+
+    private final ByteBuffer buffer;
+    private final ByteBuffer[] slots = new ByteBuffer[SCORE_STORE_SLOTS];
+    private final FileChannel channel;
+    private final CRC32 checksum = new CRC32();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final int[] runScores = new int[SCORE_STORE_RUNS];
+    private final int[] runCoins = new int[SCORE_STORE_RUNS];
+    private final long[] runDurations = new long[SCORE_STORE_RUNS];
+    private final int[] runDifficulties = new int[SCORE_STORE_RUNS];
+    private int bestScore;
+    private long runCount;
+    private long sequence;
+    private int currentSlot = SCORE_STORE_SLOTS - 1;
+
+    /**
+     * Private constructor for the ScoreStoreImpl class, which loads the last complete slot of the buffer.
+     *
+     * @param buffer  the buffer holding the slots
+     * @param channel the channel of the mapped file, or null if the buffer is in memory
+     */
+    private ScoreStoreImpl(final ByteBuffer buffer, final FileChannel channel) {
+        this.buffer = buffer;
+        this.channel = channel;
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = buffer.slice(i * SLOT_BYTES, SLOT_BYTES);
+        }
+        load();
+    }
+
+    /**
+     * Opens the store kept in a file, creating it if it does not exist. If the file cannot be opened, the scores
+     * are kept in memory for this session.
+     *
+     * @param path the path of the file
+     * @return the store
+     */
+    public static ScoreStore open(final Path path) {
+        FileChannel fileChannel = null;
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            final MappedByteBuffer mapped =
+                    fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SLOT_BYTES * SCORE_STORE_SLOTS);
+            return new ScoreStoreImpl(mapped, fileChannel);
+        } catch (IOException | UnsupportedOperationException e) {
+            Logger.getLogger(ScoreStoreImpl.class.getName())
+                    .log(Level.WARNING, "Cannot open the score store " + path + ", the scores are not saved", e);
+            closeQuietly(fileChannel);
+            return inMemory();
+        }
+    }
+
+    /**
+     * Creates a store kept in memory only, which starts empty.
+     *
+     * @return the store
+     */
+    public static ScoreStore inMemory() {
+        return new ScoreStoreImpl(ByteBuffer.allocate(SLOT_BYTES * SCORE_STORE_SLOTS), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * {@inheritDoc} The slot is written only if the best score is higher than the stored one.
+     */
+    @Override
+    public synchronized void setBestScore(final int score) {
+        if (score > bestScore) {
+            bestScore = score;
+            write();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void recordRun(final RunStats run) {
+        final int index = (int) (runCount % SCORE_STORE_RUNS);
+        runScores[index] = run.getScore();
+        runCoins[index] = run.getCoins();
+        runDurations[index] = run.getDurationMillis();
+        runDifficulties[index] = run.getMaxDifficulty().ordinal();
+        runCount++;
+        bestScore = Math.max(bestScore, run.getScore());
+        write();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized RunStats getRun(final int index) {
+        if (index < 0 || index >= SCORE_STORE_RUNS || index >= runCount) {
+            return null;
+        }
+        final int position = (int) ((runCount - 1 - index) % SCORE_STORE_RUNS);
+        return new RunStats(runScores[position], runCoins[position], runDurations[position],
+                DIFFICULTIES[runDifficulties[position]]);
+    }
+
+    /**
+     * {@inheritDoc} The mapped file is forced to the disk by a virtual thread.
+     */
+    @Override
+    public void flush() {
+        if (channel != null && dirty.compareAndSet(true, false)) {
+            Thread.ofVirtual().start(this::force);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() {
+        if (channel != null && channel.isOpen()) {
+            force();
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Private method to load the data of the valid slot with the highest sequence number. If no slot is valid,
+     * the store starts empty.
+     */
+    private void load() {
+        int latest = -1;
+        for (int i = 0; i < slots.length; i++) {
+            if (isValid(slots[i]) && (latest < 0 || slots[i].getLong(SEQUENCE_OFFSET) > sequence)) {
+                latest = i;
+                sequence = slots[i].getLong(SEQUENCE_OFFSET);
+            }
+        }
+        if (latest < 0) {
+            return;
+        }
+        final ByteBuffer slot = slots[latest];
+        currentSlot = latest;
+        bestScore = slot.getInt(BEST_SCORE_OFFSET);
+        runCount = slot.getLong(RUN_COUNT_OFFSET);
+        for (int i = 0; i < SCORE_STORE_RUNS; i++) {
+            final int offset = RUNS_OFFSET + i * RUN_BYTES;
+            runDurations[i] = slot.getLong(offset);
+            runScores[i] = slot.getInt(offset + Long.BYTES);
+            runCoins[i] = slot.getInt(offset + Long.BYTES + Integer.BYTES);
+            runDifficulties[i] = Math.floorMod(slot.getInt(offset + Long.BYTES + 2 * Integer.BYTES),
+                    DIFFICULTIES.length);
+        }
+    }
+
+    /**
+     * Private method to check if a slot holds complete data of this layout.
+     *
+     * @param slot the slot
+     * @return true if the magic number, the version and the checksum match
+     */
+    private boolean isValid(final ByteBuffer slot) {
+        return slot.getInt(MAGIC_OFFSET) == SCORE_STORE_MAGIC
+                && slot.getInt(VERSION_OFFSET) == SCORE_STORE_VERSION
+                && slot.getInt(CHECKSUM_OFFSET) == computeChecksum(slot);
+    }
+
+    /**
+     * Private method to compute the checksum of the data of a slot.
+     *
+     * @param slot the slot
+     * @return the CRC32 of the bytes before the checksum
+     */
+    private int computeChecksum(final ByteBuffer slot) {
+        checksum.reset();
+        slot.clear().limit(CHECKSUM_OFFSET);
+        checksum.update(slot);
+        slot.clear();
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Private method to write the data to the slot that does not hold the last data, with the next sequence number.
+     * The checksum is written last, so that the slot becomes valid only when it is complete.
+     */
+    private void write() {
+        final int next = (currentSlot + 1) % SCORE_STORE_SLOTS;
+        final ByteBuffer slot = slots[next];
+        sequence++;
+        slot.putInt(MAGIC_OFFSET, SCORE_STORE_MAGIC);
+        slot.putInt(VERSION_OFFSET, SCORE_STORE_VERSION);
+        slot.putLong(SEQUENCE_OFFSET, sequence);
+        slot.putInt(BEST_SCORE_OFFSET, bestScore);
+        slot.putLong(RUN_COUNT_OFFSET, runCount);
+        for (int i = 0; i < SCORE_STORE_RUNS; i++) {
+            final int offset = RUNS_OFFSET + i * RUN_BYTES;
+            slot.putLong(offset, runDurations[i]);
+            slot.putInt(offset + Long.BYTES, runScores[i]);
+            slot.putInt(offset + Long.BYTES + Integer.BYTES, runCoins[i]);
+            slot.putInt(offset + Long.BYTES + 2 * Integer.BYTES, runDifficulties[i]);
+        }
+        slot.putInt(CHECKSUM_OFFSET, computeChecksum(slot));
+        currentSlot = next;
+        dirty.set(true);
+    }
+
+    /**
+     * Private method to force the mapped file to the disk.
+     */
+    private void force() {
+        try {
+            ((MappedByteBuffer) buffer).force();
+        } catch (UncheckedIOException e) {
+            Logger.getLogger(ScoreStoreImpl.class.getName()).log(Level.WARNING, "Cannot save the score store", e);
+        }
+    }
+
+    /**
+     * Private method to close a channel, logging the error if it cannot be closed.
+     *
+     * @param fileChannel the channel, or null
+     */
+    private static void closeQuietly(final FileChannel fileChannel) {
+        if (fileChannel == null) {
+            return;
+        }
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            Logger.getLogger(ScoreStoreImpl.class.getName()).log(Level.WARNING, "Cannot close the score store", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package it.unibo.javajump.model.snapshot;
+
+/**
+ * The events that happened in the model and that the view can react to, for example by playing a sound.
+ */
+public enum RenderEvent {
+    /**
+     * The character jumped on a standard or moving platform.
+     */
+    PLATFORM_TOUCHED,
+    /**
+     * The character jumped on a bounce platform.
+     */
+    BOUNCE_PLATFORM_TOUCHED,
+    /**
+     * The character broke a breakable platform.
+     */
+    BREAKABLE_PLATFORM_BROKEN,
+    /**
+     * The character collected a coin.
+     */
+    COIN_COLLECTED
+}
@@ -0,0 +1,258 @@
+package it.unibo.javajump.model.snapshot;
+
+import it.unibo.javajump.model.entities.collectibles.CoinState;
+import it.unibo.javajump.model.entities.store.EntityType;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+import it.unibo.javajump.model.states.GameState;
+import it.unibo.javajump.model.states.pause.PauseOption;
+
+/**
+ * Interface that describes what the view needs to draw a frame, copied from the model at the end of each simulation
+ * step, whatever the game state: the values are never changed while the view reads them, so the view does not race
+ * with the model, and never needs to read the model.
+ * The GameObjects inside the camera window are addressed by index; the previous positions are kept to
+ * interpolate between the last two steps.
+ */
+public interface RenderSnapshot {
+    /**
+     * Returns the number of the simulation step that produced the snapshot.
+     *
+     * @return the step number, 0 if nothing has been published yet
+     */
+    long getTick();
+
+    /**
+     * Returns the game state at the end of the step.
+     *
+     * @return the game state
+     */
+    GameState getGameState();
+
+    /**
+     * Returns the width of the virtual screen.
+     *
+     * @return the screen width
+     */
+    int getScreenWidth();
+
+    /**
+     * Returns the height of the virtual screen.
+     *
+     * @return the screen height
+     */
+    int getScreenHeight();
+
+    /**
+     * Returns the duration of the step.
+     *
+     * @return the delta time, in seconds
+     */
+    float getDeltaTime();
+
+    /**
+     * Returns the current score.
+     *
+     * @return the score
+     */
+    int getScore();
+
+    /**
+     * Returns the best score.
+     *
+     * @return the best score
+     */
+    int getBestScore();
+
+    /**
+     * Checks if the best score has been beaten during the current run.
+     *
+     * @return true if the current run set a new record
+     */
+    boolean isBestScoreReached();
+
+    /**
+     * Returns the option selected in the pause menu.
+     *
+     * @return the selected option, or null if the game is not paused
+     */
+    PauseOption getPauseSelection();
+
+    /**
+     * Returns the current difficulty.
+     *
+     * @return the difficulty
+     */
+    DifficultyState getDifficulty();
+
+    /**
+     * Returns the difficulty the player is about to reach, so that its assets can be loaded ahead of time.
+     *
+     * @return the upcoming difficulty
+     */
+    DifficultyState getUpcomingDifficulty();
+
+    /**
+     * Returns the camera offset at the end of the step.
+     *
+     * @return the camera offset
+     */
+    float getCameraOffset();
+
+    /**
+     * Returns the camera offset at the end of the previous step.
+     *
+     * @return the previous camera offset
+     */
+    float getPreviousCameraOffset();
+
+    /**
+     * Checks if the snapshot contains the playable character.
+     *
+     * @return true if there is a character to draw
+     */
+    boolean hasPlayer();
+
+    /**
+     * Returns the x position of the character.
+     *
+     * @return the x position
+     */
+    float getPlayerX();
+
+    /**
+     * Returns the y position of the character.
+     *
+     * @return the y position
+     */
+    float getPlayerY();
+
+    /**
+     * Returns the x position of the character at the previous step.
+     *
+     * @return the previous x position
+     */
+    float getPlayerPreviousX();
+
+    /**
+     * Returns the y position of the character at the previous step.
+     *
+     * @return the previous y position
+     */
+    float getPlayerPreviousY();
+
+    /**
+     * Returns the width of the character.
+     *
+     * @return the width
+     */
+    float getPlayerWidth();
+
+    /**
+     * Checks if the character is standing on a platform.
+     *
+     * @return true if the character is on a platform
+     */
+    boolean isPlayerOnPlatform();
+
+    /**
+     * Checks if the character is facing right.
+     *
+     * @return true if the character is facing right
+     */
+    boolean isPlayerFacingRight();
+
+    /**
+     * Returns the number of GameObjects in the snapshot, the character excluded.
+     *
+     * @return the number of GameObjects
+     */
+    int size();
+
+    /**
+     * Returns the number of GameObjects in the whole level, the ones outside the snapshot included.
+     *
+     * @return the number of GameObjects of the model
+     */
+    int getEntityCount();
+
+    /**
+     * Returns the type of a GameObject.
+     *
+     * @param index the GameObject index
+     * @return the type
+     */
+    EntityType getType(int index);
+
+    /**
+     * Returns the x position of a GameObject.
+     *
+     * @param index the GameObject index
+     * @return the x position
+     */
+    float getX(int index);
+
+    /**
+     * Returns the y position of a GameObject.
+     *
+     * @param index the GameObject index
+     * @return the y position
+     */
+    float getY(int index);
+
+    /**
+     * Returns the x position of a GameObject at the previous step.
+     *
+     * @param index the GameObject index
+     * @return the previous x position
+     */
+    float getPreviousX(int index);
+
+    /**
+     * Returns the y position of a GameObject at the previous step.
+     *
+     * @param index the GameObject index
+     * @return the previous y position
+     */
+    float getPreviousY(int index);
+
+    /**
+     * Returns the width of a GameObject.
+     *
+     * @param index the GameObject index
+     * @return the width
+     */
+    float getWidth(int index);
+
+    /**
+     * Returns the height of a GameObject.
+     *
+     * @param index the GameObject index
+     * @return the height
+     */
+    float getHeight(int index);
+
+    /**
+     * Returns the state of a coin.
+     *
+     * @param index the GameObject index
+     * @return the coin state, or null if the GameObject is not a coin
+     */
+    CoinState getCoinState(int index);
+
+    /**
+     * Returns the time spent by a coin in its current state.
+     *
+     * @param index the GameObject index
+     * @return the time in the current state, 0 if the GameObject is not a coin
+     */
+    float getStateTime(int index);
+
+    /**
+     * Returns how many times an event happened since the game was launched. The view compares the counts of
+     * two snapshots to know which events happened in between, even if some snapshots were never drawn.
+     *
+     * @param event the event
+     * @return the total count
+     */
+    long getEventCount(RenderEvent event);
+}
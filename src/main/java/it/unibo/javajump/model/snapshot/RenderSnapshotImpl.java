@@ -0,0 +1,416 @@
+package it.unibo.javajump.model.snapshot;
+
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.entities.GameObject;
+import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.entities.collectibles.Coin;
+import it.unibo.javajump.model.entities.collectibles.CoinState;
+import it.unibo.javajump.model.entities.store.EntityIndex;
+import it.unibo.javajump.model.entities.store.EntityType;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+import it.unibo.javajump.model.states.GameState;
+import it.unibo.javajump.model.states.pause.PauseOption;
+import it.unibo.javajump.model.states.pause.PauseState;
+
+import java.util.Arrays;
+
+import static it.unibo.javajump.utility.Constants.CULLING_MARGIN;
+import static it.unibo.javajump.utility.Constants.ENTITY_INDEX_INITIAL_CAPACITY;
+
+/**
+ * Implementation of the RenderSnapshot interface. The snapshots are pooled by a triple buffer and refilled by the
+ * model with capture; the arrays grow by doubling and are never shrunk, so capturing does not allocate once the
+ * level has reached its usual size.
+ */
+public final class RenderSnapshotImpl implements RenderSnapshot {
+    private long tick;
+    private GameState gameState;
+    private int screenWidth;
+    private int screenHeight;
+    private float deltaTime;
+    private int score;
+    private int bestScore;
+    private boolean bestScoreReached;
+    private PauseOption pauseSelection;
+    private DifficultyState difficulty;
+    private DifficultyState upcomingDifficulty;
+    private float cameraOffset;
+    private float previousCameraOffset;
+
+    private boolean player;
+    private float playerX;
+    private float playerY;
+    private float playerPreviousX;
+    private float playerPreviousY;
+    private float playerWidth;
+    private boolean playerOnPlatform;
+    private boolean playerFacingRight;
+
+    private int size;
+    private int entityCount;
+    private EntityType[] types = new EntityType[ENTITY_INDEX_INITIAL_CAPACITY];
+    private float[] xs = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+    private float[] ys = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+    private float[] previousXs = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+    private float[] previousYs = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+    private float[] widths = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+    private float[] heights = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+    private CoinState[] coinStates = new CoinState[ENTITY_INDEX_INITIAL_CAPACITY];
+    private float[] stateTimes = new float[ENTITY_INDEX_INITIAL_CAPACITY];
+
+    private final long[] eventCounts = new long[RenderEvent.values().length];
+
+    /**
+     * Refills the snapshot from the model, copying the GameObjects inside the camera window plus a margin, and the
+     * total count of each event recorded by the model. Capturing only reads the model.
+     *
+     * @param model       the model
+     * @param tick        the number of the step
+     * @param eventTotals the total count of each event recorded by the model
+     */
+    public void capture(final GameModel model, final long tick, final long[] eventTotals) {
+        this.tick = tick;
+        this.gameState = model.getCurrentState().getGameState();
+        this.screenWidth = model.getScreenWidth();
+        this.screenHeight = model.getScreenHeight();
+        this.deltaTime = model.getDeltaTime();
+        this.score = model.getScore();
+        this.bestScore = model.getScoreManager().getBestScore();
+        this.bestScoreReached = model.getScoreManager().isBestScoreReached();
+        this.pauseSelection = model.getCurrentState() instanceof PauseState pause ? pause.getSelection() : null;
+        this.difficulty = model.getDifficultyManager().getCurrentDifficulty();
+        this.upcomingDifficulty = model.getDifficultyManager().getUpcomingDifficulty();
+        this.cameraOffset = model.getCameraManager().getCurrentOffset();
+        this.previousCameraOffset = model.getCameraManager().getInterpolatedOffset(0);
+
+        final Character character = model.getPlayer();
+        this.player = character != null;
+        if (player) {
+            playerX = character.getX();
+            playerY = character.getY();
+            playerPreviousX = character.getPreviousX();
+            playerPreviousY = character.getPreviousY();
+            playerWidth = character.getWidth();
+            playerOnPlatform = character.isOnPlatform();
+            playerFacingRight = character.isFacingRight();
+        }
+
+        final EntityIndex index = model.getEntityIndex();
+        final int start = index.rangeStart(cameraOffset - CULLING_MARGIN);
+        final int end = index.rangeEnd(cameraOffset + screenHeight + CULLING_MARGIN);
+        entityCount = model.getGameObjects().size();
+        ensureCapacity(end - start);
+        size = 0;
+        for (int i = start; i < end; i++) {
+            add(index.get(i));
+        }
+        System.arraycopy(eventTotals, 0, eventCounts, 0, eventCounts.length);
+    }
+
+    /**
+     * Copies a GameObject at the end of the arrays.
+     *
+     * @param go the GameObject
+     */
+    private void add(final GameObject go) {
+        final int i = size++;
+        types[i] = EntityType.of(go);
+        xs[i] = go.getX();
+        ys[i] = go.getY();
+        previousXs[i] = go.getPreviousX();
+        previousYs[i] = go.getPreviousY();
+        widths[i] = go.getWidth();
+        heights[i] = go.getHeight();
+        coinStates[i] = null;
+        stateTimes[i] = 0;
+        if (go instanceof Coin c) {
+            coinStates[i] = c.getState();
+            stateTimes[i] = c.getStateTime();
+        }
+    }
+
+    /**
+     * Grows the arrays, if needed, to contain the given number of GameObjects.
+     *
+     * @param capacity the number of GameObjects
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= xs.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, xs.length * 2);
+        types = Arrays.copyOf(types, newCapacity);
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+        previousXs = Arrays.copyOf(previousXs, newCapacity);
+        previousYs = Arrays.copyOf(previousYs, newCapacity);
+        widths = Arrays.copyOf(widths, newCapacity);
+        heights = Arrays.copyOf(heights, newCapacity);
+        coinStates = Arrays.copyOf(coinStates, newCapacity);
+        stateTimes = Arrays.copyOf(stateTimes, newCapacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScreenWidth() {
+        return screenWidth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScreenHeight() {
+        return screenHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBestScoreReached() {
+        return bestScoreReached;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PauseOption getPauseSelection() {
+        return pauseSelection;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DifficultyState getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DifficultyState getUpcomingDifficulty() {
+        return upcomingDifficulty;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getCameraOffset() {
+        return cameraOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPreviousCameraOffset() {
+        return previousCameraOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasPlayer() {
+        return player;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPlayerX() {
+        return playerX;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPlayerY() {
+        return playerY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPlayerPreviousX() {
+        return playerPreviousX;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPlayerPreviousY() {
+        return playerPreviousY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPlayerWidth() {
+        return playerWidth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPlayerOnPlatform() {
+        return playerOnPlatform;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPlayerFacingRight() {
+        return playerFacingRight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EntityType getType(final int index) {
+        return types[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getX(final int index) {
+        return xs[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getY(final int index) {
+        return ys[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPreviousX(final int index) {
+        return previousXs[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getPreviousY(final int index) {
+        return previousYs[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getWidth(final int index) {
+        return widths[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getHeight(final int index) {
+        return heights[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CoinState getCoinState(final int index) {
+        return coinStates[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float getStateTime(final int index) {
+        return stateTimes[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEventCount(final RenderEvent event) {
+        return eventCounts[event.ordinal()];
+    }
+}
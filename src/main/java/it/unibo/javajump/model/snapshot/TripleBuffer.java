@@ -0,0 +1,30 @@
+package it.unibo.javajump.model.snapshot;
+
+/**
+ * Interface that describes a lock-free triple buffer, used to pass data from a single writer thread to a single
+ * reader thread: the writer fills its own buffer and publishes it, the reader takes the last published buffer.
+ * Neither thread ever waits for the other, and a buffer is never used by both at the same time.
+ *
+ * @param <T> the type of the buffers
+ */
+public interface TripleBuffer<T> {
+    /**
+     * Returns the buffer owned by the writer, to be filled before publishing it.
+     *
+     * @return the write buffer
+     */
+    T getWriteBuffer();
+
+    /**
+     * Publishes the write buffer, handing the writer another buffer to fill.
+     */
+    void publish();
+
+    /**
+     * Returns the last published buffer, owned by the reader until the next call.
+     * If nothing has been published since the last call, the same buffer is returned again.
+     *
+     * @return the read buffer
+     */
+    T acquire();
+}
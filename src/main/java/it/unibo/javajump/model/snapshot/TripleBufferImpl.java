@@ -0,0 +1,58 @@
+package it.unibo.javajump.model.snapshot;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the TripleBuffer interface. The writer and the reader each own one buffer, and the third one
+ * is exchanged between them through an atomic integer, holding its index and a flag telling if it has been
+ * published after the last acquire.
+ *
+ * @param <T> the type of the buffers
+ */
+public final class TripleBufferImpl<T> implements TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final List<T> buffers;
+    private final AtomicInteger shared = new AtomicInteger(2);
+    private int writeIndex;
+    private int readIndex = 1;
+
+    /**
+     * Instantiates a new Triple buffer.
+     *
+     * @param factory the supplier of the three buffers
+     */
+    public TripleBufferImpl(final Supplier<T> factory) {
+        this.buffers = List.of(factory.get(), factory.get(), factory.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getWriteBuffer() {
+        return buffers.get(writeIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish() {
+        writeIndex = shared.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T acquire() {
+        if ((shared.get() & FRESH) != 0) {
+            readIndex = shared.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return buffers.get(readIndex);
+    }
+}
@@ -19,6 +19,14 @@ public final class GameOverState implements GameStateHandler {
      */
     static final GameState GAME_STATE = GameState.GAME_OVER;
 
+    /**
+     * {@inheritDoc} The run is ended, and its statistics stored.
+     */
+    @Override
+    public void onEnter(final GameModel model) {
+        model.getScoreManager().endRun();
+    }
+
     /**
      * {@inheritDoc} If the action corresponds to "Confirm", goes back to menu.
      */
@@ -31,11 +39,12 @@ public final class GameOverState implements GameStateHandler {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} A render snapshot is published, so that the view can draw the state.
      */
     @Override
     public void update(final GameModel model, final float deltaTime) {
         this.deltaTime = deltaTime;
+        model.publishRenderSnapshot();
         model.notifyObservers();
     }
 
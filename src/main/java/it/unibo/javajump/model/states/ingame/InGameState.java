@@ -2,10 +2,11 @@ package it.unibo.javajump.model.states.ingame;
 
 import it.unibo.javajump.controller.input.GameAction;
 import it.unibo.javajump.model.GameModel;
-import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.character.Character;
-import it.unibo.javajump.model.entities.character.CharacterImpl;
+import it.unibo.javajump.model.entities.store.EntityIndex;
 import it.unibo.javajump.model.physics.MovementDirection;
+import it.unibo.javajump.model.profiling.ProfiledStage;
+import it.unibo.javajump.model.profiling.TickProfiler;
 import it.unibo.javajump.model.states.GameState;
 import it.unibo.javajump.model.states.GameStateHandler;
 import it.unibo.javajump.model.states.pause.PauseState;
@@ -13,6 +14,7 @@ import it.unibo.javajump.model.states.pause.PauseState;
 import static it.unibo.javajump.model.states.ingame.gameutilities.InGameUtilities.applyPacManEffect;
 import static it.unibo.javajump.model.states.ingame.gameutilities.InGameUtilities.checkGameOver;
 import static it.unibo.javajump.model.states.ingame.gameutilities.InGameUtilities.convertIntToMovementDirection;
+import static it.unibo.javajump.utility.Constants.CULLING_MARGIN;
 import static it.unibo.javajump.utility.Constants.LEFT_DIRECTION;
 import static it.unibo.javajump.utility.Constants.NULL_DIRECTION;
 import static it.unibo.javajump.utility.Constants.RIGHT_DIRECTION;
@@ -46,36 +48,60 @@ public final class InGameState implements GameStateHandler {
     }
 
     /**
-     * {@inheritDoc} The implementation updates all Game Objects, and applies Pac-Man effect to the playable character.
-     * Then, in real-time, it checks the various managers, and keeps generating the level. In update is also checked
-     * the game-over condition.
+     * {@inheritDoc} The implementation saves the previous positions (used by the view for interpolation) and updates
+     * the playable character, applying the Pac-Man effect, and the Game Objects inside the camera window plus a margin,
+     * taken from the entity index; the objects far from the camera are left as they are. Then, in real-time, it checks
+     * the various managers, and keeps generating the level, keeping the entity index up to date. In update is also
+     * checked the game-over condition. At the end of the step a render snapshot is published for the view. Each stage
+     * is timed by the profiler of the model.
      */
     @Override
     public void update(final GameModel model, final float deltaTime) {
         this.deltaTime = deltaTime;
+        final TickProfiler profiler = model.getProfiler();
+        long t = profiler.start();
+        final EntityIndex index = model.getEntityIndex();
+        final float cameraOffset = model.getCameraManager().getCurrentOffset();
+        final int start = index.rangeStart(cameraOffset - CULLING_MARGIN);
+        final int end = index.rangeEnd(cameraOffset + model.getScreenHeight() + CULLING_MARGIN);
+
         final Character player = model.getPlayer();
+        player.savePreviousPosition();
+        for (int i = start; i < end; i++) {
+            index.get(i).savePreviousPosition();
+        }
+        t = profiler.lap(ProfiledStage.SYNC, t);
         final MovementDirection md = convertIntToMovementDirection(horizontalDirection);
         model.getPhysicsManager().updateCharacterMovement(player, deltaTime, md);
+        t = profiler.lap(ProfiledStage.PHYSICS, t);
 
-        for (final GameObject go : model.getGameObjects()) {
-            go.update(deltaTime);
-            if (go instanceof CharacterImpl characterImpl) {
-                applyPacManEffect(characterImpl, model.getScreenWidth());
-            }
+        player.update(deltaTime);
+        applyPacManEffect(player, model.getScreenWidth());
+        for (int i = start; i < end; i++) {
+            index.get(i).update(deltaTime);
         }
+        t = profiler.lap(ProfiledStage.ENTITIES, t);
 
         model.getCollisionManager().checkCollisions(model);
+        t = profiler.lap(ProfiledStage.COLLISION, t);
 
         model.getCameraManager().updateCamera(model, deltaTime);
+        t = profiler.lap(ProfiledStage.CAMERA, t);
 
         model.getSpawnManager().generateOnTheFly(model);
+        t = profiler.lap(ProfiledStage.SPAWN, t);
 
         model.getCleanupManager().cleanupObjects(model);
+        t = profiler.lap(ProfiledStage.CLEANUP, t);
 
         model.getDifficultyManager().updateDifficulty(model.getScore());
+        model.getScoreManager().updateRun(deltaTime, model.getDifficultyManager().getCurrentDifficulty());
+        t = profiler.lap(ProfiledStage.DIFFICULTY, t);
 
         checkGameOver(model, player);
 
+        model.publishRenderSnapshot();
+        profiler.lap(ProfiledStage.SNAPSHOT, t);
         model.notifyObservers();
     }
 
@@ -37,11 +37,12 @@ public final class MenuState implements GameStateHandler {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} A render snapshot is published, so that the view can draw the state.
      */
     @Override
     public void update(final GameModel model, final float deltaTime) {
         this.deltaTime = deltaTime;
+        model.publishRenderSnapshot();
         model.notifyObservers();
     }
 
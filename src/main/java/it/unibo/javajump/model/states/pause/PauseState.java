@@ -21,7 +21,8 @@ public final class PauseState implements GameStateHandler {
 
     /**
      * {@inheritDoc} The implemented method checks the current selector and, when "Confirm" action is pressed,
-     * the corresponding state is performed.
+     * the corresponding state is performed. Leaving the run for the menu or quitting ends it, so that its statistics
+     * are stored as well.
      */
     @Override
     public void handleAction(final GameModel model, final GameAction action) {
@@ -31,8 +32,14 @@ public final class PauseState implements GameStateHandler {
                 // switch does not need a default case
                 switch (selection) {
                     case CONTINUE -> model.setState(new InGameState());
-                    case MAIN_MENU -> model.setState(new MenuState());
-                    case QUIT -> model.stopGame();
+                    case MAIN_MENU -> {
+                        model.getScoreManager().endRun();
+                        model.setState(new MenuState());
+                    }
+                    case QUIT -> {
+                        model.getScoreManager().endRun();
+                        model.stopGame();
+                    }
                 }
                 // CHECKSTYLE: MissingSwitchDefault ON
             }
@@ -59,11 +66,12 @@ public final class PauseState implements GameStateHandler {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} A render snapshot is published, so that the view can draw the state.
      */
     @Override
     public void update(final GameModel model, final float deltaTime) {
         this.deltaTime = deltaTime;
+        model.publishRenderSnapshot();
         model.notifyObservers();
     }
 
@@ -95,6 +95,113 @@ public final class Constants {
      */
     public static final int SLEEP_THREAD = 1;
 
+    /**
+     * The constant TICK_RATE: specifies the fixed number of simulation steps per second.
+     */
+    public static final double TICK_RATE = 60;
+
+    /**
+     * The constant MAX_CATCH_UP_STEPS: specifies the maximum number of simulation steps run before a render,
+     * when the game loop falls behind.
+     */
+    public static final int MAX_CATCH_UP_STEPS = 5;
+
+    /**
+     * The constant INTERPOLATION_ALPHA_CURRENT: the interpolation alpha that draws objects at their current position.
+     */
+    public static final float INTERPOLATION_ALPHA_CURRENT = 1f;
+
+
+//Headless Simulation -------------------------------------------------------------------
+
+    /**
+     * The constant HEADLESS_DEFAULT_TICKS: specifies the default maximum number of steps of a headless run.
+     */
+    public static final long HEADLESS_DEFAULT_TICKS = 36_000;
+
+    /**
+     * The constant HEADLESS_DEFAULT_RUNS: specifies the default number of headless runs.
+     */
+    public static final int HEADLESS_DEFAULT_RUNS = 3;
+
+    /**
+     * The constant UNMEASURED_ALLOCATION: the allocated bytes reported when the JVM cannot measure them.
+     */
+    public static final long UNMEASURED_ALLOCATION = -1;
+
+    /**
+     * The constant AUTOPILOT_HALF_DIV: divisor used by the autopilot for centers and the height of a jump.
+     */
+    public static final float AUTOPILOT_HALF_DIV = 2f;
+
+    /**
+     * The constant AUTOPILOT_DEAD_ZONE_DIV: the autopilot stops moving when the character is closer to the
+     * center of the target platform than its width divided by this value.
+     */
+    public static final float AUTOPILOT_DEAD_ZONE_DIV = 4f;
+
+
+// Input Replay -----------------------------------------------------------------------------
+
+    /**
+     * The constant RECORD_PROPERTY: specifies the system property that sets the file the input of the session
+     * is recorded to.
+     */
+    public static final String RECORD_PROPERTY = "javajump.record";
+
+    /**
+     * The constant REPLAY_MAGIC: the first bytes of an input log file, "JJRP".
+     */
+    public static final int REPLAY_MAGIC = 0x4A4A_5250;
+
+    /**
+     * The constant REPLAY_VERSION: the version of the input log format.
+     */
+    public static final int REPLAY_VERSION = 1;
+
+    /**
+     * The constant REPLAY_INITIAL_CAPACITY: the initial number of events an input log can hold.
+     */
+    public static final int REPLAY_INITIAL_CAPACITY = 256;
+
+    /**
+     * The constant REPLAY_CODE_BITS: the number of low bits of a stored event that hold its code.
+     */
+    public static final int REPLAY_CODE_BITS = 8;
+
+    /**
+     * The constant REPLAY_CODE_MASK: the mask of the code of a stored event.
+     */
+    public static final int REPLAY_CODE_MASK = 0xFF;
+
+    /**
+     * The constant REPLAY_DIRECTION_CODE: the code of a left direction sample; the null and right direction
+     * samples follow it, while the codes below it are the ordinals of the actions.
+     */
+    public static final int REPLAY_DIRECTION_CODE = 0x80;
+
+    /**
+     * The constant VARINT_PAYLOAD_BITS: the number of bits of a value stored in each byte of a variable length
+     * integer.
+     */
+    public static final int VARINT_PAYLOAD_BITS = 7;
+
+    /**
+     * The constant VARINT_PAYLOAD_MASK: the mask of the bits of a value stored in a byte of a variable length
+     * integer.
+     */
+    public static final int VARINT_PAYLOAD_MASK = 0x7F;
+
+    /**
+     * The constant VARINT_CONTINUATION: the flag of a byte of a variable length integer that is followed by another.
+     */
+    public static final int VARINT_CONTINUATION = 0x80;
+
+    /**
+     * The constant VARINT_MAX_SHIFT: the largest shift of a byte of a variable length integer holding a long.
+     */
+    public static final int VARINT_MAX_SHIFT = 63;
+
 
 //Camera Manager --------------------------------------------------------------------------
 
@@ -122,6 +229,21 @@ public final class Constants {
     public static final int COIN_SCORE_VALUE = 50;
 
 
+//Entity Index -----------------------------------------------------------------------------
+
+    /**
+     * The constant ENTITY_INDEX_INITIAL_CAPACITY: specifies the initial capacity of the entity index and render
+     * snapshot arrays.
+     */
+    public static final int ENTITY_INDEX_INITIAL_CAPACITY = 64;
+
+    /**
+     * The constant CULLING_MARGIN: specifies the margin added above and below the camera window when choosing the
+     * objects to update, collide and draw.
+     */
+    public static final float CULLING_MARGIN = 200;
+
+
 //Character ------------------------------------------------------------------------------
 
     /**
@@ -164,16 +286,6 @@ public final class Constants {
 
 //Generic Numbers --------------------------------------------------------------------------
 
-    /**
-     * The constant FLIP_MAX: specifies the maximum flip value.
-     */
-    public static final int FLIP_MAX = 1;
-
-    /**
-     * The constant FLIP_MIN: specifies the minimum flip value.
-     */
-    public static final int FLIP_MIN = -1;
-
     /**
      * The constant SCREEN_LEFT_MARGIN: specifies the left margin of the screen.
      */
@@ -210,19 +322,9 @@ public final class Constants {
     public static final int RENDER_PLAYER_ANIM_TIMER_INIT = 0;
 
     /**
-     * The constant RENDER_PLAYER_FRAME_GET_IMG_Y: specifies the y position of the frame to get from the sprite sheet.
-     */
-    public static final int RENDER_PLAYER_FRAME_GET_IMG_Y = 0;
-
-    /**
-     * The constant RENDER_PLAYER_FRAME_Y: specifies the y position of the player frame.
-     */
-    public static final int RENDER_PLAYER_FRAME_Y = 0;
-
-    /**
-     * The constant RENDER_PLAYER_FRAME_X: specifies the x position of the player frame.
+     * The constant RENDER_PLAYER_ROW: specifies the row containing the frames of the player sprite sheet.
      */
-    public static final int RENDER_PLAYER_FRAME_X = 0;
+    public static final int RENDER_PLAYER_ROW = 0;
 
     /**
      * The constant RENDER_UI_SCORE_CONTAINER_X: specifies the x position of the score container.
@@ -358,6 +460,12 @@ public final class Constants {
      */
     public static final int SCORE_INIT = 0;
 
+    /**
+     * The constant DIFFICULTY_PREFETCH_MARGIN: specifies how many points before its threshold a difficulty
+     * is considered upcoming, so that the view can load its assets ahead of time.
+     */
+    public static final int DIFFICULTY_PREFETCH_MARGIN = 1000;
+
     /**
      * The constant HELL_MIN: specifies the minimum score for the hell difficulty setting.
      */
@@ -442,6 +550,12 @@ public final class Constants {
      */
     public static final float CLEAN_UP_MARGIN_OFFSET = 50;
 
+    /**
+     * The constant FACTORY_POOL_MAX_SIZE: specifies the maximum number of recycled objects kept by the factory
+     * for each type of platform and for coins.
+     */
+    public static final int FACTORY_POOL_MAX_SIZE = 64;
+
 
 // Spawn Manager ----------------------------------------------------------------------------
 
@@ -465,6 +579,23 @@ public final class Constants {
      */
     public static final float SPAWN_THRESHOLD = 400f;
 
+    /**
+     * The constant LEVEL_GENERATOR_THREAD_NAME: specifies the name of the threads generating the level ahead of time.
+     */
+    public static final String LEVEL_GENERATOR_THREAD_NAME = "level-generator";
+
+    /**
+     * The constant LEVEL_CHUNKS_AHEAD: specifies the number of batches of the level generated ahead of time.
+     */
+    public static final int LEVEL_CHUNKS_AHEAD = 2;
+
+    /**
+     * The constant LEVEL_HELD_BACK_MAX_SIZE: specifies the maximum number of recycled objects held back by the spawn
+     * manager until the next batch is requested; a batch is far smaller, so the limit is only reached when no batch
+     * is requested for a long time.
+     */
+    public static final int LEVEL_HELD_BACK_MAX_SIZE = 64;
+
     /**
      * The constant BOUNCE_FACTOR_MIN: specifies the minimum bounce factor possible.
      */
@@ -489,21 +620,108 @@ public final class Constants {
      */
     public static final float CHARACTER_CREATION_HEIGHT_MUL = 0.8f;
 
+    /**
+     * The constant RANDOM_SEED_PROPERTY: specifies the system property that sets the seed of the first run.
+     */
+    public static final String RANDOM_SEED_PROPERTY = "javajump.seed";
 
-// Background Renderer ----------------------------------------------------------------------
+
+// Score Store ------------------------------------------------------------------------------
+
+    /**
+     * The constant SCORES_PROPERTY: specifies the system property that sets the file the best score and the runs
+     * are stored in.
+     */
+    public static final String SCORES_PROPERTY = "javajump.scores";
 
     /**
-     * The constant BG_EXTRA_TILES_NUMBER: specifies the number of extra tiles for the background fill.
+     * The constant SCORES_DEFAULT_FILE: specifies the file the scores are stored in, in the home of the user,
+     * if SCORES_PROPERTY is not set.
      */
-    public static final int BG_EXTRA_TILES_NUMBER = 2;
+    public static final String SCORES_DEFAULT_FILE = ".javajump-scores.dat";
 
+    /**
+     * The constant SCORE_STORE_MAGIC: specifies the first bytes of each slot of the score store, "JJSC".
+     */
+    public static final int SCORE_STORE_MAGIC = 0x4A4A_5343;
 
-// Coin Render ------------------------------------------------------------------------------
+    /**
+     * The constant SCORE_STORE_VERSION: specifies the version of the layout of the score store.
+     */
+    public static final int SCORE_STORE_VERSION = 1;
 
     /**
-     * The constant COIN_ANIM_TIMER_START: specifies the start value for the coin animation timer.
+     * The constant SCORE_STORE_RUNS: specifies the number of the last runs kept by the score store.
      */
-    public static final float COIN_ANIM_TIMER_START = 0;
+    public static final int SCORE_STORE_RUNS = 8;
+
+    /**
+     * The constant SCORE_STORE_SLOTS: specifies the number of slots of the score store, written in turn so that
+     * the other one is always complete.
+     */
+    public static final int SCORE_STORE_SLOTS = 2;
+
+    /**
+     * The constant MILLIS_PER_SECOND: specifies the milliseconds in a second.
+     */
+    public static final float MILLIS_PER_SECOND = 1000f;
+
+
+// Tick Profiler ----------------------------------------------------------------------------
+
+    /**
+     * The constant PROFILER_PROPERTY: specifies the system property that enables the tick profiler.
+     */
+    public static final String PROFILER_PROPERTY = "javajump.profile";
+
+    /**
+     * The constant HISTOGRAM_SUB_BUCKET_BITS: specifies the number of bits of the values kept by the profiler
+     * histograms, so that each bucket is at most 1/16 of its values wide.
+     */
+    public static final int HISTOGRAM_SUB_BUCKET_BITS = 5;
+
+    /**
+     * The constant NANOSECONDS_PER_MILLISECOND: specifies the number of nanoseconds in a millisecond.
+     */
+    public static final double NANOSECONDS_PER_MILLISECOND = 1_000_000;
+
+    /**
+     * The constant PROFILER_P50: specifies the median percentile shown in the profiler report.
+     */
+    public static final double PROFILER_P50 = 50;
+
+    /**
+     * The constant PROFILER_P99: specifies the tail percentile shown in the profiler report.
+     */
+    public static final double PROFILER_P99 = 99;
+
+    /**
+     * The constant PROFILER_REPORT_HEADER: specifies the header of the profiler report.
+     */
+    public static final String PROFILER_REPORT_HEADER = String.format("%-10s %10s %9s %9s %9s",
+            "stage", "samples", "p50 ms", "p99 ms", "max ms");
+
+    /**
+     * The constant PROFILER_REPORT_ROW: specifies the format of a stage in the profiler report.
+     */
+    public static final String PROFILER_REPORT_ROW = "%-10s %10d %9.3f %9.3f %9.3f";
+
+    /**
+     * The constant JFR_EVENTS_PROPERTY: specifies the system property that enables the Flight Recorder events.
+     */
+    public static final String JFR_EVENTS_PROPERTY = "javajump.jfr";
+
+
+// Background Renderer ----------------------------------------------------------------------
+
+    /**
+     * The constant BG_TRANSITION_STEPS: specifies the number of steps the background cross-fade is quantized to,
+     * so that the blended layer is drawn again only when the transition moves to the next step.
+     */
+    public static final int BG_TRANSITION_STEPS = 32;
+
+
+// Coin Render ------------------------------------------------------------------------------
 
     /**
      * The constant COIN_ANIMATION_CYCLE_DURATION: specifies the duration of the coin animation cycle.
@@ -515,6 +733,12 @@ public final class Constants {
      */
     public static final int COIN_ANIMATION_INDEX_MAX = 7;
 
+    /**
+     * The constant COIN_COLLECT_DURATION: specifies how long a collected coin is animated before being finished.
+     */
+    public static final float COIN_COLLECT_DURATION =
+            COIN_ANIMATION_INDEX_MAX * Constants.RENDER_MANAGER_COIN_FRAME_DURATION;
+
 
 // Player Render ---------------------------------------------------------------------------------
 
@@ -578,6 +802,80 @@ public final class Constants {
     public static final String HIGH_SCORE_RENDER_TEXT = "New High Score !!";
 
 
+// Performance Overlay ------------------------------------------------------------------------------
+
+    /**
+     * The constant OVERLAY_REFRESH_INTERVAL: specifies how often, in seconds, the performance overlay is sampled
+     * and drawn again.
+     */
+    public static final float OVERLAY_REFRESH_INTERVAL = 0.25f;
+
+    /**
+     * The constant OVERLAY_FONT_SIZE: specifies the font size of the performance overlay.
+     */
+    public static final int OVERLAY_FONT_SIZE = 14;
+
+    /**
+     * The constant OVERLAY_MARGIN: specifies the distance of the performance overlay from the screen corner.
+     */
+    public static final int OVERLAY_MARGIN = 10;
+
+    /**
+     * The constant OVERLAY_PADDING: specifies the space around the text of the performance overlay.
+     */
+    public static final int OVERLAY_PADDING = 6;
+
+    /**
+     * The constant OVERLAY_TEXT_COLOR: specifies the text color of the performance overlay.
+     */
+    public static final String OVERLAY_TEXT_COLOR = "#7CFC00";
+
+    /**
+     * The constant OVERLAY_BACKGROUND_COLOR: specifies the background color of the performance overlay.
+     */
+    public static final String OVERLAY_BACKGROUND_COLOR = "#05051C";
+
+    /**
+     * The constant OVERLAY_BACKGROUND_ALPHA: specifies the opacity (0-255) of the performance overlay background.
+     */
+    public static final int OVERLAY_BACKGROUND_ALPHA = 180;
+
+    /**
+     * The constant BYTES_PER_MEGABYTE: specifies the number of bytes in a megabyte.
+     */
+    public static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    /**
+     * The constant OVERLAY_FRAME_RATE_TEXT: specifies the format of the frame and tick rates.
+     */
+    public static final String OVERLAY_FRAME_RATE_TEXT = "FPS %5.1f   TPS %5.1f";
+
+    /**
+     * The constant OVERLAY_ENTITIES_TEXT: specifies the format of the entity counts.
+     */
+    public static final String OVERLAY_ENTITIES_TEXT = "Entities %d (%d drawn)";
+
+    /**
+     * The constant OVERLAY_HEAP_TEXT: specifies the format of the heap usage.
+     */
+    public static final String OVERLAY_HEAP_TEXT = "Heap %d / %d MB";
+
+    /**
+     * The constant OVERLAY_GC_TEXT: specifies the format of the garbage collections.
+     */
+    public static final String OVERLAY_GC_TEXT = "GC %d (%d ms)";
+
+    /**
+     * The constant OVERLAY_STAGE_TEXT: specifies the format of the time of a stage.
+     */
+    public static final String OVERLAY_STAGE_TEXT = "%-10s %6.3f ms  max %6.2f";
+
+    /**
+     * The constant OVERLAY_PROFILER_OFF_TEXT: specifies the text shown when the stages are not timed.
+     */
+    public static final String OVERLAY_PROFILER_OFF_TEXT = "Stage times off";
+
+
 // Render Manager -----------------------------------------------------------------------------------
 
     /**
@@ -683,24 +981,65 @@ public final class Constants {
     public static final float MUSIC_LOOP_END = 0.885f;
 
     /**
-     * The constant AUDIO_FRAME_INIT: specifies the initial frame of the audio track.
+     * The constant MIXER_SAMPLE_RATE: specifies the sample rate of the audio mixer, in Hz.
      */
-    public static final int AUDIO_FRAME_INIT = 0;
+    public static final float MIXER_SAMPLE_RATE = 44_100f;
 
     /**
-     * The constant AUDIO_STEPS: specifies the number of desired fadeout steps in the audio track.
+     * The constant MIXER_SAMPLE_BITS: specifies the bits of each sample mixed by the audio mixer.
      */
-    public static final int AUDIO_STEPS = 50;
+    public static final int MIXER_SAMPLE_BITS = 16;
 
     /**
-     * The constant AUDIO_SLEEP: specifies the sleep time between fadeout steps.
+     * The constant MIXER_CHANNELS: specifies the number of channels of the audio mixer.
      */
-    public static final int AUDIO_SLEEP = 1000;
+    public static final int MIXER_CHANNELS = 2;
 
     /**
-     * The constant SOUNDS_POOL_SIZE_NUMBER: specifies the size of the sound effects pool.
+     * The constant MIXER_FRAME_BYTES: specifies the bytes of a frame written by the audio mixer.
      */
-    public static final int SOUNDS_POOL_SIZE_NUMBER = 5;
+    public static final int MIXER_FRAME_BYTES = MIXER_CHANNELS * MIXER_SAMPLE_BITS / Byte.SIZE;
+
+    /**
+     * The constant MIXER_BLOCK_FRAMES: specifies the number of frames mixed at a time, about 12 ms.
+     */
+    public static final int MIXER_BLOCK_FRAMES = 512;
+
+    /**
+     * The constant MIXER_LINE_BLOCKS: specifies the size of the buffer of the audio line, in mixed blocks.
+     */
+    public static final int MIXER_LINE_BLOCKS = 4;
+
+    /**
+     * The constant MIXER_VOICES: specifies the maximum number of sounds played at the same time.
+     */
+    public static final int MIXER_VOICES = 16;
+
+    /**
+     * The constant MIXER_THREAD_NAME: specifies the name of the audio mixer thread.
+     */
+    public static final String MIXER_THREAD_NAME = "audio-mixer";
+
+    /**
+     * The constant MIXER_CLOSE_TIMEOUT_MILLIS: specifies how long closing the mixer waits for the audio line
+     * to be released, in milliseconds.
+     */
+    public static final long MIXER_CLOSE_TIMEOUT_MILLIS = 100;
+
+    /**
+     * The constant VOLUME_MIN_DB: specifies the gain of the minimum volume, in decibels.
+     */
+    public static final float VOLUME_MIN_DB = -80f;
+
+    /**
+     * The constant VOLUME_MAX_DB: specifies the gain of the maximum volume, in decibels.
+     */
+    public static final float VOLUME_MAX_DB = 6.0206f;
+
+    /**
+     * The constant DECIBELS_PER_DECADE: specifies the decibels of a tenfold amplitude.
+     */
+    public static final float DECIBELS_PER_DECADE = 20f;
 
 
 // InGameView -----------------------------------------------------------------------------------
@@ -1015,6 +1354,22 @@ public final class Constants {
      */
     public static final float MAIN_VIEW_AUDIO_FADE = 2f;
 
+    /**
+     * The constant MAIN_VIEW_RENDER_THREAD_NAME: specifies the name of the thread that draws the frames.
+     */
+    public static final String MAIN_VIEW_RENDER_THREAD_NAME = "JavaJump-Render";
+
+    /**
+     * The constant ACTIVE_RENDERING_PROPERTY: specifies the system property that enables the active rendering,
+     * set it to false to draw through Swing repaint instead.
+     */
+    public static final String ACTIVE_RENDERING_PROPERTY = "javajump.activeRendering";
+
+    /**
+     * The constant ACTIVE_RENDER_BUFFERS: specifies the number of buffers of the active rendering buffer strategy.
+     */
+    public static final int ACTIVE_RENDER_BUFFERS = 2;
+
     /**
      * The constant MAIN_VIEW_DRAW_X_INIT: specifies the main view background draw x init.
      */
@@ -0,0 +1,34 @@
+package it.unibo.javajump.view;
+
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.util.function.Consumer;
+
+/**
+ * Interface that describes a surface drawn with active rendering: the frames are presented by the render thread
+ * itself, without going through repaint and the Event Dispatch Thread.
+ */
+public interface ActiveRenderSurface {
+    /**
+     * Returns the component to add to the view.
+     *
+     * @return the component
+     */
+    Component getComponent();
+
+    /**
+     * Draws a frame of the virtual screen and presents it on the surface, scaled to fit.
+     *
+     * @param drawFrame the action that draws the frame, at the virtual screen size
+     * @return true if the frame was presented, false if the caller has to present it in another way
+     */
+    boolean render(Consumer<Graphics2D> drawFrame);
+
+    /**
+     * Checks if the surface can still present frames. Once the accelerated buffers could not be created,
+     * the surface is never used again.
+     *
+     * @return true if the surface is supported
+     */
+    boolean isSupported();
+}
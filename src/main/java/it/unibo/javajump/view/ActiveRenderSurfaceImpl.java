@@ -0,0 +1,175 @@
+package it.unibo.javajump.view;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
+import java.io.Serial;
+import java.util.function.Consumer;
+
+import static it.unibo.javajump.utility.Constants.ACTIVE_RENDER_BUFFERS;
+import static it.unibo.javajump.utility.Constants.BACKGROUND_DEFAULT_COLOR;
+import static it.unibo.javajump.utility.Constants.MAIN_VIEW_RECT_X;
+import static it.unibo.javajump.utility.Constants.MAIN_VIEW_RECT_Y;
+import static it.unibo.javajump.utility.Constants.SERIAL_ID;
+
+/**
+ * Implementation of the ActiveRenderSurface interface, based on a Canvas. The frame is drawn at the virtual screen
+ * size into a VolatileImage, that lives in video memory when the pipeline is accelerated, and is then scaled into
+ * the back buffer of a BufferStrategy and flipped on screen. Both the images can be lost (e.g. when the window is
+ * minimized), so every step is repeated until it succeeds.
+ */
+public final class ActiveRenderSurfaceImpl extends Canvas implements ActiveRenderSurface {
+    @Serial
+    private static final long serialVersionUID = SERIAL_ID;
+
+    private final int virtualWidth;
+    private final int virtualHeight;
+    private final Color backgroundColor = Color.decode(BACKGROUND_DEFAULT_COLOR);
+
+    private final transient Object surfaceLock = new Object();
+    private transient VolatileImage backBuffer;
+    private transient BufferStrategy strategy;
+    private volatile boolean supported = true;
+
+    /**
+     * Instantiates a new Active render surface.
+     *
+     * @param virtualWidth  the width of the virtual screen
+     * @param virtualHeight the height of the virtual screen
+     */
+    public ActiveRenderSurfaceImpl(final int virtualWidth, final int virtualHeight) {
+        this.virtualWidth = virtualWidth;
+        this.virtualHeight = virtualHeight;
+        setIgnoreRepaint(true);
+        setFocusable(false);
+        setBackground(backgroundColor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Component getComponent() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * No frame is presented until the canvas is displayable and has a size.
+     */
+    @Override
+    public boolean render(final Consumer<Graphics2D> drawFrame) {
+        if (!supported || !isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+        synchronized (surfaceLock) {
+            try {
+                if (strategy == null) {
+                    createBufferStrategy(ACTIVE_RENDER_BUFFERS);
+                    strategy = getBufferStrategy();
+                }
+                drawBackBuffer(drawFrame);
+                present();
+                return true;
+            } catch (final IllegalStateException | IllegalArgumentException e) {
+                supported = false;
+                return false;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The buffers are released with the native peer, and created again if the canvas is shown again.
+     */
+    @Override
+    public void removeNotify() {
+        synchronized (surfaceLock) {
+            strategy = null;
+            if (backBuffer != null) {
+                backBuffer.flush();
+                backBuffer = null;
+            }
+            super.removeNotify();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Nothing is painted by the Event Dispatch Thread: the frames are presented by render.
+     */
+    @Override
+    public void paint(final Graphics g) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Graphics g) {
+    }
+
+    /**
+     * Draws the frame into the volatile back buffer, creating it again if it is missing or not compatible with
+     * the current screen, and drawing again if its contents were lost meanwhile.
+     *
+     * @param drawFrame the action that draws the frame
+     */
+    private void drawBackBuffer(final Consumer<Graphics2D> drawFrame) {
+        final GraphicsConfiguration gc = getGraphicsConfiguration();
+        do {
+            if (backBuffer == null || backBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (backBuffer != null) {
+                    backBuffer.flush();
+                }
+                backBuffer = gc.createCompatibleVolatileImage(virtualWidth, virtualHeight, Transparency.OPAQUE);
+            }
+            final Graphics2D g2 = backBuffer.createGraphics();
+            try {
+                drawFrame.accept(g2);
+            } finally {
+                g2.dispose();
+            }
+        } while (backBuffer.contentsLost());
+    }
+
+    /**
+     * Scales the back buffer into the buffer strategy, keeping the aspect ratio, and shows it.
+     */
+    private void present() {
+        final Rectangle scaledRect = ScaleUtils.computeScaledRectangle(virtualWidth, virtualHeight, getSize());
+        do {
+            do {
+                final Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    g.setColor(backgroundColor);
+                    g.fillRect(MAIN_VIEW_RECT_X, MAIN_VIEW_RECT_Y, getWidth(), getHeight());
+                    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                            RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+                    g.drawImage(backBuffer, scaledRect.x, scaledRect.y, scaledRect.width, scaledRect.height, null);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+    }
+}
@@ -0,0 +1,74 @@
+package it.unibo.javajump.view;
+
+import it.unibo.javajump.model.entities.GameObject;
+
+/**
+ * The class Interpolation utils, used to draw game objects between two simulation steps.
+ */
+public final class InterpolationUtils {
+    /**
+     * Linearly interpolates between a previous and a current value.
+     *
+     * @param previous the value at the start of the last simulation step
+     * @param current  the value at the end of the last simulation step
+     * @param alpha    the fraction (0 to 1) of a simulation step elapsed since the last update
+     *
+     * @return the interpolated value
+     */
+    public static float interpolate(final float previous, final float current, final float alpha) {
+        return previous + (current - previous) * alpha;
+    }
+
+    /**
+     * Computes the x position to draw a GameObject at. If the object moved by more than its own width
+     * in a single step (e.g. the Pac-Man effect moved it to the other side of the screen),
+     * the current position is returned, to avoid drawing it across the screen.
+     *
+     * @param obj   the GameObject
+     * @param alpha the fraction (0 to 1) of a simulation step elapsed since the last update
+     *
+     * @return the interpolated x position
+     */
+    public static float interpolateX(final GameObject obj, final float alpha) {
+        return interpolateX(obj.getPreviousX(), obj.getX(), obj.getWidth(), alpha);
+    }
+
+    /**
+     * Computes the x position to draw an object at, from the values copied in a render snapshot.
+     *
+     * @param previousX the x position at the start of the last simulation step
+     * @param x         the x position at the end of the last simulation step
+     * @param width     the width of the object
+     * @param alpha     the fraction (0 to 1) of a simulation step elapsed since the last update
+     *
+     * @return the interpolated x position
+     * @see #interpolateX(GameObject, float)
+     */
+    public static float interpolateX(final float previousX, final float x, final float width, final float alpha) {
+        if (Math.abs(x - previousX) > width) {
+            return x;
+        }
+        return interpolate(previousX, x, alpha);
+    }
+
+    /**
+     * Computes the y position to draw a GameObject at.
+     *
+     * @param obj   the GameObject
+     * @param alpha the fraction (0 to 1) of a simulation step elapsed since the last update
+     *
+     * @return the interpolated y position
+     */
+    public static float interpolateY(final GameObject obj, final float alpha) {
+        return interpolate(obj.getPreviousY(), obj.getY(), alpha);
+    }
+
+    /**
+     * Private constructor for utility class.
+     *
+     * @throws AssertionError the assertion error if the constructor is called
+     */
+    private InterpolationUtils() {
+        throw new AssertionError("This is a utility class, it should not be instantiated!");
+    }
+}
@@ -7,6 +7,19 @@ public interface MainGameView {
 
     /**
      * Method to update the view.
+     *
+     * @param interpolationAlpha the fraction (0 to 1) of a simulation step elapsed since the last model update,
+     *                           used to interpolate between the previous and the current positions
      */
-    void updateView();
+    void updateView(float interpolationAlpha);
+
+    /**
+     * Shows the performance overlay if it is hidden, hides it otherwise.
+     */
+    void togglePerformanceOverlay();
+
+    /**
+     * Stops the sounds of the view and releases the audio line, when the game is closed.
+     */
+    void close();
 }
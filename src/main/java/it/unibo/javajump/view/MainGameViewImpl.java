@@ -3,14 +3,22 @@ package it.unibo.javajump.view;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javajump.model.GameModel;
 import it.unibo.javajump.model.GameModelObserver;
+import it.unibo.javajump.model.profiling.ProfiledStage;
+import it.unibo.javajump.model.profiling.events.FrameEvent;
+import it.unibo.javajump.model.profiling.events.GameEvents;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.snapshot.RenderEvent;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 import it.unibo.javajump.model.states.GameState;
-import it.unibo.javajump.model.states.GameStateHandler;
 import it.unibo.javajump.view.graphics.GameGraphics;
 import it.unibo.javajump.view.graphics.GameGraphicsImpl;
 import it.unibo.javajump.view.renderers.RenderManager;
 import it.unibo.javajump.view.renderers.RendererManagerImpl;
+import it.unibo.javajump.view.sound.mixer.AudioMixer;
+import it.unibo.javajump.view.sound.mixer.AudioMixerImpl;
 import it.unibo.javajump.view.sound.music.MusicManager;
 import it.unibo.javajump.view.sound.music.MusicManagerImpl;
+import it.unibo.javajump.view.sound.sfx.SFXType;
 import it.unibo.javajump.view.sound.sfx.SoundEffectsManager;
 import it.unibo.javajump.view.sound.sfx.SoundEffectsManagerImpl;
 import it.unibo.javajump.view.viewstates.GameOverView;
@@ -20,27 +28,42 @@ import it.unibo.javajump.view.viewstates.MenuView;
 import it.unibo.javajump.view.viewstates.PauseView;
 
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Rectangle;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.image.BufferedImage;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import static it.unibo.javajump.utility.Constants.ACTIVE_RENDERING_PROPERTY;
 import static it.unibo.javajump.utility.Constants.BACKGROUND_DEFAULT_COLOR;
+import static it.unibo.javajump.utility.Constants.INTERPOLATION_ALPHA_CURRENT;
 import static it.unibo.javajump.utility.Constants.MAIN_VIEW_AUDIO_FADE;
 import static it.unibo.javajump.utility.Constants.MAIN_VIEW_RECT_X;
 import static it.unibo.javajump.utility.Constants.MAIN_VIEW_RECT_Y;
+import static it.unibo.javajump.utility.Constants.MAIN_VIEW_RENDER_THREAD_NAME;
 import static it.unibo.javajump.utility.Constants.MUSIC_VOLUME;
 import static it.unibo.javajump.utility.Constants.RESOURCES_MUSIC_1;
 import static it.unibo.javajump.utility.Constants.SERIAL_ID;
 import static it.unibo.javajump.utility.Constants.SOUND_EFFECTS_VOLUME;
 
 /**
- * The implementation of the MainGameView interface.
+ * The implementation of the MainGameView interface. The frames are drawn by a dedicated render thread, woken up by
+ * the game loop at the render rate. When the active rendering is available, the render thread also presents the
+ * frames, through an accelerated ActiveRenderSurface covering the panel; otherwise the frame is drawn into a back
+ * buffer that is then swapped with the one shown by paintComponent, and the Event Dispatch Thread only copies the
+ * last complete frame on screen. The render thread only reads the render snapshots published by the model.
  */
 public final class MainGameViewImpl extends JPanel implements MainGameView, GameModelObserver, Serializable {
     @Serial
@@ -55,11 +78,28 @@ public final class MainGameViewImpl extends JPanel implements MainGameView, Game
     private final int virtualWidth;
     private final int virtualHeight;
 
-    private final transient BufferedImage tempScreen;
+    private transient BufferedImage frontBuffer;
+    private transient BufferedImage backBuffer;
+    private final transient Object bufferLock = new Object();
+    private transient volatile ActiveRenderSurface activeSurface;
+    private transient GameState frameState;
+    private transient RenderSnapshot frameSnapshot;
+    private final transient Consumer<Graphics2D> frameDrawer = this::drawFrame;
+
+    private final transient AtomicBoolean frameRequested = new AtomicBoolean();
+    private transient volatile Thread renderThread;
+    private final long[] lastEventCounts = new long[RenderEvent.values().length];
 
     private GameState lastState;
 
+    private volatile float interpolationAlpha = INTERPOLATION_ALPHA_CURRENT;
+    private boolean performanceOverlay;
+    private final boolean profilerEnabledAtStart;
+
+    private final transient GameGraphics gameGraphics;
+    private final transient AudioMixer audioMixer;
     private final transient MusicManager musicManager;
+    private final transient SoundEffectsManager soundEffectsManager;
 
     /**
      * Instantiates a new Main game view.
@@ -68,25 +108,31 @@ public final class MainGameViewImpl extends JPanel implements MainGameView, Game
      */
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "model is used inside paintComponent method")
     public MainGameViewImpl(final GameModel model) {
-        final GameGraphics gameGraphics = new GameGraphicsImpl();
+        this.gameGraphics = new GameGraphicsImpl();
         this.model = model;
 
-        this.musicManager = new MusicManagerImpl(RESOURCES_MUSIC_1, MUSIC_VOLUME);
-        final SoundEffectsManager soundEffectsManager = new SoundEffectsManagerImpl(SOUND_EFFECTS_VOLUME);
+        this.audioMixer = new AudioMixerImpl();
+        this.musicManager = new MusicManagerImpl(audioMixer, RESOURCES_MUSIC_1, MUSIC_VOLUME);
+        this.soundEffectsManager = new SoundEffectsManagerImpl(audioMixer, SOUND_EFFECTS_VOLUME);
 
         this.virtualWidth = model.getScreenWidth();
         this.virtualHeight = model.getScreenHeight();
 
-        final RenderManager rendererManager = new RendererManagerImpl(soundEffectsManager, gameGraphics);
+        final RenderManager rendererManager = new RendererManagerImpl(gameGraphics);
 
         this.menuView = new MenuView(gameGraphics);
-        this.inGameView = new InGameView(rendererManager);
+        this.inGameView = new InGameView(rendererManager, model.getProfiler());
         this.pauseView = new PauseView(gameGraphics);
         this.gameOverView = new GameOverView(gameGraphics);
 
         this.lastState = model.getCurrentState().getGameState();
+        this.profilerEnabledAtStart = model.getProfiler().isEnabled();
 
-        tempScreen = new BufferedImage(virtualWidth, virtualHeight, BufferedImage.TYPE_INT_ARGB);
+        frontBuffer = new BufferedImage(virtualWidth, virtualHeight, BufferedImage.TYPE_INT_ARGB);
+        backBuffer = new BufferedImage(virtualWidth, virtualHeight, BufferedImage.TYPE_INT_ARGB);
+        if (isActiveRenderingEnabled()) {
+            activeSurface = new ActiveRenderSurfaceImpl(virtualWidth, virtualHeight);
+        }
 
         initialize();
     }
@@ -97,6 +143,10 @@ public final class MainGameViewImpl extends JPanel implements MainGameView, Game
     private void initialize() {
         setDoubleBuffered(true);
         setBackground(Color.decode(BACKGROUND_DEFAULT_COLOR));
+        setLayout(new BorderLayout());
+        if (activeSurface != null) {
+            add(activeSurface.getComponent(), BorderLayout.CENTER);
+        }
         addComponentListener(new ComponentAdapter() {
             @Override
             public void componentResized(final ComponentEvent e) {
@@ -105,19 +155,185 @@ public final class MainGameViewImpl extends JPanel implements MainGameView, Game
         });
     }
 
+    /**
+     * Checks if the active rendering can be used: it needs a display, and can be disabled by setting the
+     * system property ACTIVE_RENDERING_PROPERTY to false.
+     *
+     * @return true if the frames should be presented by an ActiveRenderSurface
+     */
+    private static boolean isActiveRenderingEnabled() {
+        return !GraphicsEnvironment.isHeadless()
+                && Boolean.parseBoolean(System.getProperty(ACTIVE_RENDERING_PROPERTY, Boolean.TRUE.toString()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The render thread is started when the panel is added to a displayable container.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        final Thread thread = new Thread(this::renderLoop, MAIN_VIEW_RENDER_THREAD_NAME);
+        thread.setDaemon(true);
+        renderThread = thread;
+        thread.start();
+    }
+
     /**
      * {@inheritDoc}
+     * The render thread is stopped when the panel is removed from its container.
      */
     @Override
-    public void updateView() {
-        final GameStateHandler currentHandler = model.getCurrentState();
-        final GameState gs = currentHandler.getGameState();
+    public void removeNotify() {
+        final Thread thread = renderThread;
+        renderThread = null;
+        LockSupport.unpark(thread);
+        super.removeNotify();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The frame is not drawn here: the render thread is woken up, and skips the requests it could not keep up with.
+     */
+    @Override
+    public void updateView(final float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+        frameRequested.set(true);
+        LockSupport.unpark(renderThread);
+    }
+
+    /**
+     * {@inheritDoc}
+     * While the overlay is visible the profiler of the model is enabled, so that the stage times can be shown;
+     * when it is hidden, the profiler goes back to how it was started.
+     */
+    @Override
+    public void togglePerformanceOverlay() {
+        performanceOverlay = !performanceOverlay;
+        model.getProfiler().setEnabled(performanceOverlay || profilerEnabledAtStart);
+        inGameView.setPerformanceOverlayVisible(performanceOverlay);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        audioMixer.close();
+    }
+
+    /**
+     * Body of the render thread: waits for a frame request, then draws the frame, until the thread is stopped.
+     * A frame that fails is logged and skipped, so that the next ones are still drawn.
+     */
+    private void renderLoop() {
+        while (renderThread == Thread.currentThread()) {
+            if (frameRequested.getAndSet(false)) {
+                try {
+                    renderFrame();
+                } catch (RuntimeException e) {
+                    Logger.getLogger(MainGameViewImpl.class.getName()).log(Level.WARNING, "Error drawing a frame", e);
+                }
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Draws a frame from the last render snapshot published by the model, and presents it on the active surface;
+     * nothing is drawn until the model has published a snapshot. The fade of the game over is started when
+     * a snapshot of the game over follows one of another state.
+     * If the surface cannot present it, the frame is drawn on the back buffer, then swapped with the front buffer,
+     * and the Event Dispatch Thread is asked to show it; a surface that is not supported is removed, so that
+     * the panel becomes visible. The whole frame is timed by the profiler of the model, and a FrameEvent is
+     * emitted if the Flight Recorder events are enabled.
+     */
+    private void renderFrame() {
+        final FrameEvent event = GameEvents.isEnabled() ? new FrameEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        final TickProfiler profiler = model.getProfiler();
+        final long start = profiler.start();
+        final RenderSnapshot snapshot = model.getRenderSnapshot();
+        if (snapshot.getTick() == 0) {
+            return;
+        }
+        gameGraphics.prefetchBackgrounds(snapshot.getUpcomingDifficulty());
+        playSoundEffects(snapshot);
+
+        final GameState gs = snapshot.getGameState();
         if (gs == GameState.GAME_OVER) {
+            if (frameState != GameState.GAME_OVER) {
+                gameOverView.startFade();
+            }
             gameOverView.update();
         } else {
             gameOverView.stopFade();
         }
+        frameState = gs;
+        frameSnapshot = snapshot;
+
+        final ActiveRenderSurface surface = activeSurface;
+        if (surface != null) {
+            if (surface.render(frameDrawer)) {
+                profiler.lap(ProfiledStage.RENDER, start);
+                if (event != null) {
+                    event.complete(gs.name(), snapshot.getTick(), snapshot.size(), true);
+                }
+                return;
+            }
+            if (!surface.isSupported()) {
+                activeSurface = null;
+                SwingUtilities.invokeLater(() -> {
+                    remove(surface.getComponent());
+                    revalidate();
+                });
+            }
+        }
+
+        final Graphics2D g2 = backBuffer.createGraphics();
+        drawFrame(g2);
+        g2.dispose();
+        synchronized (bufferLock) {
+            final BufferedImage shown = frontBuffer;
+            frontBuffer = backBuffer;
+            backBuffer = shown;
+        }
         repaint();
+        profiler.lap(ProfiledStage.RENDER, start);
+        if (event != null) {
+            event.complete(gs.name(), snapshot.getTick(), snapshot.size(), false);
+        }
+    }
+
+    /**
+     * Plays the sound effects of the events happened since the last drawn snapshot.
+     *
+     * @param snapshot the snapshot to draw
+     */
+    private void playSoundEffects(final RenderSnapshot snapshot) {
+        playSoundEffect(snapshot, RenderEvent.PLATFORM_TOUCHED, SFXType.DEFAULT);
+        playSoundEffect(snapshot, RenderEvent.BOUNCE_PLATFORM_TOUCHED, SFXType.BOUNCE);
+        playSoundEffect(snapshot, RenderEvent.BREAKABLE_PLATFORM_BROKEN, SFXType.BREAK);
+        playSoundEffect(snapshot, RenderEvent.COIN_COLLECTED, SFXType.COIN);
+    }
+
+    /**
+     * Plays a sound effect if the given event happened since the last drawn snapshot. Events of the same type
+     * happened between two frames are played once.
+     *
+     * @param snapshot the snapshot to draw
+     * @param event    the event
+     * @param sound    the sound effect of the event
+     */
+    private void playSoundEffect(final RenderSnapshot snapshot, final RenderEvent event, final SFXType sound) {
+        final long count = snapshot.getEventCount(event);
+        if (count != lastEventCounts[event.ordinal()]) {
+            lastEventCounts[event.ordinal()] = count;
+            soundEffectsManager.playSound(sound);
+        }
     }
 
     /**
@@ -125,37 +341,46 @@ public final class MainGameViewImpl extends JPanel implements MainGameView, Game
      */
     @Override
     protected void paintComponent(final Graphics g) {
+        final long start = model.getProfiler().start();
         super.paintComponent(g);
-        drawToTempScreen();
 
         final Rectangle scaledRect = ScaleUtils.computeScaledRectangle(virtualWidth, virtualHeight, getSize());
         g.setColor(Color.decode(BACKGROUND_DEFAULT_COLOR));
         g.fillRect(MAIN_VIEW_RECT_X, MAIN_VIEW_RECT_Y, getWidth(), getHeight());
-        g.drawImage(tempScreen, scaledRect.x, scaledRect.y, scaledRect.width, scaledRect.height, null);
+        synchronized (bufferLock) {
+            g.drawImage(frontBuffer, scaledRect.x, scaledRect.y, scaledRect.width, scaledRect.height, null);
+        }
+        model.getProfiler().lap(ProfiledStage.PAINT, start);
     }
 
 
-    private void drawToTempScreen() {
-        final Graphics2D g2 = tempScreen.createGraphics();
-
-        final GameState currentState = model.getCurrentState().getGameState();
+    /**
+     * Draws the views of the state of the frame, from its render snapshot.
+     *
+     * @param g2 the graphics of the virtual screen
+     */
+    private void drawFrame(final Graphics2D g2) {
         // CHECKSTYLE: MissingSwitchDefault OFF
         // switch does not need a default case
-        switch (currentState) {
-            case MENU -> menuView.draw(g2, model);
-            case IN_GAME -> inGameView.draw(g2, model);
-            case PAUSE -> pauseView.draw(g2, model);
+        switch (frameState) {
+            case MENU -> menuView.draw(g2, frameSnapshot);
+            case IN_GAME -> {
+                inGameView.setInterpolationAlpha(interpolationAlpha);
+                inGameView.draw(g2, frameSnapshot);
+            }
+            case PAUSE -> pauseView.draw(g2, frameSnapshot);
             case GAME_OVER -> {
-                inGameView.draw(g2, model);
-                gameOverView.draw(g2, model);
+                inGameView.setInterpolationAlpha(INTERPOLATION_ALPHA_CURRENT);
+                inGameView.draw(g2, frameSnapshot);
+                gameOverView.draw(g2, frameSnapshot);
             }
         }
         // CHECKSTYLE: MissingSwitchDefault ON
-        g2.dispose();
     }
     /**
-     * {@inheritDoc} In this case, based on Model notification, the method performs fade outs and music settings,
-     * according to the correct Game State in model.
+     * {@inheritDoc} In this case, based on Model notification, the method performs the music settings and fade outs,
+     * according to the correct Game State in model. It runs on the thread updating the model, so the views drawn by
+     * the render thread are left to it.
      */
     @Override
     public void onModelUpdate(final GameModel model) {
@@ -172,17 +397,14 @@ public final class MainGameViewImpl extends JPanel implements MainGameView, Game
                     } else {
                         musicManager.stopMusic();
                         musicManager.startMusic();
+                        gameGraphics.prefetchGameOver();
                     }
                 }
                 case PAUSE -> musicManager.pauseMusic();
-                case GAME_OVER -> {
-                    musicManager.fadeOut(MAIN_VIEW_AUDIO_FADE);
-                    gameOverView.startFade();
-                }
+                case GAME_OVER -> musicManager.fadeOut(MAIN_VIEW_AUDIO_FADE);
             }
             // CHECKSTYLE: MissingSwitchDefault OFF
         }
         lastState = currentState;
-        repaint();
     }
 }
@@ -1,10 +1,13 @@
 package it.unibo.javajump.view.graphics;
 
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+
 import java.awt.Font;
-import java.awt.image.BufferedImage;
 
 /**
- * The interface that describes Game graphics operations.
+ * The interface that describes Game graphics operations. The assets may be loaded in the background: a font getter,
+ * or the image of a texture, waits for its asset only if it is not loaded yet. Each texture getter acquires a new
+ * handle to the shared texture, which the caller releases when it no longer draws it.
  */
 public interface GameGraphics {
     /**
@@ -31,77 +34,91 @@ public interface GameGraphics {
     /**
      * Gets player sheet.
      *
-     * @return the player sheet
+     * @return a handle to the player sheet
      */
-    BufferedImage getPlayerSheet();
+    Texture getPlayerSheet();
 
     /**
      * Gets "background easy" image.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getBackgroundEasy();
+    Texture getBackgroundEasy();
 
     /**
      * Gets "clouds easy" image.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getCloudsEasy();
+    Texture getCloudsEasy();
 
     /**
      * Gets "background medium" image.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getBackgroundMedium();
+    Texture getBackgroundMedium();
 
     /**
      * Gets "clouds medium" image.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getCloudsMedium();
+    Texture getCloudsMedium();
 
     /**
-     * Gets "background difficult" image.
+     * Gets "background difficult" image, which is loaded the first time it is requested or prefetched.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getBackgroundDifficult();
+    Texture getBackgroundDifficult();
 
     /**
-     * Gets "clouds difficult" image.
+     * Gets "clouds difficult" image, which is loaded the first time it is requested or prefetched.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getCloudsDifficult();
+    Texture getCloudsDifficult();
 
     /**
      * Gets coin sheet.
      *
-     * @return the coin sheet
+     * @return a handle to the coin sheet
      */
-    BufferedImage getCoinSheet();
+    Texture getCoinSheet();
 
     /**
-     * Gets "game over" image.
+     * Gets "game over" image, which is loaded the first time it is requested or prefetched.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getGameOver();
+    Texture getGameOver();
 
     /**
      * Gets title image.
      *
-     * @return the image
+     * @return a handle to the texture
      */
-    BufferedImage getTitle();
+    Texture getTitle();
 
     /**
      * Gets score container.
      *
-     * @return the score container image
+     * @return a handle to the score container
+     */
+    Texture getScoreContainer();
+
+    /**
+     * Hints that a difficulty is about to be reached, so that the backgrounds it needs start loading
+     * in the background. It never blocks.
+     *
+     * @param difficulty the upcoming difficulty
+     */
+    void prefetchBackgrounds(DifficultyState difficulty);
+
+    /**
+     * Hints that the game over image may be needed soon, so that it starts loading in the background.
+     * It never blocks.
      */
-    BufferedImage getScoreContainer();
+    void prefetchGameOver();
 }
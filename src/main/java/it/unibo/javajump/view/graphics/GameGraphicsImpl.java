@@ -1,12 +1,18 @@
 package it.unibo.javajump.view.graphics;
 
-import javax.imageio.ImageIO;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+
 import java.awt.Font;
 import java.awt.FontFormatException;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static it.unibo.javajump.utility.Constants.RESOURCES_BACKGROUND_EASY;
 import static it.unibo.javajump.utility.Constants.RESOURCES_BACKGROUND_HARD;
@@ -25,63 +31,65 @@ import static it.unibo.javajump.utility.Constants.RESOURCES_TITLE;
 import static it.unibo.javajump.utility.Constants.SIZE_FONT_1;
 import static it.unibo.javajump.utility.Constants.SIZE_FONT_2;
 import static it.unibo.javajump.utility.Constants.SIZE_FONT_3;
-import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
 
 /**
- * The implementation of the GameGraphics interface.
+ * The implementation of the GameGraphics interface. The assets needed from the start are loaded in parallel on the
+ * common fork-join pool, while the constructor returns; the rarely used ones (the difficult backgrounds and the game
+ * over image) are loaded the first time they are requested or prefetched, and dropped again when their views
+ * release them. The images are shared through a TextureRegistry, so each of them is decoded and converted once,
+ * and each font file is read once for all of its sizes.
  */
 public final class GameGraphicsImpl implements GameGraphics {
-    private final Font gameFont1;
-    private final Font gameFont2;
-    private final Font gameFont3;
-    private final BufferedImage playerSheet;
-    private final BufferedImage backgroundEasy;
-    private final BufferedImage cloudsEasy;
-    private final BufferedImage backgroundMedium;
-    private final BufferedImage cloudsMedium;
-    private final BufferedImage backgroundDifficult;
-    private final BufferedImage cloudsDifficult;
-    private final BufferedImage scoreContainer;
-    private final BufferedImage coinSheet;
-    private final BufferedImage gameOver;
-    private final BufferedImage title;
-
-    /**
-     * Instantiates a new Game graphics.
+    private final Executor loader = ForkJoinPool.commonPool();
+    private final TextureRegistry textures = new TextureRegistryImpl(loader);
+    private final Map<String, CompletableFuture<Font>> fonts = new ConcurrentHashMap<>();
+    private final CompletableFuture<Font> gameFont1;
+    private final CompletableFuture<Font> gameFont2;
+    private final CompletableFuture<Font> gameFont3;
+
+    /**
+     * Instantiates a new Game graphics, starting to load the assets needed from the start.
      */
     public GameGraphicsImpl() {
-        try {
-            title = loadImage(RESOURCES_TITLE);
-            gameOver = loadImage(RESOURCES_GAMEOVER);
-            playerSheet = loadImage(RESOURCES_PLAYER);
-            coinSheet = loadImage(RESOURCES_COIN);
-            backgroundEasy = loadImage(RESOURCES_BACKGROUND_EASY);
-            cloudsEasy = loadImage(RESOURCES_CLOUDS_EASY);
-            backgroundMedium = loadImage(RESOURCES_BACKGROUND_MEDIUM);
-            cloudsMedium = loadImage(RESOURCES_CLOUDS_MEDIUM);
-            backgroundDifficult = loadImage(RESOURCES_BACKGROUND_HARD);
-            cloudsDifficult = loadImage(RESOURCES_CLOUDS_HARD);
-            scoreContainer = loadImage(RESOURCES_SCORE_CONTAINER);
-            gameFont1 = loadFont(RESOURCES_FONT_1, SIZE_FONT_1);
-            gameFont2 = loadFont(RESOURCES_FONT_2, SIZE_FONT_2);
-            gameFont3 = loadFont(RESOURCES_FONT_3, SIZE_FONT_3);
-        } catch (IOException | FontFormatException ex) {
-            throw new IllegalStateException("Error loading game resources", ex);
+        for (final String path : List.of(RESOURCES_TITLE, RESOURCES_PLAYER, RESOURCES_COIN,
+                RESOURCES_BACKGROUND_EASY, RESOURCES_CLOUDS_EASY, RESOURCES_BACKGROUND_MEDIUM,
+                RESOURCES_CLOUDS_MEDIUM, RESOURCES_SCORE_CONTAINER)) {
+            textures.prefetch(path);
         }
+        gameFont1 = requestFont(RESOURCES_FONT_1, SIZE_FONT_1);
+        gameFont2 = requestFont(RESOURCES_FONT_2, SIZE_FONT_2);
+        gameFont3 = requestFont(RESOURCES_FONT_3, SIZE_FONT_3);
     }
 
     /**
-     * Utility method to load images using getResourceAsStream.
+     * Starts loading a font file, unless it is already loading or loaded, and derives a size from it.
      *
      * @param path the path
-     * @return the loaded BufferedImage
-     */
-    private BufferedImage loadImage(final String path) throws IOException {
-        try (InputStream is = getClass().getResourceAsStream(path)) {
-            if (is == null) {
-                throw new IOException("Resource not found: " + path);
+     * @param size the font desired size
+     * @return the font being loaded
+     */
+    private CompletableFuture<Font> requestFont(final String path, final float size) {
+        return fonts.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> {
+            try {
+                return loadFont(p);
+            } catch (IOException | FontFormatException e) {
+                throw new CompletionException(e);
             }
-            return ImageIO.read(is);
+        }, loader)).thenApply(font -> font.deriveFont(size));
+    }
+
+    /**
+     * Waits for an asset to be loaded.
+     *
+     * @param asset the asset being loaded
+     * @param <T>   the type of the asset
+     * @return the loaded asset
+     */
+    private static <T> T await(final CompletableFuture<T> asset) {
+        try {
+            return asset.join();
+        } catch (CompletionException ex) {
+            throw new IllegalStateException("Error loading game resources", ex.getCause());
         }
     }
 
@@ -89,35 +97,23 @@ public final class GameGraphicsImpl implements GameGraphics {
      * Utility method to load fonts using getResourceAsStream.
      *
      * @param path the path
-     * @param size the font desired size
-     * @return the loaded Font
+     * @return the loaded Font, of size 1
      */
-    private Font loadFont(final String path, final float size) throws IOException, FontFormatException {
+    private Font loadFont(final String path) throws IOException, FontFormatException {
         try (InputStream is = getClass().getResourceAsStream(path)) {
             if (is == null) {
                 throw new IOException("Font not found: " + path);
             }
-            return Font.createFont(Font.TRUETYPE_FONT, is).deriveFont(size);
+            return Font.createFont(Font.TRUETYPE_FONT, is);
         }
     }
 
-    private BufferedImage copyImage(final BufferedImage source) {
-        if (source == null) {
-            return null;
-        }
-        final BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), TYPE_INT_ARGB);
-        final Graphics2D g2d = copy.createGraphics();
-        g2d.drawImage(source, 0, 0, null);
-        g2d.dispose();
-        return copy;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public Font getGameFont1() {
-        return gameFont1;
+        return await(gameFont1);
     }
 
     /**
@@ -125,7 +121,7 @@ public final class GameGraphicsImpl implements GameGraphics {
      */
     @Override
     public Font getGameFont2() {
-        return gameFont2;
+        return await(gameFont2);
     }
 
     /**
@@ -133,94 +129,113 @@ public final class GameGraphicsImpl implements GameGraphics {
      */
     @Override
     public Font getGameFont3() {
-        return gameFont3;
+        return await(gameFont3);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getPlayerSheet() {
-        return copyImage(playerSheet);
+    public Texture getPlayerSheet() {
+        return textures.acquire(RESOURCES_PLAYER);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getBackgroundEasy() {
-        return copyImage(backgroundEasy);
+    public Texture getBackgroundEasy() {
+        return textures.acquire(RESOURCES_BACKGROUND_EASY);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getCloudsEasy() {
-        return copyImage(cloudsEasy);
+    public Texture getCloudsEasy() {
+        return textures.acquire(RESOURCES_CLOUDS_EASY);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getBackgroundMedium() {
-        return copyImage(backgroundMedium);
+    public Texture getBackgroundMedium() {
+        return textures.acquire(RESOURCES_BACKGROUND_MEDIUM);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getCloudsMedium() {
-        return copyImage(cloudsMedium);
+    public Texture getCloudsMedium() {
+        return textures.acquire(RESOURCES_CLOUDS_MEDIUM);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getBackgroundDifficult() {
-        return copyImage(backgroundDifficult);
+    public Texture getBackgroundDifficult() {
+        return textures.acquire(RESOURCES_BACKGROUND_HARD);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getCloudsDifficult() {
-        return copyImage(cloudsDifficult);
+    public Texture getCloudsDifficult() {
+        return textures.acquire(RESOURCES_CLOUDS_HARD);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getCoinSheet() {
-        return copyImage(coinSheet);
+    public Texture getCoinSheet() {
+        return textures.acquire(RESOURCES_COIN);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getGameOver() {
-        return copyImage(gameOver);
+    public Texture getGameOver() {
+        return textures.acquire(RESOURCES_GAMEOVER);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getTitle() {
-        return copyImage(title);
+    public Texture getTitle() {
+        return textures.acquire(RESOURCES_TITLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Texture getScoreContainer() {
+        return textures.acquire(RESOURCES_SCORE_CONTAINER);
+    }
+
+    /**
+     * {@inheritDoc} The difficult backgrounds are the ones drawn from the HELL difficulty.
+     */
+    @Override
+    public void prefetchBackgrounds(final DifficultyState difficulty) {
+        if (difficulty == DifficultyState.HELL) {
+            textures.prefetch(RESOURCES_BACKGROUND_HARD);
+            textures.prefetch(RESOURCES_CLOUDS_HARD);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public BufferedImage getScoreContainer() {
-        return copyImage(scoreContainer);
+    public void prefetchGameOver() {
+        textures.prefetch(RESOURCES_GAMEOVER);
     }
 }
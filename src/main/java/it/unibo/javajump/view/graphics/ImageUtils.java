@@ -0,0 +1,55 @@
+package it.unibo.javajump.view.graphics;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * The class Image utils, used to create the images that are drawn every frame.
+ */
+public final class ImageUtils {
+    /**
+     * Creates a translucent image with the same layout as the screen, so that Java2D can cache it in video memory
+     * and draw it without converting it. Without a screen, a plain ARGB image is returned.
+     *
+     * @param width  the width of the image
+     * @param height the height of the image
+     *
+     * @return the new image
+     */
+    public static BufferedImage createCompatibleImage(final int width, final int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Converts an image to a new compatible image, as created by createCompatibleImage, so that it is converted
+     * only once instead of every time it is drawn.
+     *
+     * @param source the image to convert
+     *
+     * @return the converted image
+     */
+    public static BufferedImage toCompatibleImage(final BufferedImage source) {
+        final BufferedImage image = createCompatibleImage(source.getWidth(), source.getHeight());
+        final Graphics2D g2d = image.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(source, 0, 0, null);
+        g2d.dispose();
+        return image;
+    }
+
+    /**
+     * Private constructor for utility class.
+     *
+     * @throws AssertionError the assertion error if the constructor is called
+     */
+    private ImageUtils() {
+        throw new AssertionError("This is a utility class, it should not be instantiated!");
+    }
+}
@@ -0,0 +1,41 @@
+package it.unibo.javajump.view.graphics;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Interface that describes the frames of a sprite sheet, sliced once when the atlas is built,
+ * so that drawing a frame does not create a new image.
+ */
+public interface SpriteAtlas {
+    /**
+     * Returns a frame of the sheet.
+     *
+     * @param row   the animation row
+     * @param frame the frame in the row
+     * @return the frame image
+     */
+    BufferedImage getFrame(int row, int frame);
+
+    /**
+     * Returns a frame of the sheet, mirrored horizontally.
+     *
+     * @param row   the animation row
+     * @param frame the frame in the row
+     * @return the mirrored frame image
+     */
+    BufferedImage getMirroredFrame(int row, int frame);
+
+    /**
+     * Returns the width of a frame.
+     *
+     * @return the frame width
+     */
+    int getFrameWidth();
+
+    /**
+     * Returns the height of a frame.
+     *
+     * @return the frame height
+     */
+    int getFrameHeight();
+}
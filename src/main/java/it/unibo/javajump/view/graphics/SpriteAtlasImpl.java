@@ -0,0 +1,97 @@
+package it.unibo.javajump.view.graphics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Implementation of the SpriteAtlas interface. Every frame of the sheet is copied into its own image, compatible
+ * with the screen, both as it is and mirrored: the frames are drawn as they are, without sub-images or transforms.
+ */
+public final class SpriteAtlasImpl implements SpriteAtlas {
+    private final BufferedImage[][] frames;
+    private final BufferedImage[][] mirroredFrames;
+    private final int frameWidth;
+    private final int frameHeight;
+
+    /**
+     * Instantiates a new Sprite atlas, slicing the sheet in rows and columns of frames of the given size.
+     *
+     * @param sheet       the sprite sheet
+     * @param frameWidth  the width of a frame
+     * @param frameHeight the height of a frame
+     */
+    public SpriteAtlasImpl(final BufferedImage sheet, final int frameWidth, final int frameHeight) {
+        if (frameWidth <= 0 || frameHeight <= 0) {
+            throw new IllegalArgumentException("Frame size must be positive");
+        }
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        final int rows = sheet.getHeight() / frameHeight;
+        final int columns = sheet.getWidth() / frameWidth;
+        this.frames = new BufferedImage[rows][columns];
+        this.mirroredFrames = new BufferedImage[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                final int sx = column * frameWidth;
+                final int sy = row * frameHeight;
+                frames[row][column] = copyFrame(sheet, sx, sy, false);
+                mirroredFrames[row][column] = copyFrame(sheet, sx, sy, true);
+            }
+        }
+    }
+
+    /**
+     * Copies a frame of the sheet into a new compatible image.
+     *
+     * @param sheet  the sprite sheet
+     * @param sx     the x of the frame in the sheet
+     * @param sy     the y of the frame in the sheet
+     * @param mirror true to mirror the frame horizontally
+     * @return the frame image
+     */
+    private BufferedImage copyFrame(final BufferedImage sheet, final int sx, final int sy, final boolean mirror) {
+        final BufferedImage frame = ImageUtils.createCompatibleImage(frameWidth, frameHeight);
+        final Graphics2D g2 = frame.createGraphics();
+        final int dx1 = mirror ? frameWidth : 0;
+        final int dx2 = mirror ? 0 : frameWidth;
+        g2.drawImage(sheet, dx1, 0, dx2, frameHeight, sx, sy, sx + frameWidth, sy + frameHeight, null);
+        g2.dispose();
+        return frame;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "frames are shared to be drawn without copies")
+    @Override
+    public BufferedImage getFrame(final int row, final int frame) {
+        return frames[row][frame];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "frames are shared to be drawn without copies")
+    @Override
+    public BufferedImage getMirroredFrame(final int row, final int frame) {
+        return mirroredFrames[row][frame];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+}
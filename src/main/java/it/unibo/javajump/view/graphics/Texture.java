@@ -0,0 +1,36 @@
+package it.unibo.javajump.view.graphics;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Interface that describes a handle to a texture of the TextureRegistry. The image is shared by every handle of the
+ * same asset, so it must only be drawn, never modified; the handle is released when its owner no longer needs it.
+ */
+public interface Texture {
+    /**
+     * Returns the shared image of the texture, waiting for it if it is still loading.
+     *
+     * @return the image, compatible with the screen
+     */
+    BufferedImage getImage();
+
+    /**
+     * Returns the width of the texture.
+     *
+     * @return the width
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the texture.
+     *
+     * @return the height
+     */
+    int getHeight();
+
+    /**
+     * Releases the handle. When the last handle of an asset is released, the registry drops the image;
+     * releasing a handle twice has no effect.
+     */
+    void release();
+}
@@ -0,0 +1,29 @@
+package it.unibo.javajump.view.graphics;
+
+/**
+ * Interface that describes a registry of textures, in which each image asset is decoded and converted once,
+ * and then shared by reference-counted handles.
+ */
+public interface TextureRegistry {
+    /**
+     * Acquires a handle to a texture, starting to load it if no handle holds it.
+     *
+     * @param path the resource path of the image
+     * @return the new handle
+     */
+    Texture acquire(String path);
+
+    /**
+     * Starts loading a texture in the background, so that acquiring it later does not wait. It never blocks.
+     *
+     * @param path the resource path of the image
+     */
+    void prefetch(String path);
+
+    /**
+     * Returns the number of textures currently held by the registry.
+     *
+     * @return the number of textures
+     */
+    int size();
+}
@@ -0,0 +1,188 @@
+package it.unibo.javajump.view.graphics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementation of the TextureRegistry interface. The textures are loaded on an executor, and converted once to
+ * the layout of the screen; the registry keeps the count of the handles of each texture, and drops its image,
+ * flushing the accelerated copy, when the last one is released.
+ */
+public final class TextureRegistryImpl implements TextureRegistry {
+    private final Executor loader;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Constructor for the TextureRegistryImpl class.
+     *
+     * @param loader the executor loading the textures
+     */
+    public TextureRegistryImpl(final Executor loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Texture acquire(final String path) {
+        final Entry entry = getEntry(path);
+        entry.references++;
+        return new Handle(path, entry);
+    }
+
+    /**
+     * {@inheritDoc} A prefetched texture is held until one of its handles is acquired and released.
+     */
+    @Override
+    public synchronized void prefetch(final String path) {
+        getEntry(path);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the entry of a texture, starting to load it if there is none.
+     *
+     * @param path the resource path of the image
+     * @return the entry
+     */
+    private Entry getEntry(final String path) {
+        return entries.computeIfAbsent(path, p -> new Entry(CompletableFuture.supplyAsync(() -> {
+            try {
+                return ImageUtils.toCompatibleImage(loadImage(p));
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, loader)));
+    }
+
+    /**
+     * Releases a handle of a texture, dropping the texture if it was the last one.
+     *
+     * @param path  the resource path of the image
+     * @param entry the entry of the texture
+     */
+    private synchronized void release(final String path, final Entry entry) {
+        entry.references--;
+        if (entry.references == 0 && entries.get(path) == entry) {
+            entries.remove(path);
+            entry.image.thenAccept(BufferedImage::flush);
+        }
+    }
+
+    /**
+     * Utility method to load images using getResourceAsStream.
+     *
+     * @param path the path
+     * @return the loaded BufferedImage
+     * @throws IOException if the resource is missing or cannot be decoded
+     */
+    private BufferedImage loadImage(final String path) throws IOException {
+        try (InputStream is = getClass().getResourceAsStream(path)) {
+            if (is == null) {
+                throw new IOException("Resource not found: " + path);
+            }
+            final BufferedImage image = ImageIO.read(is);
+            if (image == null) {
+                throw new IOException("Unsupported image format: " + path);
+            }
+            return image;
+        }
+    }
+
+    /**
+     * The entry of a texture: its image, loading or loaded, and the number of its handles, guarded by the registry.
+     */
+    private static final class Entry {
+        private final CompletableFuture<BufferedImage> image;
+        private int references;
+
+        /**
+         * Constructor for the Entry class.
+         *
+         * @param image the image being loaded
+         */
+        Entry(final CompletableFuture<BufferedImage> image) {
+            this.image = image;
+        }
+    }
+
+    /**
+     * A handle to a texture of the registry.
+     */
+    private final class Handle implements Texture {
+        private final String path;
+        private final Entry entry;
+        private boolean released;
+
+        /**
+         * Constructor for the Handle class.
+         *
+         * @param path  the resource path of the image
+         * @param entry the entry of the texture
+         */
+        Handle(final String path, final Entry entry) {
+            this.path = path;
+            this.entry = entry;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "textures are shared to be drawn without copies")
+        @Override
+        public BufferedImage getImage() {
+            try {
+                return entry.image.join();
+            } catch (CompletionException ex) {
+                throw new IllegalStateException("Error loading game resources", ex.getCause());
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getWidth() {
+            return getImage().getWidth();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getHeight() {
+            return getImage().getHeight();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void release() {
+            synchronized (TextureRegistryImpl.this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+                TextureRegistryImpl.this.release(path, entry);
+            }
+        }
+    }
+}
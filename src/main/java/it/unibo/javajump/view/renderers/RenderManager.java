@@ -1,70 +1,82 @@
 package it.unibo.javajump.view.renderers;
 
-import it.unibo.javajump.model.GameModel;
-import it.unibo.javajump.model.entities.character.Character;
-import it.unibo.javajump.model.entities.collectibles.Coin;
-import it.unibo.javajump.model.entities.platforms.Platform;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 
 import java.awt.Graphics2D;
 
 /**
- * The interface Render manager.
+ * The interface Render manager. Every element is drawn from a render snapshot published by the model,
+ * never from the model itself.
  */
 public interface RenderManager {
     /**
      * Draws the first background on the screen during gameplay.
      *
      * @param g2        the Graphics2D context
-     * @param model     the GameModel
+     * @param snapshot  the render snapshot
      * @param deltaTime the time passed since the last update
      */
-    void drawBackground1(Graphics2D g2, GameModel model, float deltaTime);
+    void drawBackground1(Graphics2D g2, RenderSnapshot snapshot, float deltaTime);
 
     /**
      * Draws the second background on the screen during gameplay.
      *
      * @param g2        the Graphics2D context
-     * @param model     the GameModel
+     * @param snapshot  the render snapshot
      * @param deltaTime the time passed since the last update
      */
-    void drawBackground2(Graphics2D g2, GameModel model, float deltaTime);
+    void drawBackground2(Graphics2D g2, RenderSnapshot snapshot, float deltaTime);
 
     /**
      * Draws the player.
      *
      * @param g2        the Graphics2D context
-     * @param player    the Player to draw
+     * @param snapshot  the render snapshot containing the player
      * @param offsetY   the vertical offset
      * @param deltaTime the time passed since the last update (used for animation)
+     * @param alpha     the interpolation factor between the previous and the current position
      */
-    void drawPlayer(Graphics2D g2, Character player, float offsetY, float deltaTime);
+    void drawPlayer(Graphics2D g2, RenderSnapshot snapshot, float offsetY, float deltaTime, float alpha);
 
     /**
      * Draws a single Coin.
      *
-     * @param g2        the Graphics2D context
-     * @param coin      the Coin to draw
-     * @param offsetY   the vertical offset
-     * @param deltaTime the time passed since the last update (used for animation)
+     * @param g2       the Graphics2D context
+     * @param snapshot the render snapshot containing the coin
+     * @param index    the index of the coin in the snapshot
+     * @param offsetY  the vertical offset
+     * @param alpha    the interpolation factor between the previous and the current position
      */
-    void drawCoin(Graphics2D g2, Coin coin, float offsetY, float deltaTime);
+    void drawCoin(Graphics2D g2, RenderSnapshot snapshot, int index, float offsetY, float alpha);
 
     /**
      * Draws a single Platform.
      *
      * @param g2       the Graphics2D context
-     * @param platform the Platform to draw
+     * @param snapshot the render snapshot containing the platform
+     * @param index    the index of the platform in the snapshot
      * @param offsetY  the vertical offset
+     * @param alpha    the interpolation factor between the previous and the current position
      */
-    void drawPlatform(Graphics2D g2, Platform platform, float offsetY);
+    void drawPlatform(Graphics2D g2, RenderSnapshot snapshot, int index, float offsetY, float alpha);
 
     /**
      * Draws the score UI.
      *
      * @param g2                   the Graphics2D context
-     * @param model                the GameModel
+     * @param snapshot             the render snapshot
      * @param isNewHighScore       true if the current score is a new high score
      * @param showHighScoreMessage true if the high score message should be shown
      */
-    void drawScoreUI(Graphics2D g2, GameModel model, boolean isNewHighScore, boolean showHighScoreMessage);
+    void drawScoreUI(Graphics2D g2, RenderSnapshot snapshot, boolean isNewHighScore, boolean showHighScoreMessage);
+
+    /**
+     * Draws the performance overlay.
+     *
+     * @param g2       the Graphics2D context
+     * @param snapshot the render snapshot
+     * @param profiler the profiler of the model, that times the stages
+     */
+    void drawPerformanceOverlay(Graphics2D g2, RenderSnapshot snapshot, TickProfiler profiler);
 }
@@ -1,24 +1,27 @@
 package it.unibo.javajump.view.renderers;
 
-import it.unibo.javajump.model.GameModel;
-import it.unibo.javajump.model.entities.character.Character;
-import it.unibo.javajump.model.entities.collectibles.Coin;
-import it.unibo.javajump.model.entities.platforms.Platform;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 import it.unibo.javajump.view.graphics.GameGraphics;
+import it.unibo.javajump.view.graphics.SpriteAtlasImpl;
+import it.unibo.javajump.view.graphics.Texture;
 import it.unibo.javajump.view.renderers.sub.BackgroundRenderer;
 import it.unibo.javajump.view.renderers.sub.BackgroundRendererImpl;
 import it.unibo.javajump.view.renderers.sub.CoinRenderer;
 import it.unibo.javajump.view.renderers.sub.CoinRendererImpl;
+import it.unibo.javajump.view.renderers.sub.PerformanceOverlayRenderer;
+import it.unibo.javajump.view.renderers.sub.PerformanceOverlayRendererImpl;
 import it.unibo.javajump.view.renderers.sub.PlatformRenderer;
 import it.unibo.javajump.view.renderers.sub.PlatformRendererImpl;
 import it.unibo.javajump.view.renderers.sub.PlayerRenderer;
 import it.unibo.javajump.view.renderers.sub.PlayerRendererImpl;
 import it.unibo.javajump.view.renderers.sub.ScoreUIRenderer;
 import it.unibo.javajump.view.renderers.sub.ScoreUIRendererImpl;
-import it.unibo.javajump.view.sound.sfx.SoundEffectsManager;
 
+import java.awt.Font;
 import java.awt.Graphics2D;
 
+import static it.unibo.javajump.utility.Constants.OVERLAY_FONT_SIZE;
 import static it.unibo.javajump.utility.Constants.RENDER_MANAGER_BACKGROUND_ONE_PARALLAX_MODIFIER;
 import static it.unibo.javajump.utility.Constants.RENDER_MANAGER_BACKGROUND_ONE_X_SPEED;
 import static it.unibo.javajump.utility.Constants.RENDER_MANAGER_BACKGROUND_TWO_PARALLAX_MODIFIER;
@@ -63,39 +66,42 @@ public class RendererManagerImpl implements RenderManager {
      * Field to store the UI&score renderer.
      */
     private final ScoreUIRenderer scoreUIRenderer;
+    /**
+     * Field to store the performance overlay renderer.
+     */
+    private final PerformanceOverlayRenderer performanceOverlayRenderer;
 
     /**
      * Constructor for the RendererManagerImpl class. Associates the different renderers implementations
-     * with their respective fields.
+     * with their respective fields, slicing the coin and player sprite sheets once in their atlases; the textures of
+     * the sheets are then released, since only the atlases are drawn.
      *
-     * @param soundEffectsManager the sound effects manager
-     * @param graphics            the graphics
+     * @param graphics the graphics
      */
-    public RendererManagerImpl(final SoundEffectsManager soundEffectsManager, final GameGraphics graphics) {
+    public RendererManagerImpl(final GameGraphics graphics) {
 
         this.platformRenderer = new PlatformRendererImpl(
                 RENDER_MANAGER_PLATFORM_OUTLINE_THICKNESS,
                 RENDER_MANAGER_PLATFORM_ROUND_CORNER_WIDTH,
-                RENDER_MANAGER_PLATFORM_ROUND_CORNER_HEIGHT,
-                soundEffectsManager);
+                RENDER_MANAGER_PLATFORM_ROUND_CORNER_HEIGHT);
 
+        final Texture coinSheet = graphics.getCoinSheet();
         this.coinRenderer = new CoinRendererImpl(
-                graphics.getCoinSheet(),
-                RENDER_MANAGER_COIN_WIDTH,
-                RENDER_MANAGER_COIN_HEIGHT,
-                RENDER_MANAGER_COIN_FRAME_DURATION,
-                soundEffectsManager);
+                new SpriteAtlasImpl(coinSheet.getImage(), RENDER_MANAGER_COIN_WIDTH, RENDER_MANAGER_COIN_HEIGHT),
+                RENDER_MANAGER_COIN_FRAME_DURATION);
+        coinSheet.release();
 
+        final Texture playerSheet = graphics.getPlayerSheet();
         this.playerRenderer = new PlayerRendererImpl(
-                graphics.getPlayerSheet(),
-                RENDER_MANAGER_PLAYER_WIDTH,
-                RENDER_MANAGER_PLAYER_HEIGHT,
+                new SpriteAtlasImpl(playerSheet.getImage(), RENDER_MANAGER_PLAYER_WIDTH,
+                        RENDER_MANAGER_PLAYER_HEIGHT),
                 RENDER_MANAGER_PLAYER_FRAME_DURATION);
+        playerSheet.release();
 
         this.backgroundRenderer1 = new BackgroundRendererImpl(
                 graphics.getBackgroundEasy(),
                 graphics.getBackgroundMedium(),
-                graphics.getBackgroundDifficult(),
+                graphics::getBackgroundDifficult,
                 RENDER_MANAGER_BACKGROUND_ONE_PARALLAX_MODIFIER,
                 RENDER_MANAGER_BACKGROUND_ONE_X_SPEED,
                 TRANSITION_DURATION_1);
@@ -103,7 +109,7 @@ public class RendererManagerImpl implements RenderManager {
         this.backgroundRenderer2 = new BackgroundRendererImpl(
                 graphics.getCloudsEasy(),
                 graphics.getCloudsMedium(),
-                graphics.getCloudsDifficult(),
+                graphics::getCloudsDifficult,
                 RENDER_MANAGER_BACKGROUND_TWO_PARALLAX_MODIFIER,
                 RENDER_MANAGER_BACKGROUND_TWO_X_SPEED,
                 TRANSITION_DURATION_2);
@@ -112,6 +118,9 @@ public class RendererManagerImpl implements RenderManager {
                 graphics.getScoreContainer(),
                 graphics.getGameFont2(),
                 graphics.getGameFont3());
+
+        this.performanceOverlayRenderer = new PerformanceOverlayRendererImpl(
+                new Font(Font.MONOSPACED, Font.BOLD, OVERLAY_FONT_SIZE));
     }
 
     /**
@@ -120,8 +129,8 @@ public class RendererManagerImpl implements RenderManager {
      * to draw the first background.
      */
     @Override
-    public void drawBackground1(final Graphics2D g2, final GameModel model, final float deltaTime) {
-        backgroundRenderer1.drawBackground(g2, model, deltaTime);
+    public void drawBackground1(final Graphics2D g2, final RenderSnapshot snapshot, final float deltaTime) {
+        backgroundRenderer1.drawBackground(g2, snapshot, deltaTime);
     }
 
     /**
@@ -130,8 +139,8 @@ public class RendererManagerImpl implements RenderManager {
      * to draw the second background.
      */
     @Override
-    public void drawBackground2(final Graphics2D g2, final GameModel model, final float deltaTime) {
-        backgroundRenderer2.drawBackground(g2, model, deltaTime);
+    public void drawBackground2(final Graphics2D g2, final RenderSnapshot snapshot, final float deltaTime) {
+        backgroundRenderer2.drawBackground(g2, snapshot, deltaTime);
     }
 
     /**
@@ -140,8 +149,9 @@ public class RendererManagerImpl implements RenderManager {
      * to draw the playable character.
      */
     @Override
-    public void drawPlayer(final Graphics2D g2, final Character player, final float offsetY, final float deltaTime) {
-        playerRenderer.drawPlayer(g2, player, offsetY, deltaTime);
+    public void drawPlayer(final Graphics2D g2, final RenderSnapshot snapshot, final float offsetY,
+                           final float deltaTime, final float alpha) {
+        playerRenderer.drawPlayer(g2, snapshot, offsetY, deltaTime, alpha);
     }
 
     /**
@@ -150,8 +160,9 @@ public class RendererManagerImpl implements RenderManager {
      * to draw a coin.
      */
     @Override
-    public void drawCoin(final Graphics2D g2, final Coin coinImpl, final float offsetY, final float deltaTime) {
-        coinRenderer.drawCoin(g2, coinImpl, offsetY, deltaTime);
+    public void drawCoin(final Graphics2D g2, final RenderSnapshot snapshot, final int index,
+                         final float offsetY, final float alpha) {
+        coinRenderer.drawCoin(g2, snapshot, index, offsetY, alpha);
     }
 
     /**
@@ -160,8 +171,9 @@ public class RendererManagerImpl implements RenderManager {
      * to draw a platform.
      */
     @Override
-    public void drawPlatform(final Graphics2D g2, final Platform platformImpl, final float offsetY) {
-        platformRenderer.drawPlatform(g2, platformImpl, offsetY);
+    public void drawPlatform(final Graphics2D g2, final RenderSnapshot snapshot, final int index,
+                             final float offsetY, final float alpha) {
+        platformRenderer.drawPlatform(g2, snapshot, index, offsetY, alpha);
     }
 
     /**
@@ -170,8 +182,19 @@ public class RendererManagerImpl implements RenderManager {
      * to draw the score and UI elements.
      */
     @Override
-    public void drawScoreUI(final Graphics2D g2, final GameModel model,
+    public void drawScoreUI(final Graphics2D g2, final RenderSnapshot snapshot,
                             final boolean isNewHighScore, final boolean showHighScoreMessage) {
-        scoreUIRenderer.drawScoreAndUI(g2, model, isNewHighScore, showHighScoreMessage);
+        scoreUIRenderer.drawScoreAndUI(g2, snapshot, isNewHighScore, showHighScoreMessage);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The implemented method calls the drawOverlay method of the performanceOverlayRenderer field
+     * to draw the performance overlay.
+     */
+    @Override
+    public void drawPerformanceOverlay(final Graphics2D g2, final RenderSnapshot snapshot,
+                                       final TickProfiler profiler) {
+        performanceOverlayRenderer.drawOverlay(g2, snapshot, profiler);
     }
 }
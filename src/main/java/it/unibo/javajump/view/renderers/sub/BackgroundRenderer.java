@@ -1,6 +1,6 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 
 import java.awt.Graphics2D;
 
@@ -12,8 +12,8 @@ public interface BackgroundRenderer {
      * Draws the background on the screen during gameplay.
      *
      * @param g2        the Graphics2D context
-     * @param model     the GameModel, used to get the camera offset
+     * @param snapshot  the render snapshot, used to get the camera offset
      * @param deltaTime the time passed since the last frame
      */
-    void drawBackground(Graphics2D g2, GameModel model, float deltaTime);
+    void drawBackground(Graphics2D g2, RenderSnapshot snapshot, float deltaTime);
 }
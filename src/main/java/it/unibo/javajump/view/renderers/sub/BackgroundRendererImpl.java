@@ -1,16 +1,18 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.GameModel;
 import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.view.graphics.ImageUtils;
+import it.unibo.javajump.view.graphics.Texture;
 
 import java.awt.AlphaComposite;
-import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.util.function.Supplier;
 
-import static it.unibo.javajump.utility.Constants.BG_EXTRA_TILES_NUMBER;
 import static it.unibo.javajump.utility.Constants.BG_HORIZONTAL_NULL_SPEED;
 import static it.unibo.javajump.utility.Constants.BG_HORIZONTAL_OFFSET_INIT;
+import static it.unibo.javajump.utility.Constants.BG_TRANSITION_STEPS;
 import static it.unibo.javajump.utility.Constants.BG_TRANSITION_TIMER_INIT;
 import static it.unibo.javajump.utility.Constants.SCREEN_LEFT_MARGIN;
 
@@ -24,7 +26,13 @@ public class BackgroundRendererImpl implements BackgroundRenderer {
      */
     private final BufferedImage bgTileEasy;
     private final BufferedImage bgTileMedium;
-    private final BufferedImage bgTileHard;
+    private BufferedImage bgTileHard;
+    /**
+     * Supplier of the hard tile, which is only requested when the hard background is selected, and the handle
+     * of the tile while it is held; it is released when the background moves back to another tile.
+     */
+    private final Supplier<Texture> bgTileHardSupplier;
+    private Texture bgTileHardTexture;
     /**
      * Factor for vertical parallax effect.
      */
@@ -43,49 +51,76 @@ public class BackgroundRendererImpl implements BackgroundRenderer {
     private boolean inTransition;
     private float transitionTimer;
     private final float transitionDuration;
+    /**
+     * The background tiles, and the layers pre-composited from each of them, at the same positions.
+     */
+    private final BufferedImage[] tiles;
+    private final BufferedImage[] layers;
+    /**
+     * The cached cross-fade used during transitions, and the transition step it was drawn for.
+     */
+    private BufferedImage blend;
+    private int blendStep;
 
     /**
-     * Constructor of the BackgroundRendererImpl class.
+     * Constructor of the BackgroundRendererImpl class. The tiles are the shared images of the textures,
+     * which are only drawn, without copies.
      *
      * @param bgTileEasy         background image tile
      * @param bgTileMedium       the bg tile medium
-     * @param bgTileHard         the bg tile hard
+     * @param bgTileHard         the supplier of the bg tile hard, called whenever it is needed again
      * @param parallaxFactor     the factor for vertical parallax effect
      * @param horizontalSpeed    the speed for horizontal auto-scrolling effect.
      *                           If set to 0, the background will not scroll horizontally.
      * @param transitionDuration the transition duration
      */
-    public BackgroundRendererImpl(final BufferedImage bgTileEasy, final BufferedImage bgTileMedium,
-                                  final BufferedImage bgTileHard, final float parallaxFactor,
+    public BackgroundRendererImpl(final Texture bgTileEasy, final Texture bgTileMedium,
+                                  final Supplier<Texture> bgTileHard, final float parallaxFactor,
                                   final float horizontalSpeed, final float transitionDuration) {
-        this.bgTileEasy = copyBufferedImage(bgTileEasy);
-        this.bgTileMedium = copyBufferedImage(bgTileMedium);
-        this.bgTileHard = copyBufferedImage(bgTileHard);
+        this.bgTileEasy = bgTileEasy.getImage();
+        this.bgTileMedium = bgTileMedium.getImage();
+        this.bgTileHardSupplier = bgTileHard;
         this.parallaxFactor = parallaxFactor;
         this.horizontalSpeed = horizontalSpeed;
         this.horizontalOffset = BG_HORIZONTAL_OFFSET_INIT;
         this.transitionDuration = transitionDuration;
-        this.currentBg = copyBufferedImage(bgTileEasy);
-        this.targetBg = copyBufferedImage(bgTileEasy);
+        this.currentBg = this.bgTileEasy;
+        this.targetBg = this.bgTileEasy;
         this.inTransition = false;
         this.transitionTimer = BG_TRANSITION_TIMER_INIT;
+        this.tiles = new BufferedImage[] {this.bgTileEasy, this.bgTileMedium, this.bgTileHard};
+        this.layers = new BufferedImage[tiles.length];
     }
 
     private BufferedImage selectBackground(final DifficultyState diff) {
         return switch (diff) {
             case EASY, MEDIUM -> bgTileEasy;
             case HARD, VERY_HARD -> bgTileMedium;
-            case HELL -> bgTileHard;
+            case HELL -> getBgTileHard();
         };
     }
 
-    private BufferedImage copyBufferedImage(final BufferedImage source) {
-        if (source == null) {
-            return null;
+    private BufferedImage getBgTileHard() {
+        if (bgTileHard == null) {
+            bgTileHardTexture = bgTileHardSupplier.get();
+            bgTileHard = bgTileHardTexture.getImage();
+            tiles[tiles.length - 1] = bgTileHard;
+        }
+        return bgTileHard;
+    }
+
+    /**
+     * Private method to release the hard tile and its layer, once the background has moved to another tile.
+     * The tile is requested again if the hard background is selected again.
+     */
+    private void releaseBgTileHard() {
+        if (bgTileHard != null && currentBg != bgTileHard && targetBg != bgTileHard) {
+            bgTileHardTexture.release();
+            bgTileHardTexture = null;
+            bgTileHard = null;
+            tiles[tiles.length - 1] = null;
+            layers[layers.length - 1] = null;
         }
-        final BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), source.getType());
-        copy.getGraphics().drawImage(source, 0, 0, null);
-        return copy;
     }
 
     private void updateTransition(final DifficultyState currentDiff) {
@@ -120,44 +155,105 @@ public class BackgroundRendererImpl implements BackgroundRenderer {
     }
 
     /**
-     * Draws the specified image in a grid to cover the entire screen.
+     * Returns the layer of a tile: an image at least as large as the screen, with the tile repeated in a grid,
+     * built the first time it is needed and again if the screen size changes. Since the layer is made of whole
+     * tiles, it wraps around like the tile itself.
      *
-     * @param g2           the Graphics2D context
-     * @param img          the image to draw
-     * @param verticalTiles the number of rows of tiles
-     * @param horizontalTiles the number of columns of tiles
-     * @param shiftX       the horizontal shift
-     * @param shiftY       the vertical shift
-     * @param tileW        the width of each tile
-     * @param tileH        the height of each tile
+     * @param tile    the tile
+     * @param screenW the width of the screen
+     * @param screenH the height of the screen
+     * @return the layer
      */
-    private void drawTileGrid(final Graphics2D g2, final BufferedImage img, final int verticalTiles,
-                              final int horizontalTiles, final int shiftX, final int shiftY,
-                              final int tileW, final int tileH) {
-        for (int i = 0; i < verticalTiles; i++) {
-            final int drawY = -shiftY + i * tileH;
-            for (int j = 0; j < horizontalTiles; j++) {
-                final int drawX = -shiftX + j * tileW;
-                g2.drawImage(img, drawX, drawY, null);
+    private BufferedImage getLayer(final BufferedImage tile, final int screenW, final int screenH) {
+        final int tileW = tile.getWidth();
+        final int tileH = tile.getHeight();
+        final int layerW = Math.max(1, (screenW + tileW - 1) / tileW) * tileW;
+        final int layerH = Math.max(1, (screenH + tileH - 1) / tileH) * tileH;
+        for (int i = 0; i < tiles.length; i++) {
+            if (tiles[i] == tile) {
+                if (layers[i] == null || layers[i].getWidth() != layerW || layers[i].getHeight() != layerH) {
+                    layers[i] = ImageUtils.createCompatibleImage(layerW, layerH);
+                    final Graphics2D lg = layers[i].createGraphics();
+                    for (int y = 0; y < layerH; y += tileH) {
+                        for (int x = 0; x < layerW; x += tileW) {
+                            lg.drawImage(tile, x, y, null);
+                        }
+                    }
+                    lg.dispose();
+                }
+                return layers[i];
+            }
+        }
+        throw new IllegalArgumentException("Unknown background tile");
+    }
+
+    /**
+     * Returns the cross-fade between the current and the target layers. The blend is cached, and drawn again only
+     * when the transition moves to the next of the BG_TRANSITION_STEPS steps.
+     *
+     * @param current the current layer
+     * @param target  the target layer
+     * @param alpha   the progress of the transition, from 0 to 1
+     * @return the blended layer
+     */
+    private BufferedImage getBlend(final BufferedImage current, final BufferedImage target, final float alpha) {
+        final int step = (int) (alpha * BG_TRANSITION_STEPS);
+        if (blend == null || blend.getWidth() != current.getWidth() || blend.getHeight() != current.getHeight()) {
+            blend = ImageUtils.createCompatibleImage(current.getWidth(), current.getHeight());
+            blendStep = -1;
+        }
+        if (step != blendStep) {
+            final float stepAlpha = (float) step / BG_TRANSITION_STEPS;
+            final Graphics2D bg = blend.createGraphics();
+            bg.setComposite(AlphaComposite.Clear);
+            bg.fillRect(0, 0, blend.getWidth(), blend.getHeight());
+            bg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1 - stepAlpha));
+            bg.drawImage(current, 0, 0, null);
+            bg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, stepAlpha));
+            bg.drawImage(target, 0, 0, null);
+            bg.dispose();
+            blendStep = step;
+        }
+        return blend;
+    }
+
+    /**
+     * Draws a layer so that it covers the whole screen, wrapping it around: since the layer is at least as large as
+     * the screen, at most four blits are needed.
+     *
+     * @param g2      the Graphics2D context
+     * @param layer   the layer to draw
+     * @param shiftX  the horizontal shift, from 0 to the layer width
+     * @param shiftY  the vertical shift, from 0 to the layer height
+     * @param screenW the width of the screen
+     * @param screenH the height of the screen
+     */
+    private void drawWrapped(final Graphics2D g2, final BufferedImage layer, final int shiftX, final int shiftY,
+                             final int screenW, final int screenH) {
+        final int layerW = layer.getWidth();
+        final int layerH = layer.getHeight();
+        for (int drawY = -shiftY; drawY < screenH; drawY += layerH) {
+            for (int drawX = -shiftX; drawX < screenW; drawX += layerW) {
+                g2.drawImage(layer, drawX, drawY, null);
             }
         }
     }
 
     /**
      * {@inheritDoc}
-     * The implementation uses camera offset (from model) and parallaxFactor to calculate the vertical
+     * The implementation uses camera offset (from the render snapshot) and parallaxFactor to calculate the vertical
      * offset and then uses the updateHorizontalOffset method to update the horizontal
-     * offset automatically. It draws the background by looping rows and columns
-     * of the bgTile image, and drawing each tile in the correct position, applying offsets.
+     * offset automatically. The background tile is pre-composited in a layer as large as the screen, that is drawn
+     * wrapped around applying the offsets; during a transition the cached cross-fade of the two layers is drawn.
      */
     @Override
-    public void drawBackground(final Graphics2D g2, final GameModel model, final float deltaTime) {
+    public void drawBackground(final Graphics2D g2, final RenderSnapshot snapshot, final float deltaTime) {
         updateHorizontalOffset(deltaTime);
-        updateTransition(model.getDifficultyManager().getCurrentDifficulty());
+        updateTransition(snapshot.getDifficulty());
 
-        final int screenW = model.getScreenWidth();
-        final int screenH = model.getScreenHeight();
-        final float cameraOffset = model.getCameraManager().getCurrentOffset();
+        final int screenW = snapshot.getScreenWidth();
+        final int screenH = snapshot.getScreenHeight();
+        final float cameraOffset = snapshot.getCameraOffset();
         final float verticalOffset = cameraOffset * parallaxFactor;
 
         final int tileW = currentBg.getWidth();
@@ -167,30 +263,22 @@ public class BackgroundRendererImpl implements BackgroundRenderer {
         if (shiftY < SCREEN_LEFT_MARGIN) {
             shiftY += tileH;
         }
-        final int shiftX = (int) horizontalOffset;
-
-        final int verticalTiles = (screenH / tileH) + BG_EXTRA_TILES_NUMBER;
-        final int horizontalTiles = (screenW / tileW) + BG_EXTRA_TILES_NUMBER;
+        final int shiftX = (int) horizontalOffset % tileW;
 
+        final BufferedImage layer = getLayer(currentBg, screenW, screenH);
         if (inTransition) {
             transitionTimer += deltaTime;
             final float alpha = Math.min(transitionTimer / transitionDuration, 1.0f);
-            final Composite originalComposite = g2.getComposite();
-
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1 - alpha));
-            drawTileGrid(g2, currentBg, verticalTiles, horizontalTiles, shiftX, shiftY, tileW, tileH);
-
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-            drawTileGrid(g2, targetBg, verticalTiles, horizontalTiles, shiftX, shiftY, tileW, tileH);
-
-            g2.setComposite(originalComposite);
+            drawWrapped(g2, getBlend(layer, getLayer(targetBg, screenW, screenH), alpha),
+                    shiftX, shiftY, screenW, screenH);
 
             if (alpha >= 1.0f) {
                 currentBg = targetBg;
                 inTransition = false;
+                releaseBgTileHard();
             }
         } else {
-            drawTileGrid(g2, currentBg, verticalTiles, horizontalTiles, shiftX, shiftY, tileW, tileH);
+            drawWrapped(g2, layer, shiftX, shiftY, screenW, screenH);
         }
     }
 }
@@ -1,6 +1,6 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.entities.collectibles.Coin;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 
 import java.awt.Graphics2D;
 
@@ -9,13 +9,14 @@ import java.awt.Graphics2D;
  */
 public interface CoinRenderer {
     /**
-     * Draws a single Coin(GameObject), based on its state, using designed
-     * animation frames.
+     * Draws a single Coin(GameObject) copied in a render snapshot, based on its state and on the time
+     * spent in it, using designed animation frames.
      *
      * @param g2        the Graphics2D context
-     * @param coin      the Coin to draw
+     * @param snapshot  the render snapshot containing the coin
+     * @param index     the index of the coin in the snapshot
      * @param offsetY   the vertical offset
-     * @param deltaTime the time passed since the last frame (used for animation)
+     * @param alpha     the interpolation factor between the previous and the current position
      */
-    void drawCoin(Graphics2D g2, Coin coin, float offsetY, float deltaTime);
+    void drawCoin(Graphics2D g2, RenderSnapshot snapshot, int index, float offsetY, float alpha);
 }
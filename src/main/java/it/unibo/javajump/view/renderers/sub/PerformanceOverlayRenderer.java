@@ -0,0 +1,21 @@
+package it.unibo.javajump.view.renderers.sub;
+
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+
+import java.awt.Graphics2D;
+
+/**
+ * Interface for rendering the performance overlay, to be used in the renderer manager.
+ */
+public interface PerformanceOverlayRenderer {
+    /**
+     * Method to draw the performance overlay. It is meant to be called once per drawn frame, since the frame rate
+     * is measured from the calls.
+     *
+     * @param g2       the Graphics2D context
+     * @param snapshot the render snapshot
+     * @param profiler the profiler of the model, that times the stages
+     */
+    void drawOverlay(Graphics2D g2, RenderSnapshot snapshot, TickProfiler profiler);
+}
@@ -0,0 +1,179 @@
+package it.unibo.javajump.view.renderers.sub;
+
+import it.unibo.javajump.model.profiling.ProfiledStage;
+import it.unibo.javajump.model.profiling.StageHistogram;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.view.graphics.ImageUtils;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static it.unibo.javajump.utility.Constants.BYTES_PER_MEGABYTE;
+import static it.unibo.javajump.utility.Constants.NANOSECONDS_PER_MILLISECOND;
+import static it.unibo.javajump.utility.Constants.NANOSECONDS_PER_SECOND;
+import static it.unibo.javajump.utility.Constants.OVERLAY_BACKGROUND_ALPHA;
+import static it.unibo.javajump.utility.Constants.OVERLAY_BACKGROUND_COLOR;
+import static it.unibo.javajump.utility.Constants.OVERLAY_ENTITIES_TEXT;
+import static it.unibo.javajump.utility.Constants.OVERLAY_FRAME_RATE_TEXT;
+import static it.unibo.javajump.utility.Constants.OVERLAY_GC_TEXT;
+import static it.unibo.javajump.utility.Constants.OVERLAY_HEAP_TEXT;
+import static it.unibo.javajump.utility.Constants.OVERLAY_MARGIN;
+import static it.unibo.javajump.utility.Constants.OVERLAY_PADDING;
+import static it.unibo.javajump.utility.Constants.OVERLAY_PROFILER_OFF_TEXT;
+import static it.unibo.javajump.utility.Constants.OVERLAY_REFRESH_INTERVAL;
+import static it.unibo.javajump.utility.Constants.OVERLAY_STAGE_TEXT;
+import static it.unibo.javajump.utility.Constants.OVERLAY_TEXT_COLOR;
+
+/**
+ * Implementation of the PerformanceOverlayRenderer interface. The numbers are sampled a few times per second,
+ * every OVERLAY_REFRESH_INTERVAL seconds, and the text is laid out and drawn once in a cached image, so that
+ * each frame only blits it and the overlay does not distort what it measures. Rates and stage times are averaged
+ * over the last interval, and the max of each stage is the highest time of the interval.
+ */
+public class PerformanceOverlayRendererImpl implements PerformanceOverlayRenderer {
+    private final Font font;
+    private final Color textColor;
+    private final Color backgroundColor;
+    private final List<GarbageCollectorMXBean> collectors;
+    private final long[] lastCounts = new long[ProfiledStage.values().length];
+    private final long[] lastTotals = new long[ProfiledStage.values().length];
+    private final List<String> lines = new ArrayList<>();
+
+    private BufferedImage overlay;
+    private int overlayWidth;
+    private int overlayHeight;
+    private long windowStart;
+    private int frames;
+    private long lastTick;
+
+    /**
+     * Constructor of the PerformanceOverlayRendererImpl class.
+     *
+     * @param font the font of the overlay text
+     */
+    public PerformanceOverlayRendererImpl(final Font font) {
+        this.font = font;
+        this.textColor = Color.decode(OVERLAY_TEXT_COLOR);
+        final Color background = Color.decode(OVERLAY_BACKGROUND_COLOR);
+        this.backgroundColor = new Color(background.getRed(), background.getGreen(), background.getBlue(),
+                OVERLAY_BACKGROUND_ALPHA);
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The overlay is refreshed if the interval has elapsed, then the cached image is drawn in the top right corner.
+     */
+    @Override
+    public void drawOverlay(final Graphics2D g2, final RenderSnapshot snapshot, final TickProfiler profiler) {
+        frames++;
+        final long now = System.nanoTime();
+        if (overlay == null) {
+            startWindow(now, snapshot, profiler);
+            refresh(g2, OVERLAY_REFRESH_INTERVAL, snapshot, profiler);
+        } else if (now - windowStart >= OVERLAY_REFRESH_INTERVAL * NANOSECONDS_PER_SECOND) {
+            refresh(g2, (float) ((now - windowStart) / NANOSECONDS_PER_SECOND), snapshot, profiler);
+            startWindow(now, snapshot, profiler);
+        }
+        g2.drawImage(overlay, snapshot.getScreenWidth() - overlayWidth - OVERLAY_MARGIN, OVERLAY_MARGIN, null);
+    }
+
+    /**
+     * Starts a new sampling interval, remembering the counters the next refresh is compared to.
+     *
+     * @param now      the current time in nanoseconds
+     * @param snapshot the render snapshot
+     * @param profiler the profiler of the model
+     */
+    private void startWindow(final long now, final RenderSnapshot snapshot, final TickProfiler profiler) {
+        windowStart = now;
+        frames = 0;
+        lastTick = snapshot.getTick();
+        for (final ProfiledStage stage : ProfiledStage.values()) {
+            final StageHistogram h = profiler.getHistogram(stage);
+            lastCounts[stage.ordinal()] = h.getCount();
+            lastTotals[stage.ordinal()] = h.getTotal();
+            h.takeIntervalMax();
+        }
+    }
+
+    /**
+     * Samples the numbers of the last interval and draws them in the cached image, which is reallocated only
+     * if the text does not fit in it.
+     *
+     * @param g2       the Graphics2D context of the frame, used to measure the text
+     * @param elapsed  the length of the interval in seconds
+     * @param snapshot the render snapshot
+     * @param profiler the profiler of the model
+     */
+    private void refresh(final Graphics2D g2, final float elapsed, final RenderSnapshot snapshot,
+                         final TickProfiler profiler) {
+        lines.clear();
+        lines.add(String.format(Locale.ROOT, OVERLAY_FRAME_RATE_TEXT,
+                frames / elapsed, (snapshot.getTick() - lastTick) / elapsed));
+        lines.add(String.format(Locale.ROOT, OVERLAY_ENTITIES_TEXT, snapshot.getEntityCount(), snapshot.size()));
+        final Runtime runtime = Runtime.getRuntime();
+        lines.add(String.format(Locale.ROOT, OVERLAY_HEAP_TEXT,
+                (runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_MEGABYTE,
+                runtime.maxMemory() / BYTES_PER_MEGABYTE));
+        long gcCount = 0;
+        long gcTime = 0;
+        for (final GarbageCollectorMXBean gc : collectors) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcTime += Math.max(0, gc.getCollectionTime());
+        }
+        lines.add(String.format(Locale.ROOT, OVERLAY_GC_TEXT, gcCount, gcTime));
+        if (profiler.isEnabled()) {
+            for (final ProfiledStage stage : ProfiledStage.values()) {
+                final StageHistogram h = profiler.getHistogram(stage);
+                final long count = h.getCount() - lastCounts[stage.ordinal()];
+                final long max = h.takeIntervalMax();
+                if (count > 0) {
+                    final double mean = (h.getTotal() - lastTotals[stage.ordinal()]) / (double) count;
+                    lines.add(String.format(Locale.ROOT, OVERLAY_STAGE_TEXT, stage,
+                            mean / NANOSECONDS_PER_MILLISECOND, max / NANOSECONDS_PER_MILLISECOND));
+                }
+            }
+        } else {
+            lines.add(OVERLAY_PROFILER_OFF_TEXT);
+        }
+
+        final FontMetrics metrics = g2.getFontMetrics(font);
+        int textWidth = 0;
+        for (final String line : lines) {
+            textWidth = Math.max(textWidth, metrics.stringWidth(line));
+        }
+        overlayWidth = textWidth + 2 * OVERLAY_PADDING;
+        overlayHeight = lines.size() * metrics.getHeight() + 2 * OVERLAY_PADDING;
+        if (overlay == null || overlay.getWidth() < overlayWidth || overlay.getHeight() < overlayHeight) {
+            overlay = ImageUtils.createCompatibleImage(overlayWidth, overlayHeight);
+        }
+
+        final Graphics2D og = overlay.createGraphics();
+        og.setComposite(AlphaComposite.Clear);
+        og.fillRect(0, 0, overlay.getWidth(), overlay.getHeight());
+        og.setComposite(AlphaComposite.SrcOver);
+        og.setColor(backgroundColor);
+        og.fillRect(0, 0, overlayWidth, overlayHeight);
+        og.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        og.setFont(font);
+        og.setColor(textColor);
+        int y = OVERLAY_PADDING + metrics.getAscent();
+        for (final String line : lines) {
+            og.drawString(line, OVERLAY_PADDING, y);
+            y += metrics.getHeight();
+        }
+        og.dispose();
+    }
+}
@@ -1,6 +1,6 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.entities.platforms.Platform;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 
 import java.awt.Graphics2D;
 
@@ -10,12 +10,14 @@ import java.awt.Graphics2D;
 public interface PlatformRenderer {
 
     /**
-     * Draws a platform.
+     * Draws a platform copied in a render snapshot.
      *
      * @param g2            the Graphics2D context
-     * @param platform      the Platform to draw
+     * @param snapshot      the render snapshot containing the platform
+     * @param index         the index of the platform in the snapshot
      * @param cameraOffsetY the vertical offset
+     * @param alpha         the interpolation factor between the previous and the current position
      */
-    void drawPlatform(Graphics2D g2, Platform platform, float cameraOffsetY);
+    void drawPlatform(Graphics2D g2, RenderSnapshot snapshot, int index, float cameraOffsetY, float alpha);
 
 }
@@ -1,18 +1,15 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.entities.platforms.BouncePlatform;
-import it.unibo.javajump.model.entities.platforms.BreakablePlatform;
-import it.unibo.javajump.model.entities.platforms.MovingPlatform;
-import it.unibo.javajump.model.entities.platforms.Platform;
-import it.unibo.javajump.view.sound.sfx.SFXType;
-import it.unibo.javajump.view.sound.sfx.SoundEffectsManager;
+import it.unibo.javajump.model.entities.store.EntityType;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.view.graphics.ImageUtils;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
-import java.awt.Paint;
-import java.awt.Stroke;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 
 import static it.unibo.javajump.utility.Constants.BOUNCE_PLATFORM_COLOR;
 import static it.unibo.javajump.utility.Constants.BREAKABLE_PLATFORM_COLOR;
@@ -20,9 +17,11 @@ import static it.unibo.javajump.utility.Constants.MOVING_PLATFORM_COLOR;
 import static it.unibo.javajump.utility.Constants.OUTLINE_COLOR;
 import static it.unibo.javajump.utility.Constants.PLATFORM_HIGHLIGHT_COLOR;
 import static it.unibo.javajump.utility.Constants.STANDARD_PLATFORM_COLOR;
+import static it.unibo.javajump.view.InterpolationUtils.interpolate;
+import static it.unibo.javajump.view.InterpolationUtils.interpolateX;
 
 /**
- * Class implementing the PlatformRenderer interface, used to draw a platform.
+ * Class implementing the PlatformRenderer interface, used to draw a platform from a cache of pre-rendered sprites.
  */
 public class PlatformRendererImpl implements PlatformRenderer {
     /**
@@ -37,8 +36,26 @@ public class PlatformRendererImpl implements PlatformRenderer {
      * the height of the rounded corners.
      */
     private final int roundArcH;
-
-    private final SoundEffectsManager soundEffectsManager;
+    /**
+     * The space left around the sprites for the part of the outline stroke outside the platform.
+     */
+    private final int spritePadding;
+    /**
+     * The base color of each type of platform, indexed by entity type, null for the other types.
+     */
+    private final Color[] baseColors = new Color[EntityType.count()];
+    /**
+     * The highlight color, shared by all the platforms.
+     */
+    private final Color highlightColor = Color.decode(PLATFORM_HIGHLIGHT_COLOR);
+    /**
+     * The outline color, shared by all the platforms.
+     */
+    private final Color outlineColor = Color.decode(OUTLINE_COLOR);
+    /**
+     * The cached sprites, indexed by entity type and then by width.
+     */
+    private final BufferedImage[][] sprites = new BufferedImage[EntityType.count()][0];
 
     /**
      * Class constructor for the PlatformRendererImpl, that initializes the fields for Platform rendering.
@@ -46,53 +63,83 @@ public class PlatformRendererImpl implements PlatformRenderer {
      * @param outlineStrokeWidth  the width of the outline stroke
      * @param arcW                the width of the rounded corners
      * @param arcH                the height of the rounded corners
-     * @param soundEffectsManager the sound effects manager
      */
-    public PlatformRendererImpl(final float outlineStrokeWidth, final int arcW, final int arcH,
-                                final SoundEffectsManager soundEffectsManager) {
+    public PlatformRendererImpl(final float outlineStrokeWidth, final int arcW, final int arcH) {
         this.outlineStrokeWidth = outlineStrokeWidth;
         this.roundArcW = arcW;
         this.roundArcH = arcH;
-        this.soundEffectsManager = soundEffectsManager;
+        this.spritePadding = (int) Math.ceil(outlineStrokeWidth / 2);
+        baseColors[EntityType.PLATFORM.ordinal()] = Color.decode(STANDARD_PLATFORM_COLOR);
+        baseColors[EntityType.MOVING_PLATFORM.ordinal()] = Color.decode(MOVING_PLATFORM_COLOR);
+        baseColors[EntityType.BREAKABLE_PLATFORM.ordinal()] = Color.decode(BREAKABLE_PLATFORM_COLOR);
+        baseColors[EntityType.BOUNCE_PLATFORM.ordinal()] = Color.decode(BOUNCE_PLATFORM_COLOR);
     }
 
     /**
      * {@inheritDoc}
-     * The platforms are drawn using the drawPlatformCommon method,
+     * The look of a platform only depends on its type and size, so each distinct look is drawn once, using the
+     * drawPlatformCommon method, into a cached sprite that is then just copied on screen:
      * the base color of the platform is based on the type of platform,
      * and the highlight color is always the same for all platforms.
      */
     @Override
-    public void drawPlatform(final Graphics2D g2, final Platform platform, final float cameraOffsetY) {
-        final float drawX = platform.getX();
-        final float drawY = platform.getY() - cameraOffsetY;
-        final float w = platform.getWidth();
-        final float h = platform.getHeight();
-
-        switch (platform) {
-            case BouncePlatform ignored -> drawPlatformCommon(g2, drawX, drawY, w, h,
-                    Color.decode(BOUNCE_PLATFORM_COLOR), Color.decode(PLATFORM_HIGHLIGHT_COLOR));
-            case BreakablePlatform ignored -> drawPlatformCommon(g2, drawX, drawY, w, h,
-                    Color.decode(BREAKABLE_PLATFORM_COLOR), Color.decode(PLATFORM_HIGHLIGHT_COLOR));
-            case MovingPlatform ignored -> drawPlatformCommon(g2, drawX, drawY, w, h,
-                    Color.decode(MOVING_PLATFORM_COLOR), Color.decode(PLATFORM_HIGHLIGHT_COLOR));
-            default -> drawPlatformCommon(g2, drawX, drawY, w, h,
-                    Color.decode(STANDARD_PLATFORM_COLOR), Color.decode(PLATFORM_HIGHLIGHT_COLOR));
+    public void drawPlatform(final Graphics2D g2, final RenderSnapshot snapshot, final int index,
+                             final float cameraOffsetY, final float alpha) {
+        final float w = snapshot.getWidth(index);
+        final float drawX = interpolateX(snapshot.getPreviousX(index), snapshot.getX(index), w, alpha);
+        final float drawY = interpolate(snapshot.getPreviousY(index), snapshot.getY(index), alpha) - cameraOffsetY;
+
+        final BufferedImage sprite = getSprite(snapshot.getType(index), (int) w, (int) snapshot.getHeight(index));
+        if (sprite != null) {
+            g2.drawImage(sprite, (int) drawX - spritePadding, (int) drawY - spritePadding, null);
         }
+    }
 
-        if (platform.consumeTouched()) {
-            if (platform instanceof BouncePlatform) {
-                soundEffectsManager.playSound(SFXType.BOUNCE);
-
-            } else if (platform instanceof BreakablePlatform bp) {
-                soundEffectsManager.playSound(SFXType.BREAK);
-
-                bp.setFinished();
-            } else {
-                soundEffectsManager.playSound(SFXType.DEFAULT);
-
-            }
+    /**
+     * Returns the cached sprite of a platform, drawing it the first time it is needed.
+     * The sprites are stored by type and by width (in pixels, as they are drawn);
+     * a sprite is drawn again if the height of the platforms changes.
+     *
+     * @param type   the type of the platform
+     * @param width  the width of the platform
+     * @param height the height of the platform
+     * @return the sprite, or null if the type is not a platform
+     */
+    private BufferedImage getSprite(final EntityType type, final int width, final int height) {
+        final Color baseColor = baseColors[type.ordinal()];
+        if (baseColor == null || width <= 0 || height <= 0) {
+            return null;
+        }
+        BufferedImage[] byWidth = sprites[type.ordinal()];
+        if (width >= byWidth.length) {
+            byWidth = Arrays.copyOf(byWidth, Math.max(width + 1, byWidth.length * 2));
+            sprites[type.ordinal()] = byWidth;
+        }
+        BufferedImage sprite = byWidth[width];
+        if (sprite == null || sprite.getHeight() != height + 2 * spritePadding + 1) {
+            sprite = createSprite(width, height, baseColor);
+            byWidth[width] = sprite;
         }
+        return sprite;
+    }
+
+    /**
+     * Draws a platform into a new translucent image, compatible with the screen when there is one,
+     * leaving room around it for the outline stroke.
+     *
+     * @param width     the width of the platform
+     * @param height    the height of the platform
+     * @param baseColor the base color of the platform
+     * @return the sprite
+     */
+    private BufferedImage createSprite(final int width, final int height, final Color baseColor) {
+        final int spriteWidth = width + 2 * spritePadding + 1;
+        final int spriteHeight = height + 2 * spritePadding + 1;
+        final BufferedImage sprite = ImageUtils.createCompatibleImage(spriteWidth, spriteHeight);
+        final Graphics2D g2 = sprite.createGraphics();
+        drawPlatformCommon(g2, spritePadding, spritePadding, width, height, baseColor, highlightColor);
+        g2.dispose();
+        return sprite;
     }
 
     /**
@@ -109,18 +156,12 @@ public class PlatformRendererImpl implements PlatformRenderer {
      */
     private void drawPlatformCommon(final Graphics2D g2, final float x, final float y, final float w,
                                     final float h, final Color startColor, final Color endColor) {
-        final Paint oldPaint = g2.getPaint();
-        final Stroke oldStroke = g2.getStroke();
-
         final GradientPaint gp = new GradientPaint(x, y, startColor, x, y + h, endColor);
         g2.setPaint(gp);
         g2.fillRoundRect((int) x, (int) y, (int) w, (int) h, roundArcW, roundArcH);
 
         g2.setStroke(new BasicStroke(outlineStrokeWidth));
-        g2.setColor(Color.decode(OUTLINE_COLOR));
+        g2.setColor(outlineColor);
         g2.drawRoundRect((int) x, (int) y, (int) w, (int) h, roundArcW, roundArcH);
-
-        g2.setStroke(oldStroke);
-        g2.setPaint(oldPaint);
     }
 }
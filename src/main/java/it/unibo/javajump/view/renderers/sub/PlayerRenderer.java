@@ -1,6 +1,6 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 
 import java.awt.Graphics2D;
 
@@ -9,12 +9,13 @@ import java.awt.Graphics2D;
  */
 public interface PlayerRenderer {
     /**
-     * Draws a player.
+     * Draws the player, as copied in a render snapshot.
      *
      * @param g2        the Graphics2D context
-     * @param player    the Player to draw
+     * @param snapshot  the render snapshot containing the player
      * @param offsetY   the vertical offset
      * @param deltaTime the time passed since the last frame (used for animation)
+     * @param alpha     the interpolation factor between the previous and the current position
      */
-    void drawPlayer(Graphics2D g2, Character player, float offsetY, float deltaTime);
+    void drawPlayer(Graphics2D g2, RenderSnapshot snapshot, float offsetY, float deltaTime, float alpha);
 }
@@ -1,39 +1,29 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.view.graphics.SpriteAtlas;
 
 import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
-import static it.unibo.javajump.utility.Constants.FLIP_MAX;
-import static it.unibo.javajump.utility.Constants.FLIP_MIN;
 import static it.unibo.javajump.utility.Constants.PLAYER_ANIMATION_CYCLE_DURATION;
 import static it.unibo.javajump.utility.Constants.PLAYER_JUMP_END_FRAME;
 import static it.unibo.javajump.utility.Constants.PLAYER_JUMP_START_FRAME;
 import static it.unibo.javajump.utility.Constants.PLAYER_LANDING_END_FRAME;
 import static it.unibo.javajump.utility.Constants.PLAYER_LANDING_START_FRAME;
 import static it.unibo.javajump.utility.Constants.RENDER_PLAYER_ANIM_TIMER_INIT;
-import static it.unibo.javajump.utility.Constants.RENDER_PLAYER_FRAME_GET_IMG_Y;
-import static it.unibo.javajump.utility.Constants.RENDER_PLAYER_FRAME_X;
-import static it.unibo.javajump.utility.Constants.RENDER_PLAYER_FRAME_Y;
+import static it.unibo.javajump.utility.Constants.RENDER_PLAYER_ROW;
+import static it.unibo.javajump.view.InterpolationUtils.interpolate;
+import static it.unibo.javajump.view.InterpolationUtils.interpolateX;
 
 /**
  * Implementation of the PlayerRenderer interface, used for graphical rendering of the player (animated).
  */
 public class PlayerRendererImpl implements PlayerRenderer {
     /**
-     * The sprite sheet containing the player's animation frames.
+     * The player's animation frames, sliced from the sprite sheet, also mirrored.
      */
-    private final BufferedImage playerSheet;
-    /**
-     * The width of the player's animation frames.
-     */
-    private final int frameWidth;
-    /**
-     * The height of the player's animation frames.
-     */
-    private final int frameHeight;
+    private final SpriteAtlas playerAtlas;
     /**
      * The duration of each animation frame.
      */
@@ -50,19 +40,11 @@ public class PlayerRendererImpl implements PlayerRenderer {
     /**
      * Constructor for the PlayerRendererImpl class.
      *
-     * @param sheet         the sprite sheet containing the player's animation frames
-     * @param frameWidth    the width of the player's animation frames
-     * @param frameHeight   the height of the player's animation frames
+     * @param atlas         the player's animation frames
      * @param frameDuration the duration of each animation frame
      */
-    public PlayerRendererImpl(final BufferedImage sheet, final int frameWidth,
-                              final int frameHeight, final float frameDuration) {
-        this.playerSheet = new BufferedImage(sheet.getColorModel(),
-                sheet.copyData(null),
-                sheet.isAlphaPremultiplied(),
-                null);
-        this.frameWidth = frameWidth;
-        this.frameHeight = frameHeight;
+    public PlayerRendererImpl(final SpriteAtlas atlas, final float frameDuration) {
+        this.playerAtlas = atlas;
         this.prevOnPlatform = false;
         this.animTimer = RENDER_PLAYER_ANIM_TIMER_INIT;
         this.frameDuration = frameDuration;
@@ -71,76 +53,60 @@ public class PlayerRendererImpl implements PlayerRenderer {
 
     /**
      * {@inheritDoc}
-     * The method checks the state of the Character (in model) and updates the animation timer accordingly.
-     * The draw logic also uses the private methods to draw the correct frame and to flip the sheet.
+     * The method checks the state of the Character (in the render snapshot) and updates the animation timer
+     * accordingly.
+     * The draw logic also uses the private method to pick the correct frame, mirrored if the player is facing left.
      *
      * @param g2        the Graphics2D context
-     * @param player    the Player to draw
+     * @param snapshot  the render snapshot containing the player
      * @param offsetY   the vertical offset
      * @param deltaTime the time passed since the last frame (used for animation)
+     * @param alpha     the interpolation factor between the previous and the current position
      */
     @Override
-    public void drawPlayer(final Graphics2D g2, final Character player, final float offsetY, final float deltaTime) {
-        if (player.isOnPlatform() != prevOnPlatform) {
+    public void drawPlayer(final Graphics2D g2, final RenderSnapshot snapshot, final float offsetY,
+                           final float deltaTime, final float alpha) {
+        if (snapshot.isPlayerOnPlatform() != prevOnPlatform) {
             animTimer = RENDER_PLAYER_ANIM_TIMER_INIT;
-            prevOnPlatform = player.isOnPlatform();
+            prevOnPlatform = snapshot.isPlayerOnPlatform();
         } else {
             animTimer += deltaTime;
         }
 
-        final int sx = getAnimationFrame(player);
-        final BufferedImage frame = playerSheet.getSubimage(sx, RENDER_PLAYER_FRAME_GET_IMG_Y, frameWidth, frameHeight);
+        final int frameIndex = getAnimationFrame(snapshot.isPlayerOnPlatform());
+        final BufferedImage frame = snapshot.isPlayerFacingRight()
+                ? playerAtlas.getFrame(RENDER_PLAYER_ROW, frameIndex)
+                : playerAtlas.getMirroredFrame(RENDER_PLAYER_ROW, frameIndex);
 
-        final float drawX = player.getX();
-        final float drawY = player.getY() - offsetY;
+        final float drawX = interpolateX(snapshot.getPlayerPreviousX(), snapshot.getPlayerX(),
+                snapshot.getPlayerWidth(), alpha);
+        final float drawY = interpolate(snapshot.getPlayerPreviousY(), snapshot.getPlayerY(), alpha) - offsetY;
 
-        flipSheet(g2, player, drawX, drawY, frame);
+        g2.drawImage(frame, (int) drawX, (int) drawY, null);
     }
 
     /**
      * Private method that returns the index of the frame to draw.
-     * The animation frames are extracted from the sprite sheet.
      * The sheet contains a single row of frames,
-     * with the first 2 frames for jumping and the last 2 for falling.
+     * with the first 2 frames for jumping and the last 2 for falling; the atlas also contains them mirrored,
+     * for when the player is facing left.
      * The animation logic for the character is:
      * if the character lands on a platform, the first 2 frames get drawn,
      * otherwise it draws the third frame and the fourth after, which will remain
      * until the character lands on another platform.
      *
-     * @param player the player to check
-     * @return the right frame to draw
+     * @param onPlatform true if the player is on a platform
+     * @return the index of the right frame to draw
      */
-    private int getAnimationFrame(final Character player) {
+    private int getAnimationFrame(final boolean onPlatform) {
         final int frameIndex;
-        if (player.isOnPlatform()) {
+        if (onPlatform) {
             final float cycle = frameDuration * PLAYER_ANIMATION_CYCLE_DURATION; //
             final float t = animTimer % cycle;
             frameIndex = (t < frameDuration) ? PLAYER_LANDING_START_FRAME : PLAYER_LANDING_END_FRAME;
         } else {
             frameIndex = (animTimer < frameDuration) ? PLAYER_JUMP_START_FRAME : PLAYER_JUMP_END_FRAME;
         }
-        return frameIndex * frameWidth;
-    }
-
-    /**
-     * Private method that flips the sprite sheet horizontally if the player is facing left.
-     *
-     * @param g2     the Graphics2D context
-     * @param player the player to check
-     * @param drawX  the x position to draw
-     * @param drawY  the y position to draw
-     * @param frame  the frame to draw
-     */
-    private void flipSheet(final Graphics2D g2, final Character player, final float drawX,
-                           final float drawY, final BufferedImage frame) {
-        final AffineTransform old = g2.getTransform();
-        if (!player.isFacingRight()) {
-            g2.translate(drawX + frameWidth, drawY);
-            g2.scale(FLIP_MIN, FLIP_MAX);
-            g2.drawImage(frame, RENDER_PLAYER_FRAME_X, RENDER_PLAYER_FRAME_Y, null);
-        } else {
-            g2.drawImage(frame, (int) drawX, (int) drawY, null);
-        }
-        g2.setTransform(old);
+        return frameIndex;
     }
 }
@@ -1,6 +1,6 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 
 import java.awt.Graphics2D;
 
@@ -12,9 +12,9 @@ public interface ScoreUIRenderer {
      * Method to draw the score and UI.
      *
      * @param g2                   the Graphics2D context
-     * @param model                the GameModel
+     * @param snapshot             the render snapshot
      * @param isNewHighScore       flag to indicate if the score is a new high score
      * @param showHighScoreMessage flag to indicate if the high score message should be shown
      */
-    void drawScoreAndUI(Graphics2D g2, GameModel model, boolean isNewHighScore, boolean showHighScoreMessage);
+    void drawScoreAndUI(Graphics2D g2, RenderSnapshot snapshot, boolean isNewHighScore, boolean showHighScoreMessage);
 }
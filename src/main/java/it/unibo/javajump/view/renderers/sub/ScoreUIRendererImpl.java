@@ -1,6 +1,7 @@
 package it.unibo.javajump.view.renderers.sub;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.view.graphics.Texture;
 
 import java.awt.Color;
 import java.awt.Font;
@@ -33,37 +34,29 @@ public class ScoreUIRendererImpl implements ScoreUIRenderer {
     /**
      * Constructor of the ScoreUIRendererImpl class.
      *
-     * @param container the image of the score container
+     * @param container the texture of the score container, whose shared image is drawn without copies
      *
      * @param font2     the font 2
      * @param font3     the font 3
      */
-    public ScoreUIRendererImpl(final BufferedImage container, final Font font2, final Font font3) {
-        this.scoreContainer = copyBufferedImage(container);
+    public ScoreUIRendererImpl(final Texture container, final Font font2, final Font font3) {
+        this.scoreContainer = container.getImage();
         this.gameFont2 = font2;
         this.gameFont3 = font3;
     }
 
-    private BufferedImage copyBufferedImage(final BufferedImage source) {
-        if (source == null) {
-            return null;
-        }
-        final BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), source.getType());
-        copy.getGraphics().drawImage(source, 0, 0, null);
-        return copy;
-    }
     /**
      * {@inheritDoc}
-     * The method draws the container, then checks the score and best score from the GameModel (ScoreManager).
+     * The method draws the container, then checks the score and best score from the render snapshot.
      * If the score is less than the best score, it uses the normal color, otherwise it uses the highlight color.
      * It also shows a message if the score is a new high score.
      */
     @Override
-    public void drawScoreAndUI(final Graphics2D g2, final GameModel model,
+    public void drawScoreAndUI(final Graphics2D g2, final RenderSnapshot snapshot,
                                final boolean isNewHighScore, final boolean showHighScoreMessage) {
         g2.drawImage(scoreContainer, RENDER_UI_SCORE_CONTAINER_X, RENDER_UI_SCORE_CONTAINER_Y, null);
-        final int score = model.getScore();
-        final int bestScore = model.getScoreManager().getBestScore();
+        final int score = snapshot.getScore();
+        final int bestScore = snapshot.getBestScore();
         final boolean isNewHighScoreLocal;
         if (score < bestScore || score == 0) {
             g2.setColor(Color.WHITE);
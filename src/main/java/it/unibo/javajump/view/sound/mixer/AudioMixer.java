@@ -0,0 +1,36 @@
+package it.unibo.javajump.view.sound.mixer;
+
+/**
+ * Interface for the audio mixer, which plays any number of decoded sounds, up to a fixed budget of voices,
+ * together with a streamed track, on a single audio line.
+ */
+public interface AudioMixer {
+    /**
+     * Starts playing a sound on a free voice. It never blocks nor allocates, so it can be called while rendering.
+     *
+     * @param buffer the decoded sound
+     * @param gain   the linear gain of the voice, 1 to play the sound unchanged
+     * @return true if the sound is played, false if every voice is busy or the audio line is not available
+     */
+    boolean play(PcmBuffer buffer, float gain);
+
+    /**
+     * Sets the voice streaming a track, which is mixed with the sounds while it is playing.
+     * The previous one, if any, is closed by the mixer.
+     *
+     * @param stream the voice streaming a track, or null to remove it
+     */
+    void setStream(StreamVoice stream);
+
+    /**
+     * Getter for the number of voices currently playing.
+     *
+     * @return the number of busy voices
+     */
+    int getActiveVoices();
+
+    /**
+     * Stops the mixer and releases the audio line.
+     */
+    void close();
+}
@@ -0,0 +1,163 @@
+package it.unibo.javajump.view.sound.mixer;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static it.unibo.javajump.utility.Constants.MIXER_BLOCK_FRAMES;
+import static it.unibo.javajump.utility.Constants.MIXER_CHANNELS;
+import static it.unibo.javajump.utility.Constants.MIXER_CLOSE_TIMEOUT_MILLIS;
+import static it.unibo.javajump.utility.Constants.MIXER_FRAME_BYTES;
+import static it.unibo.javajump.utility.Constants.MIXER_LINE_BLOCKS;
+import static it.unibo.javajump.utility.Constants.MIXER_SAMPLE_BITS;
+import static it.unibo.javajump.utility.Constants.MIXER_SAMPLE_RATE;
+import static it.unibo.javajump.utility.Constants.MIXER_THREAD_NAME;
+import static it.unibo.javajump.utility.Constants.MIXER_VOICES;
+
+/**
+ * Implementation of the AudioMixer interface. A dedicated thread mixes the playing voices in blocks of
+ * MIXER_BLOCK_FRAMES frames, together with the streamed track, and writes them to a single SourceDataLine,
+ * whose blocking writes pace the thread. If no audio line is available, the mixer stays silent.
+ */
+public final class AudioMixerImpl implements AudioMixer {
+    private final Voice[] voices = new Voice[MIXER_VOICES];
+    private final SourceDataLine line;
+    private final Thread thread;
+    private volatile StreamVoice stream;
+    private volatile boolean running;
+
+    /**
+     * Constructor for the AudioMixerImpl class, which opens the audio line and starts the mixer thread.
+     */
+    public AudioMixerImpl() {
+        for (int i = 0; i < voices.length; i++) {
+            voices[i] = new Voice();
+        }
+        this.line = openLine();
+        if (line != null) {
+            running = true;
+            thread = new Thread(this::mix, MIXER_THREAD_NAME);
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MAX_PRIORITY);
+            thread.start();
+        } else {
+            thread = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean play(final PcmBuffer buffer, final float gain) {
+        if (!running || buffer == null) {
+            return false;
+        }
+        for (final Voice voice : voices) {
+            if (voice.start(buffer, gain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStream(final StreamVoice streamVoice) {
+        this.stream = streamVoice;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActiveVoices() {
+        int active = 0;
+        for (final Voice voice : voices) {
+            if (voice.isPlaying()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * {@inheritDoc} The line is closed by the mixer thread, after its last block, which is waited for
+     * up to MIXER_CLOSE_TIMEOUT_MILLIS, so that the line is released even when closing at shutdown.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join(MIXER_CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Private method to open and start the audio line in the format of the mixer.
+     *
+     * @return the line, or null if it is not available
+     */
+    private static SourceDataLine openLine() {
+        final AudioFormat format = new AudioFormat(MIXER_SAMPLE_RATE, MIXER_SAMPLE_BITS, MIXER_CHANNELS, true, false);
+        try {
+            final SourceDataLine sourceLine = AudioSystem.getSourceDataLine(format);
+            sourceLine.open(format, MIXER_BLOCK_FRAMES * MIXER_FRAME_BYTES * MIXER_LINE_BLOCKS);
+            sourceLine.start();
+            return sourceLine;
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            Logger.getLogger(AudioMixerImpl.class.getName())
+                    .log(Level.WARNING, "No audio line available, the sounds are disabled", e);
+            return null;
+        }
+    }
+
+    /**
+     * Private method run by the mixer thread: it sums the samples of the playing voices and of the streamed track,
+     * clamps them to 16 bits and writes them to the line, until the mixer is closed.
+     */
+    private void mix() {
+        final int[] block = new int[MIXER_BLOCK_FRAMES * MIXER_CHANNELS];
+        final byte[] bytes = new byte[MIXER_BLOCK_FRAMES * MIXER_FRAME_BYTES];
+        StreamVoice current = null;
+        while (running) {
+            Arrays.fill(block, 0);
+            final StreamVoice next = stream;
+            if (next != current) {
+                if (current != null) {
+                    current.release();
+                }
+                current = next;
+            }
+            if (current != null) {
+                current.mixInto(block, MIXER_BLOCK_FRAMES);
+            }
+            for (final Voice voice : voices) {
+                if (voice.isPlaying()) {
+                    voice.mixInto(block, MIXER_BLOCK_FRAMES, MIXER_CHANNELS);
+                }
+            }
+            for (int i = 0; i < block.length; i++) {
+                final int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, block[i]));
+                bytes[2 * i] = (byte) sample;
+                bytes[2 * i + 1] = (byte) (sample >> Byte.SIZE);
+            }
+            line.write(bytes, 0, bytes.length);
+        }
+        if (current != null) {
+            current.release();
+        }
+        line.stop();
+        line.close();
+    }
+}
@@ -0,0 +1,102 @@
+package it.unibo.javajump.view.sound.mixer;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static it.unibo.javajump.utility.Constants.MIXER_CHANNELS;
+import static it.unibo.javajump.utility.Constants.MIXER_SAMPLE_BITS;
+import static it.unibo.javajump.utility.Constants.MIXER_SAMPLE_RATE;
+
+/**
+ * A sound decoded once in the format of the audio mixer: 16 bit signed samples, with the stereo channels
+ * interleaved. The samples are never modified, so a buffer can be played by any number of voices at the same time.
+ */
+public final class PcmBuffer {
+    private static final int SAMPLE_BYTES = MIXER_SAMPLE_BITS / Byte.SIZE;
+    private static final int BYTE_MASK = 0xFF;
+
+    private final short[] samples;
+
+    /**
+     * Private constructor for the PcmBuffer class.
+     *
+     * @param samples the interleaved stereo samples
+     */
+    private PcmBuffer(final short[] samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * Decodes an audio stream, converting it to the sample rate and bits of the mixer; mono sounds are duplicated
+     * on both channels.
+     *
+     * @param in the stream of an audio file, which is closed
+     * @return the decoded buffer
+     * @throws IOException                   if the stream cannot be read
+     * @throws UnsupportedAudioFileException if the stream is not a supported audio file
+     */
+    public static PcmBuffer decode(final InputStream in) throws IOException, UnsupportedAudioFileException {
+        final byte[] bytes;
+        final int channels;
+        try (AudioInputStream converted = convert(in)) {
+            channels = converted.getFormat().getChannels();
+            bytes = converted.readAllBytes();
+        }
+        final int frames = bytes.length / (SAMPLE_BYTES * channels);
+        final short[] samples = new short[frames * MIXER_CHANNELS];
+        for (int frame = 0; frame < frames; frame++) {
+            for (int channel = 0; channel < MIXER_CHANNELS; channel++) {
+                final int offset = (frame * channels + Math.min(channel, channels - 1)) * SAMPLE_BYTES;
+                samples[frame * MIXER_CHANNELS + channel] =
+                        (short) (bytes[offset] & BYTE_MASK | bytes[offset + 1] << Byte.SIZE);
+            }
+        }
+        return new PcmBuffer(samples);
+    }
+
+    /**
+     * Opens an audio stream converted to the sample rate and bits of the mixer, keeping the channels of the source,
+     * so that it can be read a chunk at a time.
+     *
+     * @param in the stream of an audio file, which is closed with the returned stream
+     * @return the converted stream, of mono or stereo 16 bit signed little endian samples
+     * @throws IOException                   if the stream cannot be read
+     * @throws UnsupportedAudioFileException if the stream is not a supported audio file
+     */
+    public static AudioInputStream convert(final InputStream in) throws IOException, UnsupportedAudioFileException {
+        final AudioInputStream source = AudioSystem.getAudioInputStream(in);
+        final int channels = source.getFormat().getChannels();
+        if (channels < 1 || channels > MIXER_CHANNELS) {
+            throw new UnsupportedAudioFileException("Unsupported number of channels: " + channels);
+        }
+        final AudioFormat target = new AudioFormat(MIXER_SAMPLE_RATE, MIXER_SAMPLE_BITS, channels, true, false);
+        try {
+            return AudioSystem.getAudioInputStream(target, source);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedAudioFileException("Cannot convert " + source.getFormat() + " to " + target);
+        }
+    }
+
+    /**
+     * Getter for the number of frames of the sound.
+     *
+     * @return the number of frames
+     */
+    public int getFrameCount() {
+        return samples.length / MIXER_CHANNELS;
+    }
+
+    /**
+     * Getter for a sample of the sound.
+     *
+     * @param index the index of the sample, counting the interleaved channels
+     * @return the sample
+     */
+    public short getSample(final int index) {
+        return samples[index];
+    }
+}
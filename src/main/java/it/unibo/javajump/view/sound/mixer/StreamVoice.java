@@ -0,0 +1,298 @@
+package it.unibo.javajump.view.sound.mixer;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static it.unibo.javajump.utility.Constants.MIXER_BLOCK_FRAMES;
+import static it.unibo.javajump.utility.Constants.MIXER_CHANNELS;
+import static it.unibo.javajump.utility.Constants.MIXER_FRAME_BYTES;
+import static it.unibo.javajump.utility.Constants.MIXER_SAMPLE_BITS;
+import static it.unibo.javajump.utility.Constants.MIXER_SAMPLE_RATE;
+import static it.unibo.javajump.view.sound.mixer.VolumeUtils.toLinearGain;
+
+/**
+ * A voice of the audio mixer that streams a looping track, reading it a chunk at a time instead of decoding it whole.
+ * The commands can be given by any thread, and only change the state of the voice; the track is opened, read and
+ * closed by the mixer thread, which ramps the volume along each mixed block, so that fading needs no timer.
+ */
+public final class StreamVoice {
+    private static final int SAMPLE_BYTES = MIXER_SAMPLE_BITS / Byte.SIZE;
+    private static final int BYTE_MASK = 0xFF;
+
+    private final String filePath;
+    private final long loopStart;
+    private final float loopEnd;
+
+    private boolean playing;
+    private boolean rewind;
+    private boolean fading;
+    private float volume;
+    private float targetVolume;
+    private float volumeStep;
+    private float volumeAfterFade;
+
+    private final byte[] chunk = new byte[MIXER_BLOCK_FRAMES * MIXER_FRAME_BYTES];
+    private AudioInputStream stream;
+    private int channels;
+    private long position;
+    private long loopEndFrame;
+    private boolean broken;
+
+    /**
+     * Constructor for the StreamVoice class. The track starts from its first frame, and then loops between
+     * the loop points.
+     *
+     * @param filePath  the resource path of the track
+     * @param loopStart the frame the loop starts from
+     * @param loopEnd   the point the loop ends at, as a fraction of the length of the track
+     */
+    public StreamVoice(final String filePath, final long loopStart, final float loopEnd) {
+        this.filePath = filePath;
+        this.loopStart = loopStart;
+        this.loopEnd = loopEnd;
+    }
+
+    /**
+     * Starts or resumes the track from where it was stopped, and cancels a fade.
+     */
+    public synchronized void play() {
+        cancelFade();
+        playing = true;
+    }
+
+    /**
+     * Pauses the track, and cancels a fade.
+     */
+    public synchronized void pause() {
+        cancelFade();
+        playing = false;
+    }
+
+    /**
+     * Stops the track, which starts again from its first frame when played, and cancels a fade.
+     */
+    public synchronized void stop() {
+        cancelFade();
+        playing = false;
+        rewind = true;
+    }
+
+    /**
+     * Checks if the track is playing, fading included.
+     *
+     * @return true if the track is playing
+     */
+    public synchronized boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * Sets the volume of the track, and cancels a fade.
+     *
+     * @param vol the volume, from 0 to 1
+     */
+    public synchronized void setVolume(final float vol) {
+        cancelFade();
+        volume = vol;
+        targetVolume = vol;
+    }
+
+    /**
+     * Fades the track out, lowering the volume linearly in decibels; at the end the track is stopped
+     * and the volume is set back to the one before the fade.
+     *
+     * @param durationSeconds the duration of the fade, in seconds
+     */
+    public synchronized void fadeOut(final float durationSeconds) {
+        if (!playing) {
+            return;
+        }
+        if (!fading) {
+            volumeAfterFade = volume;
+        }
+        fading = true;
+        targetVolume = 0;
+        volumeStep = durationSeconds > 0 ? volume / (durationSeconds * MIXER_SAMPLE_RATE) : volume;
+    }
+
+    /**
+     * Adds the next frames of the track to a block, reading them from the stream. It must only be called by
+     * the mixer thread.
+     *
+     * @param block  the interleaved stereo samples being mixed
+     * @param frames the number of frames of the block
+     */
+    void mixInto(final int[] block, final int frames) {
+        final boolean rewindNow;
+        final boolean play;
+        float startGain = 0;
+        float endGain = 0;
+        synchronized (this) {
+            rewindNow = rewind;
+            rewind = false;
+            play = playing;
+            if (play) {
+                startGain = toLinearGain(volume);
+                rampVolume(frames);
+                endGain = toLinearGain(volume);
+                if (fading && volume == targetVolume) {
+                    cancelFade();
+                    playing = false;
+                    rewind = true;
+                }
+            }
+        }
+        if (rewindNow) {
+            release();
+        }
+        if (!play || broken) {
+            return;
+        }
+        int done = 0;
+        while (done < frames) {
+            if (stream == null && !open(position)) {
+                return;
+            }
+            final int wanted = (int) Math.min(frames - done, loopEndFrame - position);
+            final int read = wanted > 0 ? readFrames(wanted) : 0;
+            if (broken) {
+                return;
+            }
+            if (read == 0) {
+                if (position <= loopStart) {
+                    broken = true;
+                    return;
+                }
+                release();
+                position = loopStart;
+            } else {
+                addFrames(block, done, read, startGain + (endGain - startGain) * done / frames,
+                        (endGain - startGain) / frames);
+                position += read;
+                done += read;
+            }
+        }
+    }
+
+    /**
+     * Closes the stream, and moves back to the first frame of the track. It must only be called by the mixer thread.
+     */
+    void release() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                Logger.getLogger(StreamVoice.class.getName())
+                        .log(Level.WARNING, "Error closing the audio file: " + filePath, e);
+            }
+            stream = null;
+        }
+        position = 0;
+    }
+
+    /**
+     * Private method to cancel a fade, setting back the volume it started from.
+     */
+    private void cancelFade() {
+        if (fading) {
+            fading = false;
+            volume = volumeAfterFade;
+            targetVolume = volumeAfterFade;
+        }
+    }
+
+    /**
+     * Private method to move the volume towards the target one, by the step of each frame of a block.
+     *
+     * @param frames the number of frames of the block
+     */
+    private void rampVolume(final int frames) {
+        if (volume > targetVolume) {
+            volume = Math.max(targetVolume, volume - volumeStep * frames);
+        } else if (volume < targetVolume) {
+            volume = Math.min(targetVolume, volume + volumeStep * frames);
+        }
+    }
+
+    /**
+     * Private method to open the track and skip to a frame.
+     *
+     * @param frame the frame to start from
+     * @return true if the track is open, false if it cannot be read
+     */
+    private boolean open(final long frame) {
+        final InputStream is = StreamVoice.class.getResourceAsStream(filePath);
+        if (is == null) {
+            Logger.getLogger(StreamVoice.class.getName()).log(Level.SEVERE, "Resource not found: " + filePath);
+            broken = true;
+            return false;
+        }
+        try {
+            stream = PcmBuffer.convert(new BufferedInputStream(is));
+            channels = stream.getFormat().getChannels();
+            final long totalFrames = stream.getFrameLength();
+            loopEndFrame = totalFrames > 0 ? (long) (totalFrames * loopEnd) : Long.MAX_VALUE;
+            stream.skipNBytes(frame * channels * SAMPLE_BYTES);
+            position = frame;
+            return true;
+        } catch (UnsupportedAudioFileException | IOException e) {
+            Logger.getLogger(StreamVoice.class.getName())
+                    .log(Level.SEVERE, "Error streaming the audio file: " + filePath, e);
+            broken = true;
+            try {
+                is.close();
+            } catch (IOException closing) {
+                e.addSuppressed(closing);
+            }
+            stream = null;
+            return false;
+        }
+    }
+
+    /**
+     * Private method to read the next chunk of the track.
+     *
+     * @param wanted the number of frames wanted
+     * @return the number of frames read, 0 at the end of the track
+     */
+    private int readFrames(final int wanted) {
+        final int frameBytes = channels * SAMPLE_BYTES;
+        final int bytes = Math.min(wanted, chunk.length / frameBytes) * frameBytes;
+        try {
+            return stream.readNBytes(chunk, 0, bytes) / frameBytes;
+        } catch (IOException e) {
+            Logger.getLogger(StreamVoice.class.getName())
+                    .log(Level.SEVERE, "Error streaming the audio file: " + filePath, e);
+            broken = true;
+            release();
+            return 0;
+        }
+    }
+
+    /**
+     * Private method to add the frames read in the chunk to a block, ramping the gain along them;
+     * mono tracks are duplicated on both channels.
+     *
+     * @param block     the interleaved stereo samples being mixed
+     * @param offset    the first frame of the block to add to
+     * @param frames    the number of frames read
+     * @param startGain the gain of the first frame
+     * @param gainStep  the change of the gain at each frame
+     */
+    private void addFrames(final int[] block, final int offset, final int frames, final float startGain,
+                           final float gainStep) {
+        for (int frame = 0; frame < frames; frame++) {
+            final float gain = startGain + gainStep * frame;
+            for (int channel = 0; channel < MIXER_CHANNELS; channel++) {
+                final int index = (frame * channels + Math.min(channel, channels - 1)) * SAMPLE_BYTES;
+                final short sample = (short) (chunk[index] & BYTE_MASK | chunk[index + 1] << Byte.SIZE);
+                block[(offset + frame) * MIXER_CHANNELS + channel] += (int) (sample * gain);
+            }
+        }
+    }
+}
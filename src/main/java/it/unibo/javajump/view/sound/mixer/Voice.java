@@ -0,0 +1,76 @@
+package it.unibo.javajump.view.sound.mixer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A voice of the audio mixer, which plays one sound at a time. A free voice is claimed by the thread starting the
+ * sound, which sets it up and then publishes it as playing; from then on, only the mixer thread uses it, until it
+ * sets it free again when the sound is over.
+ */
+final class Voice {
+    /**
+     * The state of a voice that can be claimed.
+     */
+    static final int FREE = 0;
+    /**
+     * The state of a voice being set up by the thread that claimed it.
+     */
+    static final int CLAIMED = 1;
+    /**
+     * The state of a voice being mixed.
+     */
+    static final int PLAYING = 2;
+
+    private final AtomicInteger state = new AtomicInteger(FREE);
+    private PcmBuffer buffer;
+    private float gain;
+    private int position;
+
+    /**
+     * Claims the voice and starts a sound on it, if the voice is free.
+     *
+     * @param sound     the sound to play
+     * @param soundGain the linear gain of the sound
+     * @return true if the voice was free
+     */
+    boolean start(final PcmBuffer sound, final float soundGain) {
+        if (!state.compareAndSet(FREE, CLAIMED)) {
+            return false;
+        }
+        this.buffer = sound;
+        this.gain = soundGain;
+        this.position = 0;
+        state.set(PLAYING);
+        return true;
+    }
+
+    /**
+     * Checks if the voice is being mixed.
+     *
+     * @return true if the voice is playing a sound
+     */
+    boolean isPlaying() {
+        return state.get() == PLAYING;
+    }
+
+    /**
+     * Adds the next frames of the sound to a block, and frees the voice when the sound is over.
+     * It must only be called by the mixer thread, on a playing voice.
+     *
+     * @param block    the interleaved stereo samples being mixed
+     * @param frames   the number of frames of the block
+     * @param channels the number of channels of the block
+     */
+    void mixInto(final int[] block, final int frames, final int channels) {
+        final int count = Math.min(frames, buffer.getFrameCount() - position) * channels;
+        final int start = position * channels;
+        for (int i = 0; i < count; i++) {
+            block[i] += (int) (buffer.getSample(start + i) * gain);
+        }
+        position += count / channels;
+        if (position >= buffer.getFrameCount()) {
+            buffer = null;
+            state.set(FREE);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package it.unibo.javajump.view.sound.mixer;
+
+import static it.unibo.javajump.utility.Constants.DECIBELS_PER_DECADE;
+import static it.unibo.javajump.utility.Constants.VOLUME_MAX_DB;
+import static it.unibo.javajump.utility.Constants.VOLUME_MIN_DB;
+
+/**
+ * Utility class to convert the volumes used by the sound managers to the gains applied by the audio mixer.
+ */
+public final class VolumeUtils {
+
+    /**
+     * Converts a volume to a linear gain, mapping it linearly to the decibels between VOLUME_MIN_DB and
+     * VOLUME_MAX_DB, as the master gain control of a line does.
+     *
+     * @param volume the volume, from 0 to 1
+     * @return the linear gain
+     */
+    public static float toLinearGain(final float volume) {
+        final float dB = VOLUME_MIN_DB + (VOLUME_MAX_DB - VOLUME_MIN_DB) * volume;
+        return (float) Math.pow(10, dB / DECIBELS_PER_DECADE);
+    }
+
+    /**
+     * Private constructor for VolumeUtils, to avoid instantiation.
+     *
+     * @throws AssertionError when wrongly called.
+     */
+    private VolumeUtils() {
+        throw new AssertionError("This is a utility class, it should not be instantiated!");
+    }
+}
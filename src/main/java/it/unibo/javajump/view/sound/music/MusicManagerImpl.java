@@ -1,78 +1,48 @@
 package it.unibo.javajump.view.sound.music;
 
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-import java.io.BufferedInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import it.unibo.javajump.view.sound.mixer.AudioMixer;
+import it.unibo.javajump.view.sound.mixer.StreamVoice;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static it.unibo.javajump.utility.Constants.AUDIO_FRAME_INIT;
-import static it.unibo.javajump.utility.Constants.AUDIO_SLEEP;
-import static it.unibo.javajump.utility.Constants.AUDIO_STEPS;
 import static it.unibo.javajump.utility.Constants.MUSIC_LOOP_END;
 import static it.unibo.javajump.utility.Constants.MUSIC_LOOP_START;
 
 /**
- * The implementation of MusicManager interface.
+ * The implementation of MusicManager interface. The music is streamed by the shared audio mixer, a chunk at a time,
+ * so the track is never held in memory, and the fades are applied by the mixer thread.
  */
 public final class MusicManagerImpl implements MusicManager {
-    private Clip backgroundClip;
-    private FloatControl volumeControl;
-    private ScheduledExecutorService fadeExecutor;
-    private ScheduledFuture<?> fadeFuture;
+    private final AudioMixer mixer;
     private final float defaultVolume;
+    private StreamVoice music;
 
     /**
      * Instantiates a new Music manager.
      *
+     * @param mixer         the audio mixer streaming the music
      * @param filePath      the file path
      * @param defaultVolume the default volume
      */
-    public MusicManagerImpl(final String filePath, final float defaultVolume) {
+    public MusicManagerImpl(final AudioMixer mixer, final String filePath, final float defaultVolume) {
+        this.mixer = mixer;
         this.defaultVolume = defaultVolume;
-        initialize(filePath);
-        fadeExecutor = Executors.newSingleThreadScheduledExecutor();
-    }
-
-    private void initialize(final String filePath) {
         loadBackgroundMusic(filePath);
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} The track is only checked here, it is opened by the mixer when it starts playing.
      */
     @Override
     public void loadBackgroundMusic(final String filePath) {
-        final InputStream is = getClass().getResourceAsStream(filePath);
-        if (is == null) {
+        if (getClass().getResource(filePath) == null) {
             Logger.getLogger(MusicManagerImpl.class.getName())
                     .log(Level.SEVERE, "Resource not found: " + filePath);
             return;
         }
-        try (BufferedInputStream bis = new BufferedInputStream(is)) {
-            final AudioInputStream audioIn = AudioSystem.getAudioInputStream(bis);
-            backgroundClip = AudioSystem.getClip();
-            backgroundClip.open(audioIn);
-
-            if (backgroundClip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                volumeControl = (FloatControl) backgroundClip.getControl(FloatControl.Type.MASTER_GAIN);
-            } else {
-                volumeControl = null;
-            }
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            Logger.getLogger(MusicManagerImpl.class.getName())
-                    .log(Level.SEVERE, "Error loading audio file: " + filePath, e);
-        }
+        music = new StreamVoice(filePath, MUSIC_LOOP_START, MUSIC_LOOP_END);
+        mixer.setStream(music);
     }
 
     /**
@@ -80,20 +50,11 @@ public final class MusicManagerImpl implements MusicManager {
      */
     @Override
     public void startMusic() {
-        cancelFade();
-        if (backgroundClip == null) {
-            return;
-        }
-        if (backgroundClip.isRunning()) {
+        if (music == null || music.isPlaying()) {
             return;
         }
-
-        final int totalFrames = backgroundClip.getFrameLength();
-        final int loopEnd = (int) (totalFrames * MUSIC_LOOP_END);
-        backgroundClip.setLoopPoints(MUSIC_LOOP_START, loopEnd);
-        backgroundClip.loop(Clip.LOOP_CONTINUOUSLY);
         setVolume(defaultVolume);
-        backgroundClip.start();
+        music.play();
     }
 
     /**
@@ -101,10 +62,8 @@ public final class MusicManagerImpl implements MusicManager {
      */
     @Override
     public void stopMusic() {
-        cancelFade();
-        if (backgroundClip != null) {
-            backgroundClip.stop();
-            backgroundClip.setFramePosition(AUDIO_FRAME_INIT);
+        if (music != null) {
+            music.stop();
         }
     }
 
@@ -113,9 +72,8 @@ public final class MusicManagerImpl implements MusicManager {
      */
     @Override
     public void pauseMusic() {
-        cancelFade();
-        if (backgroundClip != null && backgroundClip.isRunning()) {
-            backgroundClip.stop();
+        if (music != null) {
+            music.pause();
         }
     }
 
@@ -124,10 +82,8 @@ public final class MusicManagerImpl implements MusicManager {
      */
     @Override
     public void resumeMusic() {
-        cancelFade();
-        if (backgroundClip != null && !backgroundClip.isRunning()) {
-            backgroundClip.loop(Clip.LOOP_CONTINUOUSLY);
-            backgroundClip.start();
+        if (music != null) {
+            music.play();
         }
     }
 
@@ -136,58 +92,19 @@ public final class MusicManagerImpl implements MusicManager {
      */
     @Override
     public void setVolume(final float vol) {
-        if (volumeControl == null) {
-            return;
+        if (music != null) {
+            music.setVolume(vol);
         }
-        final float min = volumeControl.getMinimum();
-        final float max = volumeControl.getMaximum();
-        final float dB = min + (max - min) * vol;
-        volumeControl.setValue(dB);
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} The volume is ramped down by the mixer along each block, then the music is stopped
+     * and the volume set back.
      */
     @Override
     public void fadeOut(final float durationSeconds) {
-        if (backgroundClip == null || volumeControl == null) {
-            return;
-        }
-        cancelFade();
-
-        if (fadeExecutor != null && !fadeExecutor.isShutdown()) {
-            fadeExecutor.shutdownNow();
-        }
-        fadeExecutor = Executors.newSingleThreadScheduledExecutor();
-
-        final int steps = AUDIO_STEPS;
-        final float initialVolume = volumeControl.getValue();
-        final float finalVolume = volumeControl.getMinimum();
-        final float delta = (initialVolume - finalVolume) / steps;
-        final long stepTimeMillis = (long) (durationSeconds * AUDIO_SLEEP / steps);
-
-        fadeFuture = fadeExecutor.scheduleAtFixedRate(new Runnable() {
-            private int currentStep;
-
-            @Override
-            public void run() {
-                if (currentStep >= steps) {
-                    stopMusic();
-                    setVolume(defaultVolume);
-                    fadeFuture.cancel(false);
-                    return;
-                }
-                final float newVolume = volumeControl.getValue() - delta;
-                volumeControl.setValue(newVolume);
-                currentStep++;
-            }
-
-        }, 0, stepTimeMillis, TimeUnit.MILLISECONDS);
-    }
-
-    private void cancelFade() {
-        if (fadeFuture != null && !fadeFuture.isDone()) {
-            fadeFuture.cancel(true);
+        if (music != null) {
+            music.fadeOut(durationSeconds);
         }
     }
 }
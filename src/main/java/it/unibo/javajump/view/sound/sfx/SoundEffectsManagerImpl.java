@@ -1,20 +1,14 @@
 package it.unibo.javajump.view.sound.sfx;
 
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.LineEvent;
-import javax.sound.sampled.LineListener;
-import javax.sound.sampled.LineUnavailableException;
+import it.unibo.javajump.view.sound.mixer.AudioMixer;
+import it.unibo.javajump.view.sound.mixer.PcmBuffer;
+
 import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,40 +16,31 @@ import static it.unibo.javajump.utility.Constants.RESOURCE_BOUNCE_SFX;
 import static it.unibo.javajump.utility.Constants.RESOURCE_BREAK_SFX;
 import static it.unibo.javajump.utility.Constants.RESOURCE_COIN_SFX;
 import static it.unibo.javajump.utility.Constants.RESOURCE_DEFAULT_SFX;
-import static it.unibo.javajump.utility.Constants.SOUNDS_POOL_SIZE_NUMBER;
+import static it.unibo.javajump.view.sound.mixer.VolumeUtils.toLinearGain;
 
 /**
- * The implementation of SoundEffectsManager interface.
+ * The implementation of SoundEffectsManager interface. Each sound is decoded once, and played on a voice
+ * of the shared audio mixer.
  */
 public final class SoundEffectsManagerImpl implements SoundEffectsManager {
-    private final float defaultVolume;
-    private final Map<SFXType, Queue<Clip>> clipPools = new EnumMap<>(SFXType.class);
-    private static final int POOL_SIZE = SOUNDS_POOL_SIZE_NUMBER;
+    private final AudioMixer mixer;
+    private final float gain;
+    private final Map<SFXType, PcmBuffer> buffers = new EnumMap<>(SFXType.class);
 
     /**
      * Instantiates a new Sound effects manager.
      *
-     * @param defaultVolume the default volume
+     * @param mixer         the audio mixer playing the sounds
+     * @param defaultVolume the default volume, from 0 to 1
      */
-    public SoundEffectsManagerImpl(final float defaultVolume) {
-        this.defaultVolume = defaultVolume;
+    public SoundEffectsManagerImpl(final AudioMixer mixer, final float defaultVolume) {
+        this.mixer = mixer;
+        this.gain = toLinearGain(defaultVolume);
 
         for (final SFXType type : SFXType.values()) {
-            final Queue<Clip> pool = new ConcurrentLinkedQueue<>();
-            for (int i = 0; i < POOL_SIZE; i++) {
-                final Clip clip = loadClip(getFilePathForType(type));
-                if (clip != null) {
-                    setVolumeForClip(clip, defaultVolume);
-                    if (!pool.offer(clip)) {
-                        throw new IllegalStateException("GameAction Queue is full, cannot add: " + clip);
-                    }
-                }
-            }
-            clipPools.put(type, pool);
-        }
-        for (final Queue<Clip> pool : clipPools.values()) {
-            for (final Clip clip : pool) {
-                setVolumeForClip(clip, defaultVolume);
+            final PcmBuffer buffer = loadBuffer(getFilePathForType(type));
+            if (buffer != null) {
+                buffers.put(type, buffer);
             }
         }
     }
@@ -69,7 +54,7 @@ public final class SoundEffectsManagerImpl implements SoundEffectsManager {
         };
     }
 
-    private Clip loadClip(final String filePath) {
+    private PcmBuffer loadBuffer(final String filePath) {
         final InputStream is = getClass().getResourceAsStream(filePath);
         if (is == null) {
             Logger.getLogger(SoundEffectsManagerImpl.class.getName())
@@ -77,62 +62,23 @@ public final class SoundEffectsManagerImpl implements SoundEffectsManager {
             return null;
         }
         try (BufferedInputStream bis = new BufferedInputStream(is)) {
-            final AudioInputStream audioIn = AudioSystem.getAudioInputStream(bis);
-            final Clip clip = AudioSystem.getClip();
-            clip.open(audioIn);
-            return clip;
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
+            return PcmBuffer.decode(bis);
+        } catch (UnsupportedAudioFileException | IOException e) {
             Logger.getLogger(SoundEffectsManagerImpl.class.getName())
                     .log(Level.SEVERE, "Error loading the audio file: " + filePath, e);
         }
         return null;
     }
 
-    private void setVolumeForClip(final Clip clip, final float defaultVolume) {
-        if (clip != null && clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-            final FloatControl control = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            final float min = control.getMinimum();
-            final float max = control.getMaximum();
-            final float dB = min + (max - min) * defaultVolume;
-            control.setValue(dB);
-        }
-    }
-
     /**
-     * {@inheritDoc} The implemented method loads all clips (if present in pool), sets their volume and plays them.
-     * If clip queue is full, the method returns an exception.
+     * {@inheritDoc} The implemented method plays the decoded sound on a free voice of the mixer;
+     * if every voice is busy, the sound is dropped.
      */
     @Override
     public void playSound(final SFXType type) {
-        final Queue<Clip> pool = clipPools.get(type);
-        if (pool == null) {
-            return;
-        }
-
-        Clip clip = pool.poll();
-        if (clip == null) {
-            clip = loadClip(getFilePathForType(type));
-            if (clip != null) {
-                setVolumeForClip(clip, defaultVolume);
-            }
-        }
-
-        if (clip != null) {
-            clip.setFramePosition(0);
-            final Clip finalClip = clip;
-            clip.addLineListener(new LineListener() {
-                @Override
-                public void update(final LineEvent event) {
-                    if (event.getType() == LineEvent.Type.STOP) {
-                        finalClip.removeLineListener(this);
-
-                        if (!pool.offer(finalClip)) {
-                            throw new IllegalStateException("SFX AudioPool Queue is full, cannot add: " + finalClip);
-                        }
-                    }
-                }
-            });
-            clip.start();
+        final PcmBuffer buffer = buffers.get(type);
+        if (buffer != null) {
+            mixer.play(buffer, gain);
         }
     }
 }
@@ -1,7 +1,8 @@
 package it.unibo.javajump.view.viewstates;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 import it.unibo.javajump.view.graphics.GameGraphics;
+import it.unibo.javajump.view.graphics.Texture;
 
 import java.awt.AlphaComposite;
 import java.awt.Color;
@@ -10,6 +11,7 @@ import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.util.function.Supplier;
 
 import static it.unibo.javajump.utility.Constants.BACKGROUND_DEFAULT_COLOR;
 import static it.unibo.javajump.utility.Constants.GAME_OVER_ALPHA;
@@ -47,17 +49,19 @@ public final class GameOverView implements GameViewState {
 
     private final Font gameFont2;
     private final Font gameFont3;
-    private final BufferedImage gameoverImage;
+    private final Supplier<Texture> gameoverSupplier;
+    private Texture gameover;
 
     /**
-     * Instantiates a new Game over view.
+     * Instantiates a new Game over view. The game over image is requested the first time it is drawn, and released
+     * when the fade is stopped, since it is only drawn during the game over.
      *
      * @param gameGraphics the game graphics
      */
     public GameOverView(final GameGraphics gameGraphics) {
         gameFont2 = gameGraphics.getGameFont2();
         gameFont3 = gameGraphics.getGameFont3();
-        gameoverImage = gameGraphics.getGameOver();
+        gameoverSupplier = gameGraphics::getGameOver;
     }
 
     @Override
@@ -71,6 +75,10 @@ public final class GameOverView implements GameViewState {
     public void stopFade() {
         this.fadeAlpha = GAME_OVER_ALPHA;
         this.fading = false;
+        if (gameover != null) {
+            gameover.release();
+            gameover = null;
+        }
     }
 
     @Override
@@ -86,13 +94,17 @@ public final class GameOverView implements GameViewState {
 
 
     @Override
-    public void draw(final Graphics g, final GameModel model) {
-        this.deltaTime = model.getDeltaTime();
+    public void draw(final Graphics g, final RenderSnapshot snapshot) {
+        this.deltaTime = snapshot.getDeltaTime();
+        if (gameover == null) {
+            gameover = gameoverSupplier.get();
+        }
+        final BufferedImage gameoverImage = gameover.getImage();
         if (g instanceof Graphics2D g2) {
             final Composite oldComposite = g2.getComposite();
 
-            final int w = model.getScreenWidth();
-            final int h = model.getScreenHeight();
+            final int w = snapshot.getScreenWidth();
+            final int h = snapshot.getScreenHeight();
 
             final int centerX = w / GAME_OVER_CENTER_DIV;
             final int centerY = h / GAME_OVER_CENTER_DIV;
@@ -108,21 +120,21 @@ public final class GameOverView implements GameViewState {
                     (int) (gameoverImage.getHeight() * GAME_OVER_IMG_SCALE_OFF), null);
 
             if (fadeAlpha >= GAME_OVER_ALPHA) {
-                if (model.getScoreManager().isBestScoreReached()) {
+                if (snapshot.isBestScoreReached()) {
                     g.setColor(Color.decode(GOLD_TEXT_COLOR));
                     g.setFont(gameFont2);
                     g.drawString(
-                            GAME_OVER_NEW_TEXT + model.getScoreManager().getBestScore() + GAME_OVER_NEW_TEXT_ESC,
+                            GAME_OVER_NEW_TEXT + snapshot.getBestScore() + GAME_OVER_NEW_TEXT_ESC,
                             (int) (centerX * GAME_OVER_TEXT_X_OFF), centerY + GAME_OVER_TEXT_NEW_Y_OFF);
                 } else {
                     g.setColor(Color.WHITE);
                     g.setFont(gameFont2);
-                    g.drawString(GAME_OVER_SCORE_TEXT + model.getScore(), (int) (centerX * GAME_OVER_TEXT_X_OFF),
+                    g.drawString(GAME_OVER_SCORE_TEXT + snapshot.getScore(), (int) (centerX * GAME_OVER_TEXT_X_OFF),
                             centerY + GAME_OVER_TEXT_SCORE_Y_OFF);
 
                     g.setColor(Color.decode(RED_TEXT_COLOR));
                     g.setFont(gameFont3);
-                    g.drawString(GAME_OVER_BEST_TEXT + model.getScoreManager().getBestScore(),
+                    g.drawString(GAME_OVER_BEST_TEXT + snapshot.getBestScore(),
                             (int) (centerX * GAME_OVER_TEXT_X_OFF), centerY + GAME_OVER_TEXT_BEST_Y_OFF);
                 }
 
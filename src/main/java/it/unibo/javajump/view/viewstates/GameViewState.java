@@ -1,6 +1,6 @@
 package it.unibo.javajump.view.viewstates;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 
 import java.awt.Graphics;
 
@@ -11,12 +11,12 @@ import java.awt.Graphics;
 public interface GameViewState {
 
     /**
-     * Draw.
+     * Draw, reading only the render snapshot, so that the model can be updated meanwhile.
      *
-     * @param g     the g
-     * @param model the model
+     * @param g        the g
+     * @param snapshot the last render snapshot published by the model
      */
-    void draw(Graphics g, GameModel model);
+    void draw(Graphics g, RenderSnapshot snapshot);
 
     /**
      * Start fade.
@@ -32,4 +32,21 @@ public interface GameViewState {
      * Stop fade.
      */
     void stopFade();
+
+    /**
+     * Sets the interpolation factor between the previous and the current simulation step,
+     * used by the views that draw moving game objects.
+     *
+     * @param alpha the fraction (0 to 1) of a simulation step elapsed since the last update
+     */
+    default void setInterpolationAlpha(float alpha) {
+    }
+
+    /**
+     * Shows or hides the performance overlay, used by the views that draw the gameplay.
+     *
+     * @param visible whether the overlay is drawn
+     */
+    default void setPerformanceOverlayVisible(boolean visible) {
+    }
 }
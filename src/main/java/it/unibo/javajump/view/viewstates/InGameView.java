@@ -1,17 +1,17 @@
 package it.unibo.javajump.view.viewstates;
 
-import it.unibo.javajump.model.GameModel;
-import it.unibo.javajump.model.entities.GameObject;
-import it.unibo.javajump.model.entities.collectibles.Coin;
-import it.unibo.javajump.model.entities.platforms.Platform;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javajump.model.entities.store.EntityType;
+import it.unibo.javajump.model.profiling.TickProfiler;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 import it.unibo.javajump.view.renderers.RenderManager;
 
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.util.ArrayList;
-import java.util.List;
 
 import static it.unibo.javajump.utility.Constants.GAMEPLAY_MESSAGE_TIME_TOGGLE;
+import static it.unibo.javajump.utility.Constants.INTERPOLATION_ALPHA_CURRENT;
+import static it.unibo.javajump.view.InterpolationUtils.interpolate;
 
 /**
  * The type In game view.
@@ -19,48 +19,57 @@ import static it.unibo.javajump.utility.Constants.GAMEPLAY_MESSAGE_TIME_TOGGLE;
 public final class InGameView implements GameViewState {
 
     private final RenderManager renderer;
+    private final TickProfiler profiler;
 
     private boolean showHighScoreMessage = true;
     private long lastToggleTime = System.currentTimeMillis();
+    private float interpolationAlpha = INTERPOLATION_ALPHA_CURRENT;
+    private volatile boolean performanceOverlay;
 
     /**
      * Instantiates a new In game view.
      *
      * @param renderer the renderer
+     * @param profiler the profiler of the model, whose stage times are shown by the performance overlay
      */
-    public InGameView(final RenderManager renderer) {
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The profiler is shared to read its stage times")
+    public InGameView(final RenderManager renderer, final TickProfiler profiler) {
         this.renderer = renderer;
+        this.profiler = profiler;
     }
 
+    /**
+     * {@inheritDoc}
+     * The performance overlay, if visible, is drawn over the score UI.
+     */
     @Override
-    public void draw(final Graphics g, final GameModel model) {
-
-        final List<GameObject> snapshot;
-        synchronized (model.getGameObjects()) {
-            snapshot = new ArrayList<>(model.getGameObjects());
-
-        }
+    public void draw(final Graphics g, final RenderSnapshot current) {
         if (g instanceof Graphics2D g2) {
 
 
-            final float deltaTime = model.getDeltaTime();
+            final float deltaTime = current.getDeltaTime();
 
-            renderer.drawBackground1(g2, model, deltaTime);
-            renderer.drawBackground2(g2, model, deltaTime);
+            renderer.drawBackground1(g2, current, deltaTime);
+            renderer.drawBackground2(g2, current, deltaTime);
 
-            final float cameraOffsetY = model.getCameraManager().getCurrentOffset();
+            final float alpha = interpolationAlpha;
+            final float cameraOffsetY = interpolate(current.getPreviousCameraOffset(),
+                    current.getCameraOffset(), alpha);
 
-            for (final GameObject obj : snapshot) {
-                if (obj instanceof Coin c) {
-                    renderer.drawCoin(g2, c, cameraOffsetY, deltaTime);
-                } else if (obj instanceof Platform p) {
-                    renderer.drawPlatform(g2, p, cameraOffsetY);
+            for (int i = 0; i < current.size(); i++) {
+                final EntityType type = current.getType(i);
+                if (type == EntityType.COIN) {
+                    renderer.drawCoin(g2, current, i, cameraOffsetY, alpha);
+                } else if (type != EntityType.CHARACTER) {
+                    renderer.drawPlatform(g2, current, i, cameraOffsetY, alpha);
                 }
 
             }
 
 
-            renderer.drawPlayer(g2, model.getPlayer(), cameraOffsetY, deltaTime);
+            if (current.hasPlayer()) {
+                renderer.drawPlayer(g2, current, cameraOffsetY, deltaTime, alpha);
+            }
 
 
             final long now = System.currentTimeMillis();
@@ -69,7 +78,10 @@ public final class InGameView implements GameViewState {
                 lastToggleTime = now;
             }
             final boolean isNewHighScore = false;
-            renderer.drawScoreUI(g2, model, isNewHighScore, showHighScoreMessage);
+            renderer.drawScoreUI(g2, current, isNewHighScore, showHighScoreMessage);
+            if (performanceOverlay) {
+                renderer.drawPerformanceOverlay(g2, current, profiler);
+            }
         }
     }
 
@@ -84,4 +96,14 @@ public final class InGameView implements GameViewState {
     @Override
     public void stopFade() {
     }
+
+    @Override
+    public void setInterpolationAlpha(final float alpha) {
+        this.interpolationAlpha = alpha;
+    }
+
+    @Override
+    public void setPerformanceOverlayVisible(final boolean visible) {
+        this.performanceOverlay = visible;
+    }
 }
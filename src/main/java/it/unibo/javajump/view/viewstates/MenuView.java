@@ -1,6 +1,6 @@
 package it.unibo.javajump.view.viewstates;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 import it.unibo.javajump.view.graphics.GameGraphics;
 
 import java.awt.BasicStroke;
@@ -56,19 +56,19 @@ public final class MenuView implements GameViewState {
     public MenuView(final GameGraphics graphics) {
         font1 = graphics.getGameFont1();
         font2 = graphics.getGameFont2();
-        title = graphics.getTitle();
+        title = graphics.getTitle().getImage();
     }
 
     @Override
-    public void draw(final Graphics g, final GameModel model) {
+    public void draw(final Graphics g, final RenderSnapshot snapshot) {
 
-        final int width = model.getScreenWidth();
-        final int height = model.getScreenHeight();
+        final int width = snapshot.getScreenWidth();
+        final int height = snapshot.getScreenHeight();
 
         final int centerX = width / MENU_VIEW_CENTER_DIV;
         final int centerY = height / MENU_VIEW_CENTER_DIV;
 
-        final int bestScore = model.getScoreManager().getBestScore();
+        final int bestScore = snapshot.getBestScore();
 
         g.setColor(Color.decode(BACKGROUND_DEFAULT_COLOR));
         g.fillRect(MENU_VIEW_RECT_X, MENU_VIEW_RECT_Y, width, height);
@@ -1,8 +1,7 @@
 package it.unibo.javajump.view.viewstates;
 
-import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
 import it.unibo.javajump.model.states.pause.PauseOption;
-import it.unibo.javajump.model.states.pause.PauseState;
 import it.unibo.javajump.view.graphics.GameGraphics;
 
 import java.awt.Color;
@@ -41,9 +40,8 @@ public final class PauseView implements GameViewState {
     }
 
     @Override
-    public void draw(final Graphics g, final GameModel model) {
-        final PauseState pauseState = (PauseState) model.getCurrentState();
-        final PauseOption selection = pauseState.getSelection();
+    public void draw(final Graphics g, final RenderSnapshot snapshot) {
+        final PauseOption selection = snapshot.getPauseSelection();
 
         int selectionYcor = PAUSE_CONTINUE_Y;
         // CHECKSTYLE: MissingSwitchDefault OFF
@@ -56,23 +54,23 @@ public final class PauseView implements GameViewState {
         // CHECKSTYLE: MissingSwitchDefault ON
 
         g.setColor(Color.decode(BACKGROUND_DEFAULT_COLOR));
-        g.fillRect(0, 0, model.getScreenWidth(), model.getScreenHeight());
+        g.fillRect(0, 0, snapshot.getScreenWidth(), snapshot.getScreenHeight());
 
         g.setColor(Color.decode(GOLD_TEXT_COLOR));
         g.setFont(font1);
-        g.drawString(PAUSE_TEXT, model.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
-                model.getScreenHeight() / PAUSE_CENTER_DIV);
+        g.drawString(PAUSE_TEXT, snapshot.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
+                snapshot.getScreenHeight() / PAUSE_CENTER_DIV);
         g.setColor(Color.WHITE);
         g.setFont(font2);
-        g.drawString(PAUSE_CONTINUE_TEXT, model.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
-                model.getScreenHeight() / PAUSE_CENTER_DIV + PAUSE_CONTINUE_Y);
-        g.drawString(PAUSE_MAIN_MENU_TEXT, model.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
-                model.getScreenHeight() / PAUSE_CENTER_DIV + PAUSE_MAIN_MENU_Y);
-        g.drawString(PAUSE_QUIT_TEXT, model.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
-                model.getScreenHeight() / PAUSE_CENTER_DIV + PAUSE_QUIT_Y);
+        g.drawString(PAUSE_CONTINUE_TEXT, snapshot.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
+                snapshot.getScreenHeight() / PAUSE_CENTER_DIV + PAUSE_CONTINUE_Y);
+        g.drawString(PAUSE_MAIN_MENU_TEXT, snapshot.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
+                snapshot.getScreenHeight() / PAUSE_CENTER_DIV + PAUSE_MAIN_MENU_Y);
+        g.drawString(PAUSE_QUIT_TEXT, snapshot.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF,
+                snapshot.getScreenHeight() / PAUSE_CENTER_DIV + PAUSE_QUIT_Y);
         g.drawString(PAUSE_SELECTION_TEXT,
-                model.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF - PAUSE_SELECTION_X,
-                model.getScreenHeight() / PAUSE_CENTER_DIV + selectionYcor);
+                snapshot.getScreenWidth() / PAUSE_CENTER_DIV - PAUSE_WIDTH_OFF - PAUSE_SELECTION_X,
+                snapshot.getScreenHeight() / PAUSE_CENTER_DIV + selectionYcor);
     }
 
     @Override
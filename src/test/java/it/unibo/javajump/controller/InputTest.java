@@ -1,16 +1,30 @@
 package it.unibo.javajump.controller;
 
 import it.unibo.javajump.controller.input.GameAction;
+import it.unibo.javajump.controller.input.InputLog;
+import it.unibo.javajump.controller.input.InputLogImpl;
+import it.unibo.javajump.controller.input.InputManager;
 import it.unibo.javajump.controller.input.InputManagerImpl;
+import it.unibo.javajump.controller.input.RecordingInputManager;
+import it.unibo.javajump.controller.input.ReplayInputManager;
 import it.unibo.javajump.utility.Constants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.swing.JTextField;
 import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
+import static it.unibo.javajump.utility.TestConstants.DELTA_TIME;
 import static it.unibo.javajump.utility.TestConstants.KEY_EVENT_MODIFIER;
+import static it.unibo.javajump.utility.TestConstants.RANDOM_SEED;
+import static it.unibo.javajump.utility.TestConstants.SCREEN_HEIGHT;
+import static it.unibo.javajump.utility.TestConstants.SCREEN_WIDTH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InputTest {
 
@@ -107,4 +121,35 @@ class InputTest {
         final GameAction action = inputManager.getAction();
         assertEquals(GameAction.PAUSE_GAME, action);
     }
+
+    @Test
+    void testRecordedInputIsReplayed() throws IOException {
+        final InputLog log = new InputLogImpl(RANDOM_SEED, SCREEN_WIDTH, SCREEN_HEIGHT, DELTA_TIME);
+        final InputManager recorder = new RecordingInputManager(inputManager, log);
+        recorder.keyPressed(new KeyEvent(testComponent, KeyEvent.KEY_PRESSED,
+                System.currentTimeMillis(), KEY_EVENT_MODIFIER, KeyEvent.VK_ENTER, ' '));
+        assertEquals(GameAction.CONFIRM_SELECTION, recorder.getAction());
+        assertNull(recorder.getAction());
+        assertEquals(Constants.NULL_DIRECTION, recorder.getHorizontalDirection());
+        recorder.keyPressed(new KeyEvent(testComponent, KeyEvent.KEY_PRESSED,
+                System.currentTimeMillis(), KEY_EVENT_MODIFIER, KeyEvent.VK_RIGHT, ' '));
+        assertEquals(Constants.RIGHT_DIRECTION, recorder.getHorizontalDirection());
+        assertEquals(Constants.RIGHT_DIRECTION, recorder.getHorizontalDirection());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+        final InputLog read = InputLogImpl.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(RANDOM_SEED, read.getSeed());
+        assertEquals(log.getTicks(), read.getTicks());
+        assertEquals(2, read.getEventCount(), "Only the action and the change of direction should be recorded");
+
+        final ReplayInputManager replay = new ReplayInputManager(read);
+        assertEquals(GameAction.CONFIRM_SELECTION, replay.getAction());
+        assertNull(replay.getAction());
+        assertEquals(Constants.NULL_DIRECTION, replay.getHorizontalDirection());
+        assertNull(replay.getAction());
+        assertEquals(Constants.RIGHT_DIRECTION, replay.getHorizontalDirection());
+        assertEquals(Constants.RIGHT_DIRECTION, replay.getHorizontalDirection());
+        assertTrue(replay.isFinished());
+    }
 }
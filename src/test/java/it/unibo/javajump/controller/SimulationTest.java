@@ -0,0 +1,87 @@
+package it.unibo.javajump.controller;
+
+import it.unibo.javajump.controller.input.AutopilotInputManager;
+import it.unibo.javajump.controller.input.GameAction;
+import it.unibo.javajump.controller.input.InputLog;
+import it.unibo.javajump.controller.input.InputLogImpl;
+import it.unibo.javajump.controller.simulation.HeadlessSimulation;
+import it.unibo.javajump.controller.simulation.HeadlessSimulationImpl;
+import it.unibo.javajump.controller.simulation.ReplaySimulationImpl;
+import it.unibo.javajump.controller.simulation.SimulationReport;
+import it.unibo.javajump.model.GameModel;
+import it.unibo.javajump.model.GameModelImpl;
+import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.entities.platforms.Platform;
+import it.unibo.javajump.model.states.GameState;
+import it.unibo.javajump.utility.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static it.unibo.javajump.utility.TestConstants.DELTA_TIME;
+import static it.unibo.javajump.utility.TestConstants.RANDOM_SEED;
+import static it.unibo.javajump.utility.TestConstants.REPLAY_LEFT_TICK;
+import static it.unibo.javajump.utility.TestConstants.REPLAY_RIGHT_TICK;
+import static it.unibo.javajump.utility.TestConstants.SCREEN_HEIGHT;
+import static it.unibo.javajump.utility.TestConstants.SCREEN_WIDTH;
+import static it.unibo.javajump.utility.TestConstants.SIMULATION_TICKS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The headless simulation test.
+ */
+class SimulationTest {
+
+    private GameModel model;
+    private AutopilotInputManager autopilot;
+
+    @BeforeEach
+    void setUp() {
+        model = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT);
+        autopilot = new AutopilotInputManager(model);
+    }
+
+    @Test
+    void testRunStopsAtGameOverOrMaxTicks() {
+        final HeadlessSimulation simulation = new HeadlessSimulationImpl(model, autopilot, DELTA_TIME);
+        final SimulationReport report = simulation.run(SIMULATION_TICKS);
+        assertTrue(report.getTicks() > 0, "Simulation should advance the model");
+        assertTrue(report.isGameOver() || report.getTicks() == SIMULATION_TICKS,
+                "Simulation should only stop early on game over");
+        assertEquals(model.getScore(), report.getScore(), "Report should contain the reached score");
+    }
+
+    @Test
+    void testAutopilotSteersTowardReachablePlatform() {
+        model.startGame();
+        final Character player = model.getPlayer();
+        model.getGameObjects().removeIf(go -> go != player);
+        final Platform platform = model.getSpawnManager().getFactory()
+                .createStandardPlatform(player.getX() + player.getWidth() + player.getWidth(), player.getY());
+        model.getGameObjects().add(platform);
+        player.setVelocityY(-player.getJumpForce());
+        assertEquals(Constants.RIGHT_DIRECTION, autopilot.getHorizontalDirection(),
+                "Autopilot should steer toward the platform");
+    }
+
+    @Test
+    void testReplayReproducesSession() {
+        final InputLog log = new InputLogImpl(RANDOM_SEED, SCREEN_WIDTH, SCREEN_HEIGHT, DELTA_TIME);
+        log.addAction(0, GameAction.CONFIRM_SELECTION);
+        log.addDirection(REPLAY_RIGHT_TICK, Constants.RIGHT_DIRECTION);
+        log.addDirection(REPLAY_LEFT_TICK, Constants.LEFT_DIRECTION);
+        log.setTicks(SIMULATION_TICKS);
+
+        final SimulationReport first = new ReplaySimulationImpl(model, log).run(Long.MAX_VALUE);
+        final GameModel other = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT);
+        final SimulationReport second = new ReplaySimulationImpl(other, log).run(Long.MAX_VALUE);
+
+        assertNotEquals(GameState.MENU, model.getCurrentState().getGameState(), "The replay should start the game");
+        assertEquals(RANDOM_SEED, model.getRandomService().getSeed(), "The replay should use the recorded seed");
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(model.getPlayer().getX(), other.getPlayer().getX(), "Replays should end in the same state");
+        assertEquals(model.getPlayer().getY(), other.getPlayer().getY(), "Replays should end in the same state");
+    }
+}
@@ -4,6 +4,7 @@ import it.unibo.javajump.model.states.ingame.InGameState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static it.unibo.javajump.utility.Constants.INTERPOLATION_ALPHA_CURRENT;
 import static it.unibo.javajump.utility.Constants.OFFSET_INIT;
 import static it.unibo.javajump.utility.Constants.SCREEN_HEIGHT;
 import static it.unibo.javajump.utility.Constants.SCREEN_WIDTH;
@@ -74,6 +75,23 @@ class CameraTest {
                 "Camera offset should not increase when the player moves down.");
     }
 
+    /**
+     * Tests that the interpolated offset lies between the previous and the current offset.
+     */
+    @Test
+    void testInterpolatedOffset() {
+        final float initialOffset = model.getCameraManager().getCurrentOffset();
+        model.getPlayer().setY(initialOffset - CAMERA_INCREASING_OFFSET);
+        model.getCameraManager().updateCamera(model, DELTA_TIME);
+
+        final float currentOffset = model.getCameraManager().getCurrentOffset();
+        assertEquals(currentOffset, model.getCameraManager().getInterpolatedOffset(INTERPOLATION_ALPHA_CURRENT),
+                "Interpolated offset with alpha 1 should be the current offset.");
+        final float halfway = model.getCameraManager().getInterpolatedOffset(INTERPOLATION_ALPHA_CURRENT / DIV_TO_CENTER);
+        assertTrue(halfway > currentOffset && halfway < initialOffset,
+                "Interpolated offset should lie between the previous and the current offset.");
+    }
+
     /**
      * Tests the correct resetting of camera.
      */
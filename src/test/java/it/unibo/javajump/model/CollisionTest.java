@@ -3,7 +3,9 @@ package it.unibo.javajump.model;
 import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.collectibles.Coin;
 import it.unibo.javajump.model.entities.collectibles.CoinState;
+import it.unibo.javajump.model.entities.platforms.BreakablePlatform;
 import it.unibo.javajump.model.entities.platforms.Platform;
+import it.unibo.javajump.model.snapshot.RenderEvent;
 import it.unibo.javajump.model.states.ingame.InGameState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 
+import static it.unibo.javajump.utility.Constants.COIN_COLLECT_DURATION;
 import static it.unibo.javajump.utility.Constants.SCREEN_HEIGHT;
 import static it.unibo.javajump.utility.Constants.SCREEN_WIDTH;
 import static it.unibo.javajump.utility.TestConstants.COUNTER_START;
@@ -19,6 +22,7 @@ import static it.unibo.javajump.utility.TestConstants.DIV_TO_CENTER;
 import static it.unibo.javajump.utility.TestConstants.MAX_COUNT_PLATFORM;
 import static it.unibo.javajump.utility.TestConstants.PLATFORM_OFFSET;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -51,9 +55,17 @@ class CollisionTest {
         model.getPlayer().setX(x);
         final Coin coin = model.getSpawnManager().getFactory().createCoin(x, y);
         model.getGameObjects().add(coin);
+        model.getEntityIndex().sync(model.getGameObjects());
+        final long collected = model.getRenderSnapshot().getEventCount(RenderEvent.COIN_COLLECTED);
         model.update(DELTA_TIME);
 
         assertEquals(CoinState.COLLECTING, coin.getState(), "Coin State should be COLLECTING.");
+        assertTrue(model.getRenderSnapshot().getEventCount(RenderEvent.COIN_COLLECTED) > collected,
+                "Collecting the coin should be published to the view.");
+        for (float t = 0; t < COIN_COLLECT_DURATION; t += DELTA_TIME) {
+            model.update(DELTA_TIME);
+        }
+        assertEquals(CoinState.FINISHED, coin.getState(), "Coin should be finished by the model after its animation.");
     }
 
     /**
@@ -72,11 +84,40 @@ class CollisionTest {
         final Platform platform = model.getSpawnManager().getFactory().createStandardPlatform(model.getPlayer().getX(),
                 model.getPlayer().getY() + PLATFORM_OFFSET);
         model.getGameObjects().add(platform);
+        model.getEntityIndex().sync(model.getGameObjects());
         while (!model.getPlayer().isOnPlatform() && counter < MAX_COUNT_PLATFORM) {
             model.update(DELTA_TIME);
             counter++;
         }
-        assertTrue(platform.consumeTouched(), "Platform Should consume touched .");
+        assertTrue(model.getRenderSnapshot().getEventCount(RenderEvent.PLATFORM_TOUCHED) > 0,
+                "Touching the platform should be published to the view.");
     }
 
+    /**
+     * Tests that a breakable platform is broken and finished by the model, whatever snapshots are published.
+     */
+    @Test
+    void testBreakablePlatform() {
+        int counter = COUNTER_START;
+        model.getGameObjects().removeIf(go -> go instanceof Platform);
+        final BreakablePlatform platform = (BreakablePlatform) model.getSpawnManager().getFactory()
+                .createBreakablePlatform(model.getPlayer().getX(), model.getPlayer().getY() + PLATFORM_OFFSET);
+        model.getGameObjects().add(platform);
+        model.getEntityIndex().sync(model.getGameObjects());
+        while (!platform.isBroken() && counter < MAX_COUNT_PLATFORM) {
+            model.update(DELTA_TIME);
+            counter++;
+        }
+        final long broken = model.getRenderSnapshot().getEventCount(RenderEvent.BREAKABLE_PLATFORM_BROKEN);
+        assertEquals(1, broken, "Breaking the platform should be published to the view.");
+        model.publishRenderSnapshot();
+        model.publishRenderSnapshot();
+        assertFalse(platform.isFinished(), "Publishing snapshots should not change the model.");
+        assertEquals(broken, model.getRenderSnapshot().getEventCount(RenderEvent.BREAKABLE_PLATFORM_BROKEN),
+                "Publishing snapshots should not count events again.");
+
+        model.update(DELTA_TIME);
+        assertTrue(platform.isFinished(), "The platform should be finished at the step after breaking.");
+        assertFalse(model.getGameObjects().contains(platform), "A finished platform should be removed.");
+    }
 }
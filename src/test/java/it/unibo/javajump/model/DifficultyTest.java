@@ -5,6 +5,7 @@ import it.unibo.javajump.model.states.ingame.InGameState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static it.unibo.javajump.utility.Constants.DIFFICULTY_PREFETCH_MARGIN;
 import static it.unibo.javajump.utility.Constants.HARD_MAX;
 import static it.unibo.javajump.utility.Constants.HELL_MAX;
 import static it.unibo.javajump.utility.Constants.MEDIUM_MAX;
@@ -56,4 +57,17 @@ class DifficultyTest {
 
     }
 
+    /**
+     * Tests that the next difficulty is upcoming when the score is near its threshold.
+     */
+    @Test
+    void testUpcomingDifficulty() {
+        model.update(DELTA_TIME);
+        assertEquals(DifficultyState.EASY, model.getDifficultyManager().getUpcomingDifficulty(),
+                "Upcoming difficulty should be EASY.");
+        model.getScoreManager().addPoints(HARD_MAX - DIFFICULTY_PREFETCH_MARGIN);
+        model.update(DELTA_TIME);
+        assertEquals(DifficultyState.HARD, model.getDifficultyManager().getUpcomingDifficulty(),
+                "Upcoming difficulty should be HARD");
+    }
 }
@@ -1,20 +1,48 @@
 package it.unibo.javajump.model;
 
 import it.unibo.javajump.controller.input.GameAction;
+import it.unibo.javajump.model.entities.GameObject;
 import it.unibo.javajump.model.entities.character.Character;
+import it.unibo.javajump.model.entities.collectibles.Coin;
+import it.unibo.javajump.model.entities.collectibles.CoinState;
+import it.unibo.javajump.model.entities.store.EntityIndex;
+import it.unibo.javajump.model.entities.store.EntityIndexImpl;
+import it.unibo.javajump.model.entities.platforms.BreakablePlatform;
+import it.unibo.javajump.model.entities.platforms.Platform;
+import it.unibo.javajump.model.entities.store.EntityType;
+import it.unibo.javajump.model.factories.GameObjectFactory;
+import it.unibo.javajump.model.factories.GameObjectFactoryImpl;
+import it.unibo.javajump.model.level.CleanupManagerImpl;
+import it.unibo.javajump.model.profiling.TickProfilerImpl;
+import it.unibo.javajump.model.random.RandomServiceImpl;
+import it.unibo.javajump.model.snapshot.RenderSnapshot;
+import it.unibo.javajump.model.states.GameState;
 import it.unibo.javajump.model.states.GameStateHandler;
+import it.unibo.javajump.model.states.gameover.GameOverState;
+import it.unibo.javajump.model.states.ingame.InGameState;
 import it.unibo.javajump.model.states.menu.MenuState;
+import it.unibo.javajump.model.states.pause.PauseOption;
+import it.unibo.javajump.model.states.pause.PauseState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static it.unibo.javajump.utility.Constants.CULLING_MARGIN;
 import static it.unibo.javajump.utility.TestConstants.DELTA_TIME;
+import static it.unibo.javajump.utility.TestConstants.SIMULATION_TICKS;
+import static it.unibo.javajump.utility.TestConstants.RANDOM_SEED;
 import static it.unibo.javajump.utility.TestConstants.SCORE_POINTS;
 import static it.unibo.javajump.utility.TestConstants.SCREEN_HEIGHT;
 import static it.unibo.javajump.utility.TestConstants.SCREEN_WIDTH;
 import static it.unibo.javajump.utility.TestConstants.STARTING_SCORE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -87,6 +115,209 @@ class ModelTest {
         assertEquals(STARTING_SCORE, gameModel.getScore(), "Score should reset to zero");
     }
 
+    /**
+     * Tests that the entity index, kept up to date by the spawning and the cleanup, matches the level after the
+     * character has climbed through several batches.
+     */
+    @Test
+    void testEntityIndexFollowsTheLevel() {
+        gameModel.startGame();
+        gameModel.setState(new InGameState());
+        final EntityIndex index = gameModel.getEntityIndex();
+        final GameObject bottom = index.get(index.size() - 1);
+        for (int i = 0; i < SIMULATION_TICKS; i++) {
+            gameModel.getPlayer().setVelocityY(-gameModel.getPlayer().getJumpForce());
+            gameModel.update(DELTA_TIME);
+        }
+        final EntityIndex rebuilt = new EntityIndexImpl();
+        rebuilt.sync(gameModel.getGameObjects());
+        assertFalse(gameModel.getGameObjects().contains(bottom), "The level should have been cleaned up");
+        assertEquals(rebuilt.size(), index.size(), "Index should contain all but the player");
+        for (int i = 0; i < index.size(); i++) {
+            assertTrue(gameModel.getGameObjects().contains(index.get(i)), "Index should only contain the level");
+            assertEquals(rebuilt.get(i).getY(), index.get(i).getY(), "Index should be ordered by y");
+        }
+    }
+
+    /**
+     * Tests that the entity index orders the objects by y and only returns the ones inside a window.
+     */
+    @Test
+    void testEntityIndexWindowQuery() {
+        gameModel.startGame();
+        final EntityIndex index = gameModel.getEntityIndex();
+        assertEquals(gameModel.getGameObjects().size() - 1, index.size(), "Index should contain all but the player");
+        for (int i = 1; i < index.size(); i++) {
+            assertTrue(index.get(i - 1).getY() <= index.get(i).getY(), "Index should be ordered by y");
+        }
+        final List<GameObject> visible = new ArrayList<>();
+        final int end = index.rangeEnd(SCREEN_HEIGHT);
+        for (int i = index.rangeStart(0); i < end; i++) {
+            visible.add(index.get(i));
+        }
+        for (final GameObject go : gameModel.getGameObjects()) {
+            final boolean overlaps = go.getY() <= SCREEN_HEIGHT && go.getY() + go.getHeight() >= 0;
+            if (overlaps && go != gameModel.getPlayer()) {
+                assertTrue(visible.contains(go), "Objects inside the window should be returned");
+            }
+        }
+        for (final GameObject go : visible) {
+            assertTrue(go.getY() <= SCREEN_HEIGHT, "Objects below the window should not be returned");
+        }
+    }
+
+    /**
+     * Tests that every step publishes a render snapshot, that stays the same until a new one is published.
+     */
+    @Test
+    void testRenderSnapshotPublishing() {
+        gameModel.startGame();
+        gameModel.setState(new InGameState());
+        gameModel.update(DELTA_TIME);
+        final RenderSnapshot snapshot = gameModel.getRenderSnapshot();
+        assertTrue(snapshot.hasPlayer(), "Snapshot should contain the player");
+        assertEquals(gameModel.getPlayer().getY(), snapshot.getPlayerY(), "Snapshot should copy the player position");
+        assertEquals(gameModel.getScore(), snapshot.getScore(), "Snapshot should copy the score");
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertTrue(snapshot.getY(i) <= gameModel.getCameraManager().getCurrentOffset() + SCREEN_HEIGHT
+                    + CULLING_MARGIN, "Snapshot should only contain the objects near the camera");
+        }
+        assertSame(snapshot, gameModel.getRenderSnapshot(), "Snapshot should not change until the next publish");
+
+        final long tick = snapshot.getTick();
+        gameModel.update(DELTA_TIME);
+        assertEquals(tick + 1, gameModel.getRenderSnapshot().getTick(), "Each step should publish a new snapshot");
+    }
+
+    /**
+     * Tests that a snapshot is published in every state, with what the menus draw.
+     */
+    @Test
+    void testSnapshotOfEveryState() {
+        gameModel.update(DELTA_TIME);
+        assertEquals(GameState.MENU, gameModel.getRenderSnapshot().getGameState(), "The menu should be published");
+        assertNull(gameModel.getRenderSnapshot().getPauseSelection(), "The menu should have no pause selection");
+
+        gameModel.startGame();
+        gameModel.setState(new PauseState());
+        gameModel.handleAction(GameAction.MOVE_MENU_DOWN);
+        gameModel.update(DELTA_TIME);
+        RenderSnapshot snapshot = gameModel.getRenderSnapshot();
+        assertEquals(GameState.PAUSE, snapshot.getGameState(), "The pause should be published");
+        assertEquals(PauseOption.MAIN_MENU, snapshot.getPauseSelection(), "The pause selection should be copied");
+
+        gameModel.getScoreManager().addPoints(SCORE_POINTS);
+        gameModel.setState(new GameOverState());
+        gameModel.update(DELTA_TIME);
+        snapshot = gameModel.getRenderSnapshot();
+        assertEquals(GameState.GAME_OVER, snapshot.getGameState(), "The game over should be published");
+        assertEquals(gameModel.getScore(), snapshot.getScore(), "The score should be copied");
+        assertEquals(gameModel.getScoreManager().getBestScore(), snapshot.getBestScore(),
+                "The best score should be copied");
+        assertTrue(snapshot.isBestScoreReached(), "The new record should be copied");
+    }
+
+    /**
+     * Tests that restarting the game reuses the objects recycled by the factory.
+     */
+    @Test
+    void testRestartReusesPooledObjects() {
+        gameModel.startGame();
+        // waits for the batch generated ahead of time, so that its objects are counted
+        gameModel.getSpawnManager().reset();
+        final GameObjectFactory factory = gameModel.getSpawnManager().getFactory();
+        final long created = factory.getCreatedCount();
+        gameModel.startGame();
+        assertTrue(factory.getReusedCount() > 0, "Restart should reuse recycled objects");
+        assertTrue(factory.getCreatedCount() - created < created, "Restart should allocate fewer objects");
+        for (final GameObject go : gameModel.getGameObjects()) {
+            if (go instanceof BreakablePlatform bp) {
+                assertFalse(bp.isBroken(), "Reused breakable platforms should not be broken");
+            }
+        }
+    }
+
+    /**
+     * Tests that the animation state of a coin lives in the coin, and is reclaimed with it when it is recycled.
+     */
+    @Test
+    void testRecycledCoinRestartsAnimation() {
+        final GameObjectFactory factory = new GameObjectFactoryImpl();
+        final Coin coin = factory.createCoin(0, 0);
+        coin.update(DELTA_TIME);
+        assertTrue(coin.getStateTime() > 0, "Idle coins should advance their animation");
+        coin.collect();
+        coin.update(DELTA_TIME);
+        factory.recycle(coin);
+
+        final Coin reused = factory.createCoin(0, 0);
+        assertSame(coin, reused, "Recycled coin should be reused");
+        assertEquals(CoinState.IDLE, reused.getState(), "Reused coin should be idle");
+        assertEquals(0, reused.getStateTime(), "Reused coin should restart its animation");
+    }
+
+    /**
+     * Tests that the cleanup removes the objects below the screen in place, keeping the order of the others.
+     */
+    @Test
+    void testCleanupCompactsInPlace() {
+        gameModel.startGame();
+        final List<GameObject> objects = gameModel.getGameObjects();
+        final GameObjectFactory factory = gameModel.getSpawnManager().getFactory();
+        final Platform below = factory.createStandardPlatform(0, SCREEN_HEIGHT + SCREEN_HEIGHT);
+        final Coin coin = factory.createCoin(0, 0);
+        coin.attachToPlatform(below);
+        objects.add(0, below);
+        objects.add(coin);
+        final List<GameObject> expected = new ArrayList<>(objects.subList(1, objects.size()));
+        final List<GameObject> removed = new ArrayList<>();
+
+        new CleanupManagerImpl(removed::add).cleanupObjects(gameModel);
+
+        assertEquals(expected, objects, "Cleanup should only remove the objects below the screen, keeping the order");
+        assertEquals(List.of(below), removed, "Removed objects should be passed to the callback");
+        assertNull(coin.getAttachedPlatform(), "Coin should be detached from the removed platform");
+    }
+
+    /**
+     * Tests that two models started with the same seed generate the same level, including the batches generated
+     * ahead of time, and keep doing so in later runs.
+     */
+    @Test
+    void testSeededLevelIsReproducible() {
+        final GameModel first = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT,
+                new TickProfilerImpl(false), new RandomServiceImpl(RANDOM_SEED));
+        final GameModel second = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT,
+                new TickProfilerImpl(false), new RandomServiceImpl(RANDOM_SEED));
+        for (int run = 0; run < 2; run++) {
+            first.startGame();
+            second.startGame();
+            assertEquals(first.getRandomService().getSeed(), second.getRandomService().getSeed(),
+                    "Runs should be seeded alike");
+            // moves the players above the top platform, so that the batch generated ahead of time is added
+            first.getPlayer().setY(-Float.MAX_VALUE);
+            second.getPlayer().setY(-Float.MAX_VALUE);
+            first.getSpawnManager().generateOnTheFly(first);
+            second.getSpawnManager().generateOnTheFly(second);
+            assertEquals(describe(first), describe(second), "Levels with the same seed should be equal");
+        }
+        assertEquals(RANDOM_SEED, new RandomServiceImpl(RANDOM_SEED).getSeed(), "The first run uses the given seed");
+    }
+
+    /**
+     * Describes the type, position and size of every GameObject of a model.
+     *
+     * @param model the model
+     * @return the description of the level
+     */
+    private static List<String> describe(final GameModel model) {
+        final List<String> level = new ArrayList<>();
+        for (final GameObject go : model.getGameObjects()) {
+            level.add(EntityType.of(go) + " " + go.getX() + " " + go.getY() + " " + go.getWidth());
+        }
+        return level;
+    }
+
     /**
      * Tests the correct sending of observer notifications.
      */
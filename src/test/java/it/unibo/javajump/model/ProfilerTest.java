@@ -0,0 +1,77 @@
+package it.unibo.javajump.model;
+
+import it.unibo.javajump.model.profiling.ProfiledStage;
+import it.unibo.javajump.model.profiling.StageHistogram;
+import it.unibo.javajump.model.profiling.StageHistogramImpl;
+import it.unibo.javajump.model.profiling.TickProfilerImpl;
+import it.unibo.javajump.model.states.ingame.InGameState;
+import org.junit.jupiter.api.Test;
+
+import static it.unibo.javajump.utility.Constants.PROFILER_P50;
+import static it.unibo.javajump.utility.Constants.PROFILER_P99;
+import static it.unibo.javajump.utility.TestConstants.DELTA_TIME;
+import static it.unibo.javajump.utility.TestConstants.HISTOGRAM_MAX_ERROR;
+import static it.unibo.javajump.utility.TestConstants.HISTOGRAM_SAMPLES;
+import static it.unibo.javajump.utility.TestConstants.PERCENT;
+import static it.unibo.javajump.utility.TestConstants.PROFILED_STEPS;
+import static it.unibo.javajump.utility.TestConstants.SCREEN_HEIGHT;
+import static it.unibo.javajump.utility.TestConstants.SCREEN_WIDTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The tick profiler test.
+ */
+class ProfilerTest {
+
+    /**
+     * Tests that the percentiles of the histogram are within the width of a bucket from the exact ones.
+     */
+    @Test
+    void testHistogramPercentiles() {
+        final StageHistogram histogram = new StageHistogramImpl();
+        for (long i = 1; i <= HISTOGRAM_SAMPLES; i++) {
+            histogram.record(i);
+        }
+        assertEquals(HISTOGRAM_SAMPLES, histogram.getCount(), "Every sample should be counted");
+        assertEquals(HISTOGRAM_SAMPLES, histogram.getMax(), "The max should be exact");
+        final long p50 = histogram.getValueAtPercentile(PROFILER_P50);
+        final long p99 = histogram.getValueAtPercentile(PROFILER_P99);
+        assertTrue(Math.abs(p50 - HISTOGRAM_SAMPLES * PROFILER_P50 / PERCENT) <= HISTOGRAM_SAMPLES * HISTOGRAM_MAX_ERROR,
+                "p50 should be close to half of the samples, but was " + p50);
+        assertTrue(Math.abs(p99 - HISTOGRAM_SAMPLES * PROFILER_P99 / PERCENT) <= HISTOGRAM_SAMPLES * HISTOGRAM_MAX_ERROR,
+                "p99 should be close to 99% of the samples, but was " + p99);
+        assertEquals(HISTOGRAM_SAMPLES, histogram.takeIntervalMax(), "The max of the interval should be exact");
+        histogram.record(1);
+        assertEquals(1, histogram.takeIntervalMax(), "A new interval should only see the durations recorded in it");
+        assertEquals(0, histogram.takeIntervalMax(), "An interval without durations should have no max");
+        histogram.reset();
+        assertEquals(0, histogram.getValueAtPercentile(PROFILER_P50), "A reset histogram should be empty");
+    }
+
+    /**
+     * Tests that an enabled profiler times every stage of a game step, and a disabled one does not record anything.
+     */
+    @Test
+    void testStagesTiming() {
+        final GameModel enabled = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT, new TickProfilerImpl(true));
+        final GameModel disabled = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT, new TickProfilerImpl(false));
+        for (final GameModel model : new GameModel[] {enabled, disabled}) {
+            model.startGame();
+            model.setState(new InGameState());
+            for (int i = 0; i < PROFILED_STEPS; i++) {
+                model.update(DELTA_TIME);
+            }
+        }
+        for (final ProfiledStage stage : ProfiledStage.values()) {
+            if (stage != ProfiledStage.RENDER && stage != ProfiledStage.PAINT) {
+                assertEquals(PROFILED_STEPS, enabled.getProfiler().getHistogram(stage).getCount(),
+                        stage + " should be timed once per step");
+            }
+            assertEquals(0, disabled.getProfiler().getHistogram(stage).getCount(),
+                    "A disabled profiler should not record " + stage);
+        }
+        assertTrue(enabled.getProfiler().report().contains(ProfiledStage.COLLISION.name()),
+                "The report should list the timed stages");
+    }
+}
@@ -0,0 +1,131 @@
+package it.unibo.javajump.model;
+
+import it.unibo.javajump.controller.input.GameAction;
+import it.unibo.javajump.model.level.spawn.difficulty.DifficultyState;
+import it.unibo.javajump.model.profiling.TickProfilerImpl;
+import it.unibo.javajump.model.random.RandomServiceImpl;
+import it.unibo.javajump.model.score.RunStats;
+import it.unibo.javajump.model.score.ScoreStore;
+import it.unibo.javajump.model.score.ScoreStoreImpl;
+import it.unibo.javajump.model.states.GameState;
+import it.unibo.javajump.model.states.gameover.GameOverState;
+import it.unibo.javajump.model.states.ingame.InGameState;
+import it.unibo.javajump.model.states.pause.PauseState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static it.unibo.javajump.utility.Constants.SCREEN_HEIGHT;
+import static it.unibo.javajump.utility.Constants.SCREEN_WIDTH;
+import static it.unibo.javajump.utility.TestConstants.DELTA_TIME;
+import static it.unibo.javajump.utility.TestConstants.OLD_STORED_SCORE;
+import static it.unibo.javajump.utility.TestConstants.STORED_COINS;
+import static it.unibo.javajump.utility.TestConstants.STORED_DURATION;
+import static it.unibo.javajump.utility.TestConstants.STORED_SCORE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The Score store test.
+ */
+class ScoreTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that the best score and the runs are found again when the store is opened again.
+     */
+    @Test
+    void testPersistence() {
+        final Path file = directory.resolve("scores.dat");
+        final ScoreStore store = ScoreStoreImpl.open(file);
+        store.setBestScore(STORED_SCORE);
+        store.recordRun(new RunStats(OLD_STORED_SCORE, STORED_COINS, STORED_DURATION, DifficultyState.HARD));
+        store.close();
+
+        final ScoreStore reopened = ScoreStoreImpl.open(file);
+        assertEquals(STORED_SCORE, reopened.getBestScore(), "The best score should be stored");
+        assertEquals(1, reopened.getRunCount(), "One run should be stored");
+        final RunStats run = reopened.getRun(0);
+        assertEquals(OLD_STORED_SCORE, run.getScore(), "The score of the run should be stored");
+        assertEquals(STORED_COINS, run.getCoins(), "The coins of the run should be stored");
+        assertEquals(STORED_DURATION, run.getDurationMillis(), "The duration of the run should be stored");
+        assertEquals(DifficultyState.HARD, run.getMaxDifficulty(), "The difficulty of the run should be stored");
+        assertNull(reopened.getRun(1), "There should be no older run");
+        reopened.close();
+    }
+
+    /**
+     * Tests that, if the last slot written is corrupted, the data of the other slot are loaded.
+     *
+     * @throws IOException if the file cannot be corrupted
+     */
+    @Test
+    void testCorruptedSlot() throws IOException {
+        final Path file = directory.resolve("scores.dat");
+        final ScoreStore store = ScoreStoreImpl.open(file);
+        store.setBestScore(OLD_STORED_SCORE);
+        store.setBestScore(STORED_SCORE);
+        store.close();
+
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        final ScoreStore reopened = ScoreStoreImpl.open(file);
+        assertEquals(OLD_STORED_SCORE, reopened.getBestScore(), "The previous best score should be loaded");
+        reopened.setBestScore(STORED_SCORE);
+        reopened.close();
+        assertEquals(STORED_SCORE, ScoreStoreImpl.open(file).getBestScore(), "The store should be writable again");
+    }
+
+    /**
+     * Tests that the run is recorded at the game over, and its best score loaded by the next model.
+     */
+    @Test
+    void testRunRecorded() {
+        final ScoreStore store = ScoreStoreImpl.inMemory();
+        final GameModel model = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT, new TickProfilerImpl(),
+                new RandomServiceImpl(), store);
+        model.startGame();
+        model.setState(new InGameState());
+        model.getScoreManager().addPoints(STORED_SCORE);
+        for (int i = 0; i < STORED_COINS; i++) {
+            model.getScoreManager().addCoin();
+        }
+        model.update(DELTA_TIME);
+        model.setState(new GameOverState());
+
+        assertEquals(1, store.getRunCount(), "The run should be recorded");
+        assertEquals(STORED_COINS, store.getRun(0).getCoins(), "The coins of the run should be recorded");
+        assertEquals(model.getScore(), store.getRun(0).getScore(), "The score of the run should be recorded");
+        assertEquals(STORED_SCORE, new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT, new TickProfilerImpl(),
+                new RandomServiceImpl(), store).getScoreManager().getBestScore(), "The best score should be loaded");
+    }
+
+    /**
+     * Tests that a run left from the pause menu is recorded too, and only once.
+     */
+    @Test
+    void testAbandonedRunRecorded() {
+        final ScoreStore store = ScoreStoreImpl.inMemory();
+        final GameModel model = new GameModelImpl(SCREEN_WIDTH, SCREEN_HEIGHT, new TickProfilerImpl(),
+                new RandomServiceImpl(), store);
+        model.startGame();
+        model.setState(new InGameState());
+        model.getScoreManager().addPoints(STORED_SCORE);
+        model.update(DELTA_TIME);
+        model.setState(new PauseState());
+        model.handleAction(GameAction.MOVE_MENU_DOWN);
+        model.handleAction(GameAction.CONFIRM_SELECTION);
+
+        assertEquals(GameState.MENU, model.getCurrentState().getGameState(), "The menu should be shown");
+        assertEquals(1, store.getRunCount(), "The abandoned run should be recorded");
+        assertEquals(model.getScore(), store.getRun(0).getScore(), "The score of the run should be recorded");
+        model.getScoreManager().endRun();
+        assertEquals(1, store.getRunCount(), "The run should not be recorded twice");
+    }
+}
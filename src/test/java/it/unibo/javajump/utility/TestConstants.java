@@ -74,6 +74,68 @@ public final class TestConstants {
      * The constant CAMERA_DECREASING_OFFSET.
      */
     public static final int CAMERA_DECREASING_OFFSET = 100;
+    /**
+     * The constant SIMULATION_TICKS.
+     */
+    public static final long SIMULATION_TICKS = 600;
+
+    /**
+     * The constant HISTOGRAM_SAMPLES: the number of durations recorded in the histogram test.
+     */
+    public static final long HISTOGRAM_SAMPLES = 10_000;
+    /**
+     * The constant HISTOGRAM_MAX_ERROR: the allowed error of the histogram percentiles, as a fraction of the max.
+     */
+    public static final double HISTOGRAM_MAX_ERROR = 0.0625;
+    /**
+     * The constant PERCENT.
+     */
+    public static final double PERCENT = 100;
+    /**
+     * The constant PROFILED_STEPS: the number of game steps timed in the profiler test.
+     */
+    public static final int PROFILED_STEPS = 10;
+    /**
+     * The constant RANDOM_SEED: the seed of the reproducible levels.
+     */
+    public static final long RANDOM_SEED = 42;
+    /**
+     * The constant REPLAY_RIGHT_TICK: the step the replayed session starts moving right.
+     */
+    public static final long REPLAY_RIGHT_TICK = 30;
+    /**
+     * The constant REPLAY_LEFT_TICK: the step the replayed session starts moving left.
+     */
+    public static final long REPLAY_LEFT_TICK = 120;
+    /**
+     * The constant STORED_SCORE: the best score stored in the score store tests.
+     */
+    public static final int STORED_SCORE = 1500;
+    /**
+     * The constant OLD_STORED_SCORE: the best score stored before STORED_SCORE in the score store tests.
+     */
+    public static final int OLD_STORED_SCORE = 700;
+    /**
+     * The constant STORED_COINS: the coins of the run stored in the score store tests.
+     */
+    public static final int STORED_COINS = 3;
+    /**
+     * The constant STORED_DURATION: the duration, in milliseconds, of the run stored in the score store tests.
+     */
+    public static final long STORED_DURATION = 42_000;
+    /**
+     * The constant MIXER_TEST_GAIN: the gain of the voice in the audio mixer tests.
+     */
+    public static final float MIXER_TEST_GAIN = 0.5f;
+    /**
+     * The constant STREAM_LOOP_START: the frame the loop of the streamed track starts from in the mixer tests.
+     */
+    public static final int STREAM_LOOP_START = 100;
+    /**
+     * The constant STREAM_LOOP_END: the loop end of the streamed track in the mixer tests, a fraction of its length
+     * that falls inside the first mixed block.
+     */
+    public static final float STREAM_LOOP_END = 0.02f;
 
     /**
      * Private constructor for Constant utility class.
@@ -0,0 +1,50 @@
+package it.unibo.javajump.view;
+
+import it.unibo.javajump.view.graphics.Texture;
+import it.unibo.javajump.view.graphics.TextureRegistry;
+import it.unibo.javajump.view.graphics.TextureRegistryImpl;
+import org.junit.jupiter.api.Test;
+
+import static it.unibo.javajump.utility.Constants.RESOURCES_GAMEOVER;
+import static it.unibo.javajump.utility.Constants.RESOURCES_TITLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The Texture registry test.
+ */
+class TextureRegistryTest {
+
+    /**
+     * Tests that the handles of an asset share its image, and that the texture is dropped when the last one
+     * is released.
+     */
+    @Test
+    void testRelease() {
+        final TextureRegistry registry = new TextureRegistryImpl(Runnable::run);
+        final Texture first = registry.acquire(RESOURCES_TITLE);
+        final Texture second = registry.acquire(RESOURCES_TITLE);
+        assertSame(first.getImage(), second.getImage(), "The handles should share the image");
+        assertEquals(1, registry.size(), "The title should be loaded once");
+
+        first.release();
+        first.release();
+        assertEquals(1, registry.size(), "The title should be held while a handle is not released");
+        second.release();
+        assertEquals(0, registry.size(), "The title should be dropped when the last handle is released");
+    }
+
+    /**
+     * Tests that a prefetched texture is held until one of its handles is acquired and released.
+     */
+    @Test
+    void testPrefetchRelease() {
+        final TextureRegistry registry = new TextureRegistryImpl(Runnable::run);
+        registry.prefetch(RESOURCES_GAMEOVER);
+        assertEquals(1, registry.size(), "The prefetched texture should be held");
+
+        final Texture gameover = registry.acquire(RESOURCES_GAMEOVER);
+        gameover.release();
+        assertEquals(0, registry.size(), "The prefetched texture should be dropped when its handle is released");
+    }
+}
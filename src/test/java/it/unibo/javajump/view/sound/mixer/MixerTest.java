@@ -0,0 +1,172 @@
+package it.unibo.javajump.view.sound.mixer;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static it.unibo.javajump.utility.Constants.MIXER_BLOCK_FRAMES;
+import static it.unibo.javajump.utility.Constants.MIXER_CHANNELS;
+import static it.unibo.javajump.utility.Constants.MIXER_SAMPLE_RATE;
+import static it.unibo.javajump.utility.Constants.RESOURCE_COIN_SFX;
+import static it.unibo.javajump.utility.Constants.RESOURCE_DEFAULT_SFX;
+import static it.unibo.javajump.utility.TestConstants.MIXER_TEST_GAIN;
+import static it.unibo.javajump.utility.TestConstants.STREAM_LOOP_END;
+import static it.unibo.javajump.utility.TestConstants.STREAM_LOOP_START;
+import static it.unibo.javajump.view.sound.mixer.VolumeUtils.toLinearGain;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Audio mixer test, which mixes the voices into blocks without an audio line.
+ */
+class MixerTest {
+
+    /**
+     * Tests that a voice adds its sound scaled by its gain, block after block, and is freed at the end of the sound.
+     *
+     * @throws IOException                   if the sound cannot be read
+     * @throws UnsupportedAudioFileException if the sound is not supported
+     */
+    @Test
+    void testVoiceFreedAtEnd() throws IOException, UnsupportedAudioFileException {
+        final PcmBuffer sound = decode(RESOURCE_DEFAULT_SFX);
+        final Voice voice = new Voice();
+        assertTrue(voice.start(sound, MIXER_TEST_GAIN), "A free voice should start the sound");
+        assertFalse(voice.start(sound, MIXER_TEST_GAIN), "A playing voice should not be claimed again");
+
+        final int[] block = new int[MIXER_BLOCK_FRAMES * MIXER_CHANNELS];
+        int position = 0;
+        while (sound.getFrameCount() - position > MIXER_BLOCK_FRAMES) {
+            voice.mixInto(block, MIXER_BLOCK_FRAMES, MIXER_CHANNELS);
+            assertTrue(voice.isPlaying(), "The voice should play until the end of the sound");
+            assertMixed(sound, position, block, MIXER_BLOCK_FRAMES);
+            position += MIXER_BLOCK_FRAMES;
+        }
+        final int last = sound.getFrameCount() - position;
+        voice.mixInto(block, MIXER_BLOCK_FRAMES, MIXER_CHANNELS);
+        assertFalse(voice.isPlaying(), "The voice should be freed at the end of the sound");
+        assertMixed(sound, position, block, last);
+        for (int i = last * MIXER_CHANNELS; i < block.length; i++) {
+            assertEquals(0, block[i], "Nothing should be added after the end of the sound");
+        }
+        assertTrue(voice.start(sound, MIXER_TEST_GAIN), "A freed voice should be claimed again");
+    }
+
+    /**
+     * Tests that a streamed track goes back to the loop start when it reaches the loop end.
+     *
+     * @throws IOException                   if the track cannot be read
+     * @throws UnsupportedAudioFileException if the track is not supported
+     */
+    @Test
+    void testStreamLoop() throws IOException, UnsupportedAudioFileException {
+        final PcmBuffer track = decode(RESOURCE_COIN_SFX);
+        final int loopEndFrame = (int) (track.getFrameCount() * STREAM_LOOP_END);
+        final StreamVoice stream = new StreamVoice(RESOURCE_COIN_SFX, STREAM_LOOP_START, STREAM_LOOP_END);
+        stream.setVolume(1);
+        stream.play();
+
+        final int[] block = new int[MIXER_BLOCK_FRAMES * MIXER_CHANNELS];
+        stream.mixInto(block, MIXER_BLOCK_FRAMES);
+        final float gain = toLinearGain(1);
+        for (int frame = 0; frame < MIXER_BLOCK_FRAMES; frame++) {
+            final int source = frame < loopEndFrame ? frame : STREAM_LOOP_START + frame - loopEndFrame;
+            for (int channel = 0; channel < MIXER_CHANNELS; channel++) {
+                assertEquals((int) (track.getSample(source * MIXER_CHANNELS + channel) * gain),
+                        block[frame * MIXER_CHANNELS + channel], "Frame " + frame + " should come from " + source);
+            }
+        }
+        assertTrue(stream.isPlaying(), "A looping track should keep playing");
+        stream.release();
+    }
+
+    /**
+     * Tests that a fade ramps the gain along the mixed block, then stops the track, which starts again from its
+     * first frame at the volume it had before the fade.
+     *
+     * @throws IOException                   if the track cannot be read
+     * @throws UnsupportedAudioFileException if the track is not supported
+     */
+    @Test
+    void testStreamFade() throws IOException, UnsupportedAudioFileException {
+        final PcmBuffer track = decode(RESOURCE_COIN_SFX);
+        final StreamVoice stream = new StreamVoice(RESOURCE_COIN_SFX, 0, 1);
+        stream.setVolume(1);
+        stream.play();
+        stream.fadeOut(MIXER_BLOCK_FRAMES / 2 / MIXER_SAMPLE_RATE);
+
+        final int[] block = new int[MIXER_BLOCK_FRAMES * MIXER_CHANNELS];
+        stream.mixInto(block, MIXER_BLOCK_FRAMES);
+        final float startGain = toLinearGain(1);
+        final float gainStep = (toLinearGain(0) - startGain) / MIXER_BLOCK_FRAMES;
+        for (int frame = 0; frame < MIXER_BLOCK_FRAMES; frame++) {
+            for (int channel = 0; channel < MIXER_CHANNELS; channel++) {
+                final int index = frame * MIXER_CHANNELS + channel;
+                assertEquals((int) (track.getSample(index) * (startGain + gainStep * frame)), block[index],
+                        "The gain should ramp along the block at frame " + frame);
+            }
+        }
+        assertFalse(stream.isPlaying(), "The track should stop at the end of the fade");
+
+        final int[] silent = new int[MIXER_BLOCK_FRAMES * MIXER_CHANNELS];
+        stream.mixInto(silent, MIXER_BLOCK_FRAMES);
+        for (final int sample : silent) {
+            assertEquals(0, sample, "A stopped track should not be mixed");
+        }
+
+        stream.play();
+        final int[] restarted = new int[MIXER_BLOCK_FRAMES * MIXER_CHANNELS];
+        stream.mixInto(restarted, MIXER_BLOCK_FRAMES);
+        assertMixed(track, 0, restarted, MIXER_BLOCK_FRAMES, startGain);
+        stream.release();
+    }
+
+    /**
+     * Checks that the first frames of a block are the frames of a sound scaled by MIXER_TEST_GAIN.
+     *
+     * @param sound  the sound
+     * @param start  the first frame of the sound
+     * @param block  the mixed block, which is cleared after the check
+     * @param frames the number of frames to check
+     */
+    private static void assertMixed(final PcmBuffer sound, final int start, final int[] block, final int frames) {
+        assertMixed(sound, start, block, frames, MIXER_TEST_GAIN);
+    }
+
+    /**
+     * Checks that the first frames of a block are the frames of a sound scaled by a gain.
+     *
+     * @param sound  the sound
+     * @param start  the first frame of the sound
+     * @param block  the mixed block, which is cleared after the check
+     * @param frames the number of frames to check
+     * @param gain   the gain of the sound
+     */
+    private static void assertMixed(final PcmBuffer sound, final int start, final int[] block, final int frames,
+                                    final float gain) {
+        for (int i = 0; i < frames * MIXER_CHANNELS; i++) {
+            assertEquals((int) (sound.getSample(start * MIXER_CHANNELS + i) * gain), block[i],
+                    "Sample " + i + " should be mixed with the gain of the voice");
+        }
+        Arrays.fill(block, 0);
+    }
+
+    /**
+     * Decodes a sound of the resources.
+     *
+     * @param path the resource path of the sound
+     * @return the decoded sound
+     * @throws IOException                   if the sound cannot be read
+     * @throws UnsupportedAudioFileException if the sound is not supported
+     */
+    private static PcmBuffer decode(final String path) throws IOException, UnsupportedAudioFileException {
+        final InputStream in = MixerTest.class.getResourceAsStream(path);
+        assertNotNull(in, "The resource should exist: " + path);
+        return PcmBuffer.decode(in);
+    }
+}